@@ -15,4 +15,15 @@ public interface FaceServiceClient {
             @RequestPart("file") MultipartFile file,
             @RequestPart("event_schedule_id") Long eventScheduleId
     );
+
+    /**
+     * 여러 회차를 한 번에 매칭합니다.
+     *
+     * @param eventScheduleIds 콤마로 구분된 회차 ID 목록
+     */
+    @PostMapping(value = "/api/v1/faces/match-multi", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    FaceApiResponse matchFaces(
+            @RequestPart("file") MultipartFile file,
+            @RequestPart("event_schedule_ids") String eventScheduleIds
+    );
 }
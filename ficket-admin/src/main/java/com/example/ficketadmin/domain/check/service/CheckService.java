@@ -21,6 +21,7 @@ import org.springframework.web.multipart.MultipartFile;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 import static com.example.ficketadmin.global.utils.CircuitBreakerUtils.executeWithCircuitBreaker;
 
@@ -50,40 +51,46 @@ public class CheckService {
                 "getEventScheduleIdList",
                 () -> eventServiceClient.getScheduledId(eventId));
         log.info("EVENT IDS FIND : " + eventScheduleIds.size());
-        for (Long eventScheduleId : eventScheduleIds) {
-            FaceApiResponse faceApiResponse = null;
-            try {
-                faceApiResponse = executeWithCircuitBreaker(circuitBreakerRegistry,
-                        "postMatchUserFaceImgCircuitBreaker",
-                        () -> faceServiceClient.matchFace(userFaceImage, eventScheduleId)
-                );
-            } catch (Exception e) {
-                log.info(e.toString());
-            }
-
-            if (faceApiResponse != null && faceApiResponse.getStatus() == 200) {
-                log.info("FOUND FACE SUCCESS");
-                ObjectMapper objectMapper = new ObjectMapper();
-                Map<String, Object> map = objectMapper.convertValue(faceApiResponse.getData(), Map.class);
-                Long ticketId = ((Number) map.get("ticket_id")).longValue();
-                TicketSimpleInfo ticketSimpleInfo = executeWithCircuitBreaker(circuitBreakerRegistry,
-                        "getSimpleTicketInfo",
-                        () -> eventServiceClient.getTicketSimpleInfo(ticketId));
-
-                // ticketId 로 userId 가져와야함
-                UserSimpleDto userInfo = executeWithCircuitBreaker(circuitBreakerRegistry,
-                        "getUserIdByTicketId",
-                        () -> ticketingServiceClient.getUserIdByTicketId(ticketId));
-
-                CheckDto message = CheckDto.builder()
-                        .data(faceApiResponse.getData())
-                        .name(userInfo.getUserName())
-                        .birth(userInfo.getBirth())
-                        .seatLoc(ticketSimpleInfo.getSeatLoc())
-                        .build();
-                sendMessage(eventId, connectId, message);
-                break;
-            }
+        if (eventScheduleIds.isEmpty()) {
+            return;
+        }
+
+        // 모든 회차를 한 번의 요청으로 매칭
+        String joinedEventScheduleIds = eventScheduleIds.stream()
+                .map(String::valueOf)
+                .collect(Collectors.joining(","));
+
+        FaceApiResponse faceApiResponse = null;
+        try {
+            faceApiResponse = executeWithCircuitBreaker(circuitBreakerRegistry,
+                    "postMatchUserFaceImgCircuitBreaker",
+                    () -> faceServiceClient.matchFaces(userFaceImage, joinedEventScheduleIds)
+            );
+        } catch (Exception e) {
+            log.info(e.toString());
+        }
+
+        if (faceApiResponse != null && faceApiResponse.getStatus() == 200) {
+            log.info("FOUND FACE SUCCESS");
+            ObjectMapper objectMapper = new ObjectMapper();
+            Map<String, Object> map = objectMapper.convertValue(faceApiResponse.getData(), Map.class);
+            Long ticketId = ((Number) map.get("ticket_id")).longValue();
+            TicketSimpleInfo ticketSimpleInfo = executeWithCircuitBreaker(circuitBreakerRegistry,
+                    "getSimpleTicketInfo",
+                    () -> eventServiceClient.getTicketSimpleInfo(ticketId));
+
+            // ticketId 로 userId 가져와야함
+            UserSimpleDto userInfo = executeWithCircuitBreaker(circuitBreakerRegistry,
+                    "getUserIdByTicketId",
+                    () -> ticketingServiceClient.getUserIdByTicketId(ticketId));
+
+            CheckDto message = CheckDto.builder()
+                    .data(faceApiResponse.getData())
+                    .name(userInfo.getUserName())
+                    .birth(userInfo.getBirth())
+                    .seatLoc(ticketSimpleInfo.getSeatLoc())
+                    .build();
+            sendMessage(eventId, connectId, message);
         }
     }
 
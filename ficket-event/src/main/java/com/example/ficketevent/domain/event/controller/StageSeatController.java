@@ -4,6 +4,7 @@ import com.example.ficketevent.domain.event.dto.common.*;
 import com.example.ficketevent.domain.event.dto.request.SelectSeat;
 import com.example.ficketevent.domain.event.dto.request.UnSelectSeat;
 import com.example.ficketevent.domain.event.dto.response.SeatCntByGrade;
+import com.example.ficketevent.domain.event.dto.response.SeatStatusChangesResponse;
 import com.example.ficketevent.domain.event.dto.response.SeatStatusResponse;
 import com.example.ficketevent.domain.event.dto.response.StageSeatResponse;
 import com.example.ficketevent.domain.event.service.PreoccupyService;
@@ -14,6 +15,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequiredArgsConstructor
@@ -64,6 +66,17 @@ public class StageSeatController {
         return ResponseEntity.ok(stageSeatService.getSeatStatusesByEventSchedule(eventScheduleId));
     }
 
+    /**
+     * 좌석 상태 변경분 조회
+     * <p>
+     * since 버전 이후 변경된 좌석만 반환하며, 변경 이력 범위를 벗어나면 전체 좌석을 반환 (full = true)
+     */
+    @GetMapping("/{eventScheduleId}/seats/changes")
+    public ResponseEntity<SeatStatusChangesResponse> getSeatStatusChanges(@PathVariable Long eventScheduleId,
+                                                                          @RequestParam(required = false) Long since) {
+        return ResponseEntity.ok(stageSeatService.getSeatStatusChanges(eventScheduleId, since));
+    }
+
     /**
      * 좌석 선점 API
      * <p>
@@ -73,8 +86,9 @@ public class StageSeatController {
      * - 2024-11-28 오형상: 초기 작성
      */
     @PostMapping("/seat/lock")
-    public ResponseEntity<Void> lockSeats(@RequestBody SelectSeat req, @RequestHeader("X-User-Id") String userId) {
-        preoccupyService.lockSeat(req, Long.parseLong(userId));
+    public ResponseEntity<Void> lockSeats(@RequestBody SelectSeat req, @RequestHeader("X-User-Id") String userId,
+                                          @RequestHeader(value = "X-Admission-Event-Id", required = false) String admissionEventId) {
+        preoccupyService.lockSeat(req, Long.parseLong(userId), admissionEventId);
         return ResponseEntity.ok().build();
     }
 
@@ -160,6 +174,14 @@ public class StageSeatController {
         return stageSeatService.getTicketSimpleInfo(ticketId);
     }
 
+    /**
+     * 여러 티켓의 이벤트정보, 좌석정보를 한 번에 반환하는 API
+     */
+    @PostMapping("/customer-ticket-infos")
+    public Map<Long, TicketSimpleInfo> getTicketSimpleInfos(@RequestBody List<Long> ticketIds) {
+        return stageSeatService.getTicketSimpleInfos(ticketIds);
+    }
+
     @GetMapping("/count-ticket/{ticketId}")
     public Long getBuyTicketCount(@PathVariable Long ticketId) {
         return stageSeatService.ticketSeatCount(ticketId);
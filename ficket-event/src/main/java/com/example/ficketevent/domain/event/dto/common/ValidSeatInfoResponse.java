@@ -14,6 +14,7 @@ import java.util.Set;
 @AllArgsConstructor
 @NoArgsConstructor
 public class ValidSeatInfoResponse {
+    private Long eventId; // 입장 토큰의 공연과 비교
     private Integer reservationLimit;
     private Set<SelectSeatInfo> selectSeatInfoList;
 }
@@ -0,0 +1,109 @@
+package com.example.ficketevent.domain.event.dto.response;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 이벤트 일정별 정적 좌석 배치
+ * <p>
+ * 좌석 매핑 ID 오름차순으로 정렬된 원시 배열로 보관하며, 배열 인덱스가 좌석 상태 비트맵의 순번이 됩니다.
+ * 등급명/가격은 등급 수만큼만 보관하고 좌석별로는 등급 인덱스만 저장합니다.
+ */
+public final class SeatLayout {
+
+    private final long[] seatMappingIds;
+    private final double[] seatX;
+    private final double[] seatY;
+    private final String[] seatRows;
+    private final String[] seatCols;
+    private final int[] gradeIndexes;
+    private final String[] grades;
+    private final BigDecimal[] gradePrices;
+
+    private SeatLayout(long[] seatMappingIds, double[] seatX, double[] seatY, String[] seatRows, String[] seatCols,
+                       int[] gradeIndexes, String[] grades, BigDecimal[] gradePrices) {
+        this.seatMappingIds = seatMappingIds;
+        this.seatX = seatX;
+        this.seatY = seatY;
+        this.seatRows = seatRows;
+        this.seatCols = seatCols;
+        this.gradeIndexes = gradeIndexes;
+        this.grades = grades;
+        this.gradePrices = gradePrices;
+    }
+
+    /**
+     * DB 좌석 정보로 좌석 배치를 생성합니다. (구매 여부는 사용하지 않음)
+     */
+    public static SeatLayout from(List<SeatInfo> seatInfos) {
+        List<SeatInfo> sorted = new ArrayList<>(seatInfos);
+        sorted.sort(Comparator.comparing(SeatInfo::getSeatMappingId));
+
+        int size = sorted.size();
+        long[] seatMappingIds = new long[size];
+        double[] seatX = new double[size];
+        double[] seatY = new double[size];
+        String[] seatRows = new String[size];
+        String[] seatCols = new String[size];
+        int[] gradeIndexes = new int[size];
+        Map<String, Integer> gradeIndexMap = new HashMap<>();
+        List<String> grades = new ArrayList<>();
+        List<BigDecimal> gradePrices = new ArrayList<>();
+
+        for (int i = 0; i < size; i++) {
+            SeatInfo seat = sorted.get(i);
+            seatMappingIds[i] = seat.getSeatMappingId();
+            seatX[i] = seat.getSeatX();
+            seatY[i] = seat.getSeatY();
+            seatRows[i] = seat.getSeatRow();
+            seatCols[i] = seat.getSeatCol();
+            gradeIndexes[i] = gradeIndexMap.computeIfAbsent(seat.getSeatGrade(), grade -> {
+                grades.add(grade);
+                gradePrices.add(seat.getSeatPrice());
+                return grades.size() - 1;
+            });
+        }
+
+        return new SeatLayout(seatMappingIds, seatX, seatY, seatRows, seatCols, gradeIndexes,
+                grades.toArray(String[]::new), gradePrices.toArray(BigDecimal[]::new));
+    }
+
+    /**
+     * 좌석 매핑 ID 의 순번을 조회합니다.
+     *
+     * @return 순번, 해당 일정의 좌석이 아니면 -1
+     */
+    public int ordinalOf(Long seatMappingId) {
+        int ordinal = Arrays.binarySearch(seatMappingIds, seatMappingId);
+        return ordinal < 0 ? -1 : ordinal;
+    }
+
+    public int getSeatCount() {
+        return seatMappingIds.length;
+    }
+
+    /**
+     * 순번의 좌석을 응답 DTO 로 변환합니다.
+     *
+     * @param ordinal 좌석 배치 내 순번
+     * @param status  좌석 상태
+     */
+    public SeatStatusResponse toSeatStatusResponse(int ordinal, String status) {
+        int gradeIndex = gradeIndexes[ordinal];
+        return SeatStatusResponse.builder()
+                .seatMappingId(seatMappingIds[ordinal])
+                .seatX(seatX[ordinal])
+                .seatY(seatY[ordinal])
+                .seatGrade(grades[gradeIndex])
+                .seatRow(seatRows[ordinal])
+                .seatCol(seatCols[ordinal])
+                .status(status)
+                .seatPrice(gradePrices[gradeIndex])
+                .build();
+    }
+}
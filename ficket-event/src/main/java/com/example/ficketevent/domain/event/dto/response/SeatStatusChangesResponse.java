@@ -0,0 +1,18 @@
+package com.example.ficketevent.domain.event.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SeatStatusChangesResponse {
+    private Long version; // 다음 요청 시 since 로 전달할 버전
+    private Boolean full; // true 면 seats 가 전체 좌석 목록
+    private List<SeatStatusResponse> seats;
+}
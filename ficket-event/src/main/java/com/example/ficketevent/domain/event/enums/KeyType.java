@@ -2,12 +2,21 @@ package com.example.ficketevent.domain.event.enums;
 
 public enum KeyType {
     // 좌석 선점
-    SEAT_STATE("ficket:seats:%d"),
-    USER_EVENT("ficket:user:%d:events"),
-    SEAT_LOCK("seatLock:%d:%d"),
+    // 좌석 상태 HASH (이전 Redisson RMapCache 인코딩 키 ficket:seats:{id} 와 충돌하지 않도록 별도 이름 사용, 이관은 LegacySeatLockMigration)
+    SEAT_STATE("ficket:seats:%d:state"),
+    SEAT_EXPIRY("ficket:seats:%d:expiry"),
+    USER_EVENT("ficket:user:%d:events:%d"),
+    SEAT_ORDINAL("ficket:seats:%d:ordinal"),
+    SEAT_STATE_BITMAP("ficket:seats:%d:bitmap"),
+    SEAT_VERSION("ficket:seats:%d:version"),
+    SEAT_CHANGE_LOG("ficket:seats:%d:changes"),
+    SEAT_ACTIVE_SCHEDULES("ficket:seats:active"),
+    SEAT_LAYOUT_INVALIDATION("ficket:seats:layout:invalidate"), // pub/sub 채널
 
     // 캐시
     EVENT_DETAIL_CACHE("ficket:event:detail:%d"),
+    EVENT_DETAIL_LEASE("ficket:event:detail:%d:lease"), // 캐시 재생성 리스
+    CACHE_INVALIDATION("ficket:cache:invalidate"), // 로컬 캐시 무효화 pub/sub 채널
 
     // 랭킹
     EVENT_VIEW_RANKING("ficket:event:ranking:view"),         // 조회 수 기준 랭킹
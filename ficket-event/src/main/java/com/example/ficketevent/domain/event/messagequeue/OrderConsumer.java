@@ -1,14 +1,24 @@
 package com.example.ficketevent.domain.event.messagequeue;
 
 import com.example.ficketevent.domain.event.dto.kafka.OrderDto;
+import com.example.ficketevent.domain.event.service.PurchasedSeatUpdates;
 import com.example.ficketevent.domain.event.service.StageSeatService;
+import com.example.ficketoutbox.entity.ProcessedEvent;
+import com.example.ficketoutbox.messagequeue.OutboxRelay;
+import com.example.ficketoutbox.repository.ProcessedEventRepository;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.Header;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.BatchListenerFailedException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
 
 
 @Service
@@ -17,20 +27,75 @@ import org.springframework.transaction.annotation.Transactional;
 public class OrderConsumer {
 
     private final StageSeatService stageSeatService;
+    private final ProcessedEventRepository processedEventRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 주문 생성 이벤트 일괄 수신
+     * - order-events 는 eventScheduleId 를 키로 발행되므로 같은 회차 주문은 한 파티션에서 순서대로 처리
+     * - 주문마다 트랜잭션을 분리하여 한 건의 실패가 앞서 처리한 주문을 롤백하지 않도록 처리
+     * - 실패한 레코드 인덱스를 BatchListenerFailedException 으로 알리면 앞 레코드 오프셋은 커밋되고,
+     *   실패 레코드부터 재시도 후 DLT(order-events.DLT)로 이동 (KafkaConsumerConfig)
+     * - 아웃박스 릴레이 재발행에 대비해 outbox-id 헤더로 이미 처리한 메시지는 건너뜀 (좌석 할당과 같은 트랜잭션에 기록)
+     * - 랭킹 / 좌석 상태 비트맵은 커밋된 주문만 모아 배치 끝에 반영
+     */
+    @KafkaListener(topics = "order-events", containerFactory = "orderBatchListenerContainerFactory")
+    public void createOrders(List<ConsumerRecord<String, String>> records) {
+
+        log.info("Kafka Messages: -> {} records", records.size());
+
+        PurchasedSeatUpdates updates = new PurchasedSeatUpdates();
+        try {
+            for (int index = 0; index < records.size(); index++) {
+                ConsumerRecord<String, String> record = records.get(index);
+                OrderDto orderEvent = parse(record, index);
+
+                try {
+                    transactionTemplate.executeWithoutResult(status -> handleRecord(record, orderEvent, updates));
+                } catch (RuntimeException e) {
+                    throw new BatchListenerFailedException("Failed to process OrderCreated event", e, index);
+                }
+            }
+        } finally {
+            applyCommittedUpdates(updates);
+        }
+    }
 
-    @Transactional
-    @KafkaListener(topics = "order-events")
-    public void createOrder(String kafkaMessage) {
+    private void handleRecord(ConsumerRecord<String, String> record, OrderDto orderEvent, PurchasedSeatUpdates updates) {
+        String messageId = messageIdOf(record);
+        if (messageId != null) {
+            if (processedEventRepository.existsById(messageId)) {
+                return; // 이미 처리한 메시지
+            }
+            processedEventRepository.save(new ProcessedEvent(messageId));
+        }
 
-        log.info("Kafka Message: -> " + kafkaMessage);
+        stageSeatService.handleOrderCreatedEvent(orderEvent, updates);
+    }
 
-        ObjectMapper mapper = new ObjectMapper();
+    // 역직렬화 실패는 재시도해도 같으므로 바로 DLT 로 이동 (KafkaConsumerConfig 에서 재시도 제외)
+    private OrderDto parse(ConsumerRecord<String, String> record, int index) {
         try {
-            OrderDto orderEvent = mapper.readValue(kafkaMessage, OrderDto.class);
-            stageSeatService.handleOrderCreatedEvent(orderEvent);
+            return objectMapper.readValue(record.value(), OrderDto.class);
         } catch (JsonProcessingException e) {
-            log.error("Failed to process OrderCreated event", e);
+            log.error("Failed to process OrderCreated event: {}", record.value(), e);
+            throw new BatchListenerFailedException("Malformed OrderCreated event", e, index);
+        }
+    }
+
+    // 이미 커밋된 주문의 Redis 반영 실패가 레코드 실패 처리를 가리지 않도록 예외를 기록만 함
+    private void applyCommittedUpdates(PurchasedSeatUpdates updates) {
+        try {
+            stageSeatService.applyPurchasedSeatUpdates(updates);
+        } catch (Exception e) {
+            log.error("Failed to apply committed OrderCreated events to Redis", e);
         }
     }
 
-}
\ No newline at end of file
+    private static String messageIdOf(ConsumerRecord<String, String> record) {
+        Header header = record.headers().lastHeader(OutboxRelay.OUTBOX_ID_HEADER);
+        return header == null ? null : new String(header.value(), StandardCharsets.UTF_8);
+    }
+
+}
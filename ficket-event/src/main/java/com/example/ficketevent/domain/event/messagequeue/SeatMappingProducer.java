@@ -1,25 +1,36 @@
 package com.example.ficketevent.domain.event.messagequeue;
 
 import com.example.ficketevent.domain.event.dto.kafka.SeatMappingUpdatedEvent;
+import com.example.ficketoutbox.entity.OutboxEvent;
+import com.example.ficketoutbox.repository.OutboxEventRepository;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class SeatMappingProducer {
 
-    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
 
+    /**
+     * 좌석 매핑 결과 이벤트를 아웃박스에 저장합니다. (좌석 할당과 같은 트랜잭션, 실제 발행은 OutboxRelay)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
     public void publishSeatMappingUpdatedEvent(SeatMappingUpdatedEvent event) {
         try {
-            ObjectMapper mapper = new ObjectMapper();
-            String message = mapper.writeValueAsString(event);
-            kafkaTemplate.send("seat-mapping-events", message);
+            String message = objectMapper.writeValueAsString(event);
+            outboxEventRepository.save(OutboxEvent.builder()
+                    .topic("seat-mapping-events")
+                    .messageKey(String.valueOf(event.getOrderId()))
+                    .payload(message)
+                    .build());
             log.info("Published SeatMappingUpdatedEvent: {}", message);
         } catch (JsonProcessingException e) {
             log.error("Failed to publish SeatMappingUpdatedEvent", e);
@@ -0,0 +1,234 @@
+package com.example.ficketevent.domain.event.repository;
+
+import com.example.ficketevent.global.config.redisson.SeatLuaScripts;
+import com.example.ficketevent.global.utils.RedisKeyHelper;
+import lombok.RequiredArgsConstructor;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.stereotype.Repository;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * 좌석 선점 상태 Redis Repository
+ * <p>
+ * 좌석 선점/해제는 Lua 스크립트 한 번으로 원자적으로 처리합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class SeatLockRedisRepository {
+
+    private static final String SEAT_FIELD_PREFIX = "seat_";
+
+    private final RedissonClient redissonClient;
+    private final SeatLuaScripts seatLuaScripts;
+
+    /**
+     * 요청 좌석 전체를 한 번에 선점합니다. (all-or-nothing)
+     *
+     * @param eventScheduleId 이벤트 일정 ID
+     * @param userId          사용자 ID
+     * @param seatInfos       좌석 매핑 ID → 좌석 정보 JSON
+     * @param seatOrdinals    좌석 매핑 ID → 좌석 배치 내 순번 (상태 비트맵 위치)
+     * @param ttlMillis       선점 유지 시간(ms)
+     * @return 선점 결과
+     */
+    public SeatLockResult lockSeats(Long eventScheduleId, Long userId, Map<Long, String> seatInfos,
+                                    Map<Long, Integer> seatOrdinals, long ttlMillis) {
+        List<Object> args = new ArrayList<>(seatInfos.size() * 3 + 3);
+        args.add(ttlMillis);
+        args.add(formatSeatIds(seatInfos.keySet()));
+        args.add(eventScheduleId);
+        seatInfos.forEach((seatMappingId, seatInfo) -> {
+            args.add(toSeatField(seatMappingId));
+            args.add(seatInfo);
+            args.add(seatOrdinals.get(seatMappingId));
+        });
+
+        List<Object> result = script().eval(
+                RScript.Mode.READ_WRITE,
+                seatLuaScripts.getLockSeatsScript(),
+                RScript.ReturnType.MULTI,
+                List.of(
+                        RedisKeyHelper.getSeatKey(eventScheduleId),
+                        RedisKeyHelper.getSeatExpiryKey(eventScheduleId),
+                        RedisKeyHelper.getSeatOrdinalKey(eventScheduleId),
+                        RedisKeyHelper.getSeatStateBitmapKey(eventScheduleId),
+                        RedisKeyHelper.getUserEventKey(userId, eventScheduleId),
+                        RedisKeyHelper.getSeatActiveSchedulesKey(),
+                        RedisKeyHelper.getSeatVersionKey(eventScheduleId),
+                        RedisKeyHelper.getSeatChangeLogKey(eventScheduleId)
+                ),
+                args.toArray()
+        );
+
+        long status = ((Number) result.get(0)).longValue();
+        if (status == 1L) {
+            return SeatLockResult.success();
+        }
+        if (status == -1L) {
+            return SeatLockResult.userAlreadyReserved();
+        }
+
+        List<Long> conflictSeatIds = result.subList(1, result.size()).stream()
+                .map(field -> toSeatMappingId(String.valueOf(field)))
+                .toList();
+        return SeatLockResult.conflict(conflictSeatIds);
+    }
+
+    /**
+     * 좌석 선점을 해제하고 사용자 선점 정보를 삭제합니다.
+     *
+     * @return 해제된 좌석 수
+     */
+    public long releaseSeats(Long eventScheduleId, Collection<Long> seatMappingIds, Long userId) {
+        Object[] seatFields = seatMappingIds.stream()
+                .map(SeatLockRedisRepository::toSeatField)
+                .toArray();
+
+        Long released = script().eval(
+                RScript.Mode.READ_WRITE,
+                seatLuaScripts.getReleaseSeatsScript(),
+                RScript.ReturnType.INTEGER,
+                List.of(
+                        RedisKeyHelper.getSeatKey(eventScheduleId),
+                        RedisKeyHelper.getSeatExpiryKey(eventScheduleId),
+                        RedisKeyHelper.getSeatOrdinalKey(eventScheduleId),
+                        RedisKeyHelper.getSeatStateBitmapKey(eventScheduleId),
+                        RedisKeyHelper.getUserEventKey(userId, eventScheduleId),
+                        RedisKeyHelper.getSeatVersionKey(eventScheduleId),
+                        RedisKeyHelper.getSeatChangeLogKey(eventScheduleId)
+                ),
+                seatFields
+        );
+        return released == null ? 0L : released;
+    }
+
+    /**
+     * 만료된 좌석 선점을 정리하고 상태 비트맵의 선점 비트를 해제합니다.
+     *
+     * @return 남은 선점 좌석 수
+     */
+    public long sweepExpiredSeats(Long eventScheduleId) {
+        Long remaining = script().eval(
+                RScript.Mode.READ_WRITE,
+                seatLuaScripts.getSweepExpiredSeatsScript(),
+                RScript.ReturnType.INTEGER,
+                List.of(
+                        RedisKeyHelper.getSeatKey(eventScheduleId),
+                        RedisKeyHelper.getSeatExpiryKey(eventScheduleId),
+                        RedisKeyHelper.getSeatOrdinalKey(eventScheduleId),
+                        RedisKeyHelper.getSeatStateBitmapKey(eventScheduleId),
+                        RedisKeyHelper.getSeatActiveSchedulesKey(),
+                        RedisKeyHelper.getSeatVersionKey(eventScheduleId),
+                        RedisKeyHelper.getSeatChangeLogKey(eventScheduleId)
+                ),
+                eventScheduleId
+        );
+        return remaining == null ? 0L : remaining;
+    }
+
+    /**
+     * 선점 좌석이 남아 있는 이벤트 일정 ID 목록을 조회합니다.
+     */
+    public Set<Long> findActiveScheduleIds() {
+        return redissonClient
+                .<String>getSet(RedisKeyHelper.getSeatActiveSchedulesKey(), StringCodec.INSTANCE)
+                .readAll()
+                .stream()
+                .map(Long::parseLong)
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     * 만료되지 않은 좌석 정보(JSON)를 조회합니다.
+     *
+     * @return 좌석 정보, 선점되지 않은 좌석이면 null
+     */
+    public String findSeatInfo(Long eventScheduleId, Long seatMappingId) {
+        return script().eval(
+                RScript.Mode.READ_ONLY,
+                seatLuaScripts.getFindSeatScript(),
+                RScript.ReturnType.VALUE,
+                List.of(
+                        RedisKeyHelper.getSeatKey(eventScheduleId),
+                        RedisKeyHelper.getSeatExpiryKey(eventScheduleId)
+                ),
+                toSeatField(seatMappingId)
+        );
+    }
+
+    /**
+     * 사용자가 해당 이벤트 일정에 선점한 좌석 ID 목록을 조회합니다.
+     */
+    public Set<Long> findReservedSeatIds(Long userId, Long eventScheduleId) {
+        String value = redissonClient
+                .<String>getBucket(RedisKeyHelper.getUserEventKey(userId, eventScheduleId), StringCodec.INSTANCE)
+                .get();
+
+        return parseSeatIds(value);
+    }
+
+    public boolean hasReservedSeats(Long userId, Long eventScheduleId) {
+        return redissonClient
+                .getBucket(RedisKeyHelper.getUserEventKey(userId, eventScheduleId), StringCodec.INSTANCE)
+                .isExists();
+    }
+
+    private RScript script() {
+        return redissonClient.getScript(StringCodec.INSTANCE);
+    }
+
+    private static String toSeatField(Long seatMappingId) {
+        return SEAT_FIELD_PREFIX + seatMappingId;
+    }
+
+    private static Long toSeatMappingId(String seatField) {
+        return Long.parseLong(seatField.substring(SEAT_FIELD_PREFIX.length()));
+    }
+
+    private static String formatSeatIds(Collection<Long> seatMappingIds) {
+        return seatMappingIds.stream()
+                .map(String::valueOf)
+                .collect(Collectors.joining(",", "[", "]"));
+    }
+
+    private static Set<Long> parseSeatIds(String seatData) {
+        if (seatData == null || seatData.isBlank() || seatData.equals("[]")) {
+            return Set.of();
+        }
+
+        return Arrays.stream(seatData.replace("[", "").replace("]", "").split(","))
+                .map(String::trim)
+                .filter(s -> !s.isEmpty())
+                .map(Long::parseLong)
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     * 다중 좌석 선점 결과
+     *
+     * @param userAlreadyReserved 사용자가 이미 좌석을 선점한 상태인지 여부
+     * @param conflictSeatIds     이미 다른 사용자가 선점한 좌석 ID 목록
+     */
+    public record SeatLockResult(boolean userAlreadyReserved, List<Long> conflictSeatIds) {
+
+        static SeatLockResult success() {
+            return new SeatLockResult(false, List.of());
+        }
+
+        static SeatLockResult userAlreadyReserved() {
+            return new SeatLockResult(true, List.of());
+        }
+
+        static SeatLockResult conflict(List<Long> conflictSeatIds) {
+            return new SeatLockResult(false, conflictSeatIds);
+        }
+
+        public boolean isSuccess() {
+            return !userAlreadyReserved && conflictSeatIds.isEmpty();
+        }
+    }
+}
@@ -11,6 +11,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -24,6 +25,10 @@ public interface SeatMappingRepository extends JpaRepository<SeatMapping, Long>
             "FROM SeatMapping sm WHERE sm.eventSchedule.eventScheduleId = :eventScheduleId")
     List<SeatInfo> findSeatInfoByEventScheduleId(@Param("eventScheduleId") Long eventScheduleId);
 
+    @Query("SELECT sm.seatMappingId FROM SeatMapping sm " +
+            "WHERE sm.eventSchedule.eventScheduleId = :eventScheduleId AND sm.ticketId IS NOT NULL")
+    List<Long> findPurchasedSeatMappingIds(@Param("eventScheduleId") Long eventScheduleId);
+
     @Query("SELECT new com.example.ficketevent.domain.event.dto.response.SeatCntByGrade(sp.partitionName, COUNT(sp.partitionName)) " +
             "FROM StagePartition sp " +
             "JOIN SeatMapping sm ON sp.partitionId = sm.stagePartition.partitionId " +
@@ -44,6 +49,14 @@ public interface SeatMappingRepository extends JpaRepository<SeatMapping, Long>
     @Query("UPDATE SeatMapping sm SET sm.ticketId = NULL WHERE sm.ticketId = :ticketId")
     void openSeat(@Param("ticketId") Long ticketId);
 
+    @Modifying
+    @Query("UPDATE SeatMapping sm SET sm.ticketId = :ticketId WHERE sm.seatMappingId IN :seatMappingIds AND sm.ticketId IS NULL")
+    int assignTicket(@Param("ticketId") Long ticketId, @Param("seatMappingIds") Collection<Long> seatMappingIds);
+
+    @Modifying
+    @Query("UPDATE SeatMapping sm SET sm.ticketId = NULL WHERE sm.ticketId = :ticketId AND sm.seatMappingId IN :seatMappingIds")
+    int unassignTicket(@Param("ticketId") Long ticketId, @Param("seatMappingIds") Collection<Long> seatMappingIds);
+
     @Query("SELECT COUNT(sm.ticketId) FROM SeatMapping sm WHERE sm.ticketId in :ticketIds")
     int countPurchasedSeatsByTicketId(@Param("ticketIds") List<Long> ticketIds);
 
@@ -55,4 +68,12 @@ public interface SeatMappingRepository extends JpaRepository<SeatMapping, Long>
 
     List<SeatMapping> findAllByTicketId(Long ticketId);
 
+    @Query("SELECT sm FROM SeatMapping sm " +
+            "JOIN FETCH sm.stageSeat " +
+            "JOIN FETCH sm.eventSchedule es " +
+            "JOIN FETCH es.event e " +
+            "JOIN FETCH e.eventStage " +
+            "WHERE sm.ticketId IN :ticketIds")
+    List<SeatMapping> findAllWithEventByTicketIds(@Param("ticketIds") Collection<Long> ticketIds);
+
 }
\ No newline at end of file
@@ -0,0 +1,185 @@
+package com.example.ficketevent.domain.event.repository;
+
+import com.example.ficketevent.global.config.redisson.RedisTTLConstants;
+import com.example.ficketevent.global.config.redisson.SeatLuaScripts;
+import com.example.ficketevent.global.utils.RedisKeyHelper;
+import lombok.RequiredArgsConstructor;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.ByteArrayCodec;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.stereotype.Repository;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * 좌석 상태 비트맵 Redis Repository
+ * <p>
+ * 좌석 배치 순번마다 2비트를 사용합니다. ([2 * 순번] = 선점, [2 * 순번 + 1] = 구매)
+ * 선점 비트는 선점/해제 Lua 스크립트가, 구매 비트는 주문/환불 처리 시 갱신합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class SeatStateRedisRepository {
+
+    private final RedissonClient redissonClient;
+    private final SeatLuaScripts seatLuaScripts;
+
+    /**
+     * 좌석 상태 비트맵을 조회합니다.
+     *
+     * @return 비트맵, 아직 초기화되지 않았으면 null
+     */
+    public byte[] findSeatStates(Long eventScheduleId) {
+        return redissonClient
+                .<byte[]>getBucket(RedisKeyHelper.getSeatStateBitmapKey(eventScheduleId), ByteArrayCodec.INSTANCE)
+                .get();
+    }
+
+    /**
+     * 비트맵이 없을 때만 DB 기준 구매 비트맵으로 초기화하고, 현재 유효한 선점 비트를 반영합니다.
+     *
+     * @param purchasedBitmap DB 기준 구매 비트맵
+     * @return 좌석 상태 비트맵
+     */
+    public byte[] initSeatStates(Long eventScheduleId, byte[] purchasedBitmap) {
+        long ttlMillis = RedisTTLConstants.SEAT_LOCK_TIME_UNIT.toMillis(RedisTTLConstants.SEAT_STATE_BITMAP_TTL);
+
+        return redissonClient.getScript(ByteArrayCodec.INSTANCE).eval(
+                RScript.Mode.READ_WRITE,
+                seatLuaScripts.getInitSeatStateBitmapScript(),
+                RScript.ReturnType.VALUE,
+                List.of(
+                        RedisKeyHelper.getSeatStateBitmapKey(eventScheduleId),
+                        RedisKeyHelper.getSeatExpiryKey(eventScheduleId),
+                        RedisKeyHelper.getSeatOrdinalKey(eventScheduleId)
+                ),
+                purchasedBitmap,
+                String.valueOf(ttlMillis).getBytes(StandardCharsets.UTF_8)
+        );
+    }
+
+    /**
+     * 구매(또는 환불) 좌석의 구매 비트를 갱신합니다.
+     *
+     * @param ordinals  좌석 배치 내 순번 목록
+     * @param purchased true = 구매, false = 환불
+     */
+    public void updatePurchased(Long eventScheduleId, Collection<Integer> ordinals, boolean purchased) {
+        if (ordinals.isEmpty()) {
+            return;
+        }
+
+        List<Object> args = new ArrayList<>(ordinals.size() + 1);
+        args.add(purchased ? 1 : 0);
+        args.addAll(ordinals);
+
+        redissonClient.getScript(StringCodec.INSTANCE).eval(
+                RScript.Mode.READ_WRITE,
+                seatLuaScripts.getUpdatePurchasedBitsScript(),
+                RScript.ReturnType.INTEGER,
+                List.of(
+                        RedisKeyHelper.getSeatStateBitmapKey(eventScheduleId),
+                        RedisKeyHelper.getSeatVersionKey(eventScheduleId),
+                        RedisKeyHelper.getSeatChangeLogKey(eventScheduleId)
+                ),
+                args.toArray()
+        );
+    }
+
+    /**
+     * 클라이언트가 가진 버전 이후 변경된 좌석 순번과 현재 비트맵을 함께 조회합니다.
+     *
+     * @param since 클라이언트가 가진 버전 (없으면 -1)
+     * @return 변경 조회 결과 (비트맵이 초기화되지 않았으면 states 가 null)
+     */
+    public SeatStateChanges findSeatChanges(Long eventScheduleId, long since) {
+        List<Object> result = redissonClient.getScript(ByteArrayCodec.INSTANCE).eval(
+                RScript.Mode.READ_ONLY,
+                seatLuaScripts.getFindSeatChangesScript(),
+                RScript.ReturnType.MULTI,
+                List.of(
+                        RedisKeyHelper.getSeatStateBitmapKey(eventScheduleId),
+                        RedisKeyHelper.getSeatVersionKey(eventScheduleId),
+                        RedisKeyHelper.getSeatChangeLogKey(eventScheduleId)
+                ),
+                String.valueOf(since).getBytes(StandardCharsets.UTF_8)
+        );
+
+        long version = ((Number) result.get(0)).longValue();
+        boolean full = ((Number) result.get(1)).longValue() == 1L;
+        if (result.size() < 3) {
+            return new SeatStateChanges(version, true, null, List.of());
+        }
+
+        List<Integer> changedOrdinals = result.subList(3, result.size()).stream()
+                .map(ordinal -> ((Number) ordinal).intValue())
+                .distinct()
+                .toList();
+
+        return new SeatStateChanges(version, full, (byte[]) result.get(2), changedOrdinals);
+    }
+
+    /**
+     * 좌석 배치 변경 시 비트맵과 변경 이력을 삭제합니다. (다음 조회 시 새 순번 기준으로 재생성)
+     */
+    public void deleteSeatStates(Collection<Long> eventScheduleIds) {
+        String[] keys = eventScheduleIds.stream()
+                .flatMap(eventScheduleId -> Stream.of(
+                        RedisKeyHelper.getSeatStateBitmapKey(eventScheduleId),
+                        RedisKeyHelper.getSeatVersionKey(eventScheduleId),
+                        RedisKeyHelper.getSeatChangeLogKey(eventScheduleId)))
+                .toArray(String[]::new);
+
+        if (keys.length > 0) {
+            redissonClient.getKeys().delete(keys);
+        }
+    }
+
+    public static boolean isLocked(byte[] states, int ordinal) {
+        return isSet(states, ordinal * 2);
+    }
+
+    public static boolean isPurchased(byte[] states, int ordinal) {
+        return isSet(states, ordinal * 2 + 1);
+    }
+
+    /**
+     * 구매 비트만 설정된 비트맵을 생성합니다.
+     *
+     * @param seatCount         좌석 수
+     * @param purchasedOrdinals 구매된 좌석 순번 목록
+     */
+    public static byte[] toPurchasedBitmap(int seatCount, Collection<Integer> purchasedOrdinals) {
+        byte[] bitmap = new byte[(seatCount * 2 + 7) / 8];
+        for (int ordinal : purchasedOrdinals) {
+            int offset = ordinal * 2 + 1;
+            bitmap[offset >> 3] |= (byte) (0x80 >>> (offset & 7));
+        }
+        return bitmap;
+    }
+
+    // SETBIT 오프셋 0 은 첫 바이트의 최상위 비트
+    private static boolean isSet(byte[] states, int offset) {
+        int index = offset >> 3;
+        if (states == null || index >= states.length) {
+            return false;
+        }
+        return (states[index] & (0x80 >>> (offset & 7))) != 0;
+    }
+
+    /**
+     * 좌석 변경 조회 결과
+     *
+     * @param version         현재 버전
+     * @param full            전체 조회가 필요한지 여부 (요청 버전이 이력 범위를 벗어남)
+     * @param states          좌석 상태 비트맵
+     * @param changedOrdinals 요청 버전 이후 변경된 좌석 순번 (full 이면 비어 있음)
+     */
+    public record SeatStateChanges(long version, boolean full, byte[] states, List<Integer> changedOrdinals) {
+    }
+}
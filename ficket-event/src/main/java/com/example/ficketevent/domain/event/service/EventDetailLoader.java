@@ -0,0 +1,254 @@
+package com.example.ficketevent.domain.event.service;
+
+import com.example.ficketevent.domain.event.dto.response.EventDetailRes;
+import com.example.ficketevent.domain.event.entity.Event;
+import com.example.ficketevent.domain.event.repository.EventRepository;
+import com.example.ficketevent.global.config.cache.CacheInvalidationBus;
+import com.example.ficketevent.global.result.error.ErrorCode;
+import com.example.ficketevent.global.result.error.exception.BusinessException;
+import com.example.ficketevent.global.utils.RedisKeyHelper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 이벤트 상세(EventDetailRes) 캐시 로더.
+ * <p>
+ * 캐시 만료 시 동시 요청이 모두 DB 를 조회하지 않도록 키 단위로 재생성을 한 번만 수행합니다.
+ * - 인스턴스 내: 같은 키의 재생성은 하나의 요청만 수행하고 나머지는 결과를 공유
+ * - 인스턴스 간: Redis 리스(SET NX PX)를 획득한 인스턴스만 재생성하고, 나머지는 캐시가 채워지길 잠시 대기
+ * - 만료 직전: 남은 TTL 과 재생성 시간으로 확률적 조기 갱신(XFetch)하여 만료 자체가 드물게 발생
+ * 인기 이벤트 조회는 Redis 앞단의 짧은 TTL 로컬 캐시에서 응답하며, 캐시 삭제 시 다른 인스턴스의 로컬 캐시도 무효화합니다.
+ * 캐시 적중 / 대기 경로는 DB 커넥션을 잡지 않도록 재생성의 DB 조회만 읽기 전용 트랜잭션으로 실행합니다.
+ */
+@Slf4j
+@Service
+public class EventDetailLoader {
+
+    private static final Duration CACHE_TTL = Duration.ofHours(24);
+    private static final Duration LEASE_TTL = Duration.ofSeconds(3);
+    private static final long LEASE_WAIT_INTERVAL_MILLIS = 50L;
+    private static final int LEASE_WAIT_RETRIES = 20;
+    private static final double EARLY_REFRESH_BETA = 1.0;
+    private static final String LOCAL_CACHE_NAME = "eventDetail";
+
+    // 획득한 토큰과 같을 때만 리스 삭제 (재생성이 LEASE_TTL 을 넘겨 다른 인스턴스가 새로 획득한 리스는 유지)
+    private static final RedisScript<Long> RELEASE_LEASE_SCRIPT = RedisScript.of("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final EventRepository eventRepository;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final Cache<Long, EventDetailRes> localCache;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+
+    private final ConcurrentHashMap<Long, CompletableFuture<EventDetailRes>> inFlight = new ConcurrentHashMap<>();
+    private final AtomicLong rebuildMillis = new AtomicLong(100L); // 재생성 소요 시간 이동 평균
+
+    public EventDetailLoader(EventRepository eventRepository,
+                             @Qualifier("redisTemplate") RedisTemplate<String, Object> redisTemplate,
+                             CacheInvalidationBus cacheInvalidationBus,
+                             MeterRegistry meterRegistry,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${cache.local.max-size:10000}") long localMaxSize,
+                             @Value("${cache.local.expire-seconds:60}") long localExpireSeconds) {
+        this.eventRepository = eventRepository;
+        this.redisTemplate = redisTemplate;
+        this.cacheInvalidationBus = cacheInvalidationBus;
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfterWrite(Duration.ofSeconds(localExpireSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, localCache, LOCAL_CACHE_NAME, "level", "l1");
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+    }
+
+    @PostConstruct
+    void subscribeInvalidation() {
+        cacheInvalidationBus.register(LOCAL_CACHE_NAME, key -> {
+            if (key == null) {
+                localCache.invalidateAll();
+            } else {
+                localCache.invalidate(Long.valueOf(key));
+            }
+        });
+    }
+
+    /**
+     * 캐시에서 이벤트 상세를 조회하고, 없거나 조기 갱신 대상이면 재생성합니다.
+     *
+     * @param eventId 이벤트 ID
+     * @return 이벤트 상세
+     */
+    public EventDetailRes load(Long eventId) {
+        EventDetailRes local = localCache.getIfPresent(eventId);
+        if (local != null) {
+            return local;
+        }
+
+        EventDetailRes eventDetailRes = loadFromRedisOrDB(eventId);
+        localCache.put(eventId, eventDetailRes);
+        return eventDetailRes;
+    }
+
+    /**
+     * Redis 와 모든 인스턴스의 로컬 캐시에서 이벤트 상세를 삭제합니다.
+     */
+    public void evict(Long eventId) {
+        redisTemplate.delete(RedisKeyHelper.getEventDetailCacheKey(eventId));
+        localCache.invalidate(eventId);
+        cacheInvalidationBus.publish(LOCAL_CACHE_NAME, String.valueOf(eventId));
+    }
+
+    private EventDetailRes loadFromRedisOrDB(Long eventId) {
+        String cacheKey = RedisKeyHelper.getEventDetailCacheKey(eventId);
+
+        // GET + PTTL 을 한 번의 왕복으로 조회
+        List<Object> results = redisTemplate.executePipelined(new SessionCallback<>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                RedisOperations<String, Object> ops = (RedisOperations<String, Object>) operations;
+                ops.opsForValue().get(cacheKey);
+                ops.getExpire(cacheKey, TimeUnit.MILLISECONDS);
+                return null;
+            }
+        });
+
+        EventDetailRes cached = (EventDetailRes) results.get(0);
+        Long ttlMillis = (Long) results.get(1);
+
+        if (cached != null && !shouldRefreshEarly(ttlMillis)) {
+            return cached;
+        }
+        return loadSingleFlight(eventId, cached);
+    }
+
+    // XFetch: -ln(U) * 재생성 시간 * beta 가 남은 TTL 이상이면 조기 갱신
+    private boolean shouldRefreshEarly(Long ttlMillis) {
+        if (ttlMillis == null || ttlMillis < 0) {
+            return false;
+        }
+        double gap = rebuildMillis.get() * EARLY_REFRESH_BETA * -Math.log(ThreadLocalRandom.current().nextDouble());
+        return gap >= ttlMillis;
+    }
+
+    /**
+     * @param stale 조기 갱신 시 기존 캐시 값 (재생성 중인 다른 요청은 이 값을 그대로 사용)
+     */
+    private EventDetailRes loadSingleFlight(Long eventId, EventDetailRes stale) {
+        CompletableFuture<EventDetailRes> flight = new CompletableFuture<>();
+        CompletableFuture<EventDetailRes> existing = inFlight.putIfAbsent(eventId, flight);
+
+        if (existing != null) {
+            return stale != null ? stale : await(existing);
+        }
+
+        try {
+            EventDetailRes loaded = rebuildWithLease(eventId, stale);
+            flight.complete(loaded);
+            return loaded;
+        } catch (RuntimeException e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(eventId, flight);
+        }
+    }
+
+    private EventDetailRes rebuildWithLease(Long eventId, EventDetailRes stale) {
+        String leaseKey = RedisKeyHelper.getEventDetailLeaseKey(eventId);
+        String leaseToken = UUID.randomUUID().toString();
+        Boolean acquired = redisTemplate.opsForValue().setIfAbsent(leaseKey, leaseToken, LEASE_TTL);
+
+        if (Boolean.TRUE.equals(acquired)) {
+            try {
+                return rebuild(eventId);
+            } finally {
+                redisTemplate.execute(RELEASE_LEASE_SCRIPT, List.of(leaseKey), leaseToken);
+            }
+        }
+
+        // 다른 인스턴스가 재생성 중
+        if (stale != null) {
+            return stale;
+        }
+
+        String cacheKey = RedisKeyHelper.getEventDetailCacheKey(eventId);
+        for (int i = 0; i < LEASE_WAIT_RETRIES; i++) {
+            sleep();
+            EventDetailRes cached = (EventDetailRes) redisTemplate.opsForValue().get(cacheKey);
+            if (cached != null) {
+                return cached;
+            }
+        }
+
+        log.warn("이벤트 상세 캐시 재생성 대기 시간 초과. 직접 조회합니다. EventId: {}", eventId);
+        return rebuild(eventId);
+    }
+
+    private EventDetailRes rebuild(Long eventId) {
+        long start = System.nanoTime();
+
+        // 지연 로딩 연관관계까지 트랜잭션 안에서 응답으로 변환하고, Redis 저장은 트랜잭션 밖에서 수행
+        EventDetailRes eventDetailRes = readOnlyTransactionTemplate.execute(status -> {
+            Event event = eventRepository.findById(eventId)
+                    .orElseThrow(() -> new BusinessException(ErrorCode.EVENT_NOT_FOUND));
+            return EventDetailRes.toEventDetailRes(event, "TEST");
+        });
+        redisTemplate.opsForValue().set(RedisKeyHelper.getEventDetailCacheKey(eventId), eventDetailRes, CACHE_TTL);
+
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        rebuildMillis.accumulateAndGet(elapsedMillis, (prev, current) -> (prev * 7 + current) / 8);
+        return eventDetailRes;
+    }
+
+    private static EventDetailRes await(CompletableFuture<EventDetailRes> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static void sleep() {
+        try {
+            Thread.sleep(LEASE_WAIT_INTERVAL_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+}
@@ -65,6 +65,10 @@ public class EventService {
     private final AwsS3Service awsS3Service;
     private final CircuitBreakerRegistry circuitBreakerRegistry;
     private final SeatMappingRepository seatMappingRepository;
+    private final SeatStateRedisRepository seatStateRedisRepository;
+    private final SeatLayoutService seatLayoutService;
+    private final EventDetailLoader eventDetailLoader;
+    private final ViewCountBuffer viewCountBuffer;
     @Qualifier("redisTemplate") // 캐시용 RedisTemplate
     private final RedisTemplate<String, Object> redisTemplate;
     @Qualifier("rankingRedisTemplate") // 랭킹용 RedisTemplate
@@ -232,6 +236,7 @@ public class EventService {
         // 4. 스케줄 및 좌석 매핑, 좌석 구분 업데이트 (티케팅 시작 후에는 수정 불가)
         if (findEvent.getTicketingTime().isAfter(LocalDateTime.now())) {
             updateEventScheduleAndSeatMappingAndPartition(req, findEvent);
+            resetSeatLayouts(findEvent);
         }
 
         // 5. 이미지 업데이트
@@ -479,6 +484,7 @@ public class EventService {
 
         // 수동 캐시 삭제 처리
         deleteCache(eventId);
+        resetSeatLayouts(findEvent);
 
         // 이벤트 삭제
         eventRepository.delete(findEvent);
@@ -487,14 +493,27 @@ public class EventService {
         partialIndexingProducer.sendIndexingMessage(String.valueOf(eventId), OperationType.DELETE);
     }
 
+    /**
+     * 좌석 배치가 바뀐 이벤트 일정의 좌석 배치 캐시와 좌석 상태 비트맵을 삭제합니다.
+     *
+     * @param event 대상 이벤트
+     */
+    private void resetSeatLayouts(Event event) {
+        List<Long> eventScheduleIds = event.getEventSchedules().stream()
+                .map(EventSchedule::getEventScheduleId)
+                .filter(Objects::nonNull)
+                .toList();
+        seatLayoutService.invalidate(eventScheduleIds);
+        seatStateRedisRepository.deleteSeatStates(eventScheduleIds);
+    }
+
     /**
      * Redis의 캐시 데이터에서 특정 이벤트를 제거합니다.
      *
      * @param eventId 삭제할 이벤트 ID.
      */
     private void deleteCache(Long eventId) {
-        String detailCacheKey = RedisKeyHelper.getEventDetailCacheKey(eventId);
-        redisTemplate.delete(detailCacheKey);
+        eventDetailLoader.evict(eventId);
     }
 
     /**
@@ -593,31 +612,13 @@ public class EventService {
      * 이벤트 상세 조회 및 조회수 증가
      */
     public EventDetailRes getEventDetail(HttpServletRequest request, HttpServletResponse response, Long eventId) {
-        // 1. 캐시 키 생성
-        String cacheKey = RedisKeyHelper.getEventDetailCacheKey(eventId);
-
-        // 2. 캐시에서 데이터 확인
-        EventDetailRes cachedEvent = (EventDetailRes) redisTemplate.opsForValue().get(cacheKey);
-
-        // 3. 쿠키를 통해 중복 조회 확인
+        // 1. 쿠키를 통해 중복 조회 확인
         if (!isDuplicateView(request, response, eventId)) {
             incrementViewCount(eventId); // 조회수 증가
         }
 
-        // 4. 캐시가 존재하면 반환
-        if (cachedEvent != null) {
-            return cachedEvent;
-        }
-
-        // 5. 캐시가 없으면 DB 조회
-        Event event = eventRepository.findById(eventId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.EVENT_NOT_FOUND));
-
-        // 6. 변환 및 캐시에 저장 
-        EventDetailRes eventDetailRes = EventDetailRes.toEventDetailRes(event, "TEST");
-        redisTemplate.opsForValue().set(cacheKey, eventDetailRes, Duration.ofHours(24)); // 24시간 TTL
-
-        return eventDetailRes;
+        // 2. 캐시 조회, 없으면 키 단위로 한 번만 DB 조회 후 캐시에 저장 (24시간 TTL)
+        return eventDetailLoader.load(eventId);
     }
 
     /**
@@ -655,8 +656,7 @@ public class EventService {
      * 조회수 증가
      */
     private void incrementViewCount(Long eventId) {
-        String rankingKey = RedisKeyHelper.getViewRankingKey(); // 랭킹 키 생성
-        rankingRedisTemplate.opsForZSet().incrementScore(rankingKey, String.valueOf(eventId), 1);
+        viewCountBuffer.increment(eventId); // 주기적으로 랭킹 Redis 에 일괄 반영
     }
 
     /**
@@ -687,21 +687,7 @@ public class EventService {
                 .toList();
 
         return eventIds.stream()
-                .map(eventId -> {
-                    String cacheKey = RedisKeyHelper.getEventDetailCacheKey(eventId);
-                    EventDetailRes cachedEvent = (EventDetailRes) redisTemplate.opsForValue().get(cacheKey);
-
-                    if (cachedEvent == null) {
-                        Event event = eventRepository.findById(eventId)
-                                .orElseThrow(() -> new BusinessException(ErrorCode.EVENT_NOT_FOUND));
-
-                        EventDetailRes eventDetailRes = EventDetailRes.toEventDetailRes(event, "TEST");
-                        redisTemplate.opsForValue().set(cacheKey, eventDetailRes, Duration.ofHours(24)); // 24시간 TTL
-                        return ViewRankResponse.toViewRankResponse(eventId, eventDetailRes);
-                    }
-
-                    return ViewRankResponse.toViewRankResponse(eventId, cachedEvent);
-                })
+                .map(eventId -> ViewRankResponse.toViewRankResponse(eventId, eventDetailLoader.load(eventId)))
                 .filter(Objects::nonNull) // null 제거
                 .toList();
     }
@@ -795,18 +781,7 @@ public class EventService {
      * @return 이벤트 세부 정보 (EventDetailRes).
      */
     private EventDetailRes getEventDetailFromCacheOrDB(Long eventId) {
-        String cacheKey = RedisKeyHelper.getEventDetailCacheKey(eventId);
-        EventDetailRes cachedEvent = (EventDetailRes) redisTemplate.opsForValue().get(cacheKey);
-
-        if (cachedEvent == null) {
-            Event event = eventRepository.findById(eventId)
-                    .orElseThrow(() -> new BusinessException(ErrorCode.EVENT_NOT_FOUND));
-
-            EventDetailRes eventDetailRes = EventDetailRes.toEventDetailRes(event, "TEST");
-            redisTemplate.opsForValue().set(cacheKey, eventDetailRes, Duration.ofHours(24));
-            return eventDetailRes;
-        }
-        return cachedEvent;
+        return eventDetailLoader.load(eventId);
     }
 
     /**
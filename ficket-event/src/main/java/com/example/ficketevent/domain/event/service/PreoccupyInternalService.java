@@ -1,109 +1,73 @@
 package com.example.ficketevent.domain.event.service;
 
-import com.example.ficketevent.global.config.redisson.DistributedLock;
+import com.example.ficketevent.domain.event.dto.request.SelectSeatInfo;
+import com.example.ficketevent.domain.event.dto.response.SeatLayout;
+import com.example.ficketevent.domain.event.repository.SeatLockRedisRepository;
+import com.example.ficketevent.domain.event.repository.SeatLockRedisRepository.SeatLockResult;
 import com.example.ficketevent.global.config.redisson.RedisTTLConstants;
-import com.example.ficketevent.global.utils.RedisKeyHelper;
+import com.example.ficketevent.global.result.error.ErrorCode;
+import com.example.ficketevent.global.result.error.exception.BusinessException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.redisson.api.RMapCache;
-import org.redisson.api.RedissonClient;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class PreoccupyInternalService {
 
-    private final RedissonClient redissonClient;
+    private final SeatLockRedisRepository seatLockRedisRepository;
+    private final SeatLayoutService seatLayoutService;
 
     /**
-     * 좌석에 대한 분산 락을 획득하고 선점 처리를 수행합니다.
-     *
-     * @param lockName        Redis에서 사용할 고유 락 키.
-     * @param userId          좌석을 선점하는 사용자 ID.
-     * @param seatMappingId   좌석 매핑 ID.
-     * @param eventScheduleId 이벤트 일정 ID.
-     * @param seatGrade       좌석 등급.
-     * @param seatPrice       좌석 가격.
-     */
-    @DistributedLock(key = "#lockName")
-    public void lockSeat(String lockName, Long userId, Long seatMappingId, Long eventScheduleId, String seatGrade, BigDecimal seatPrice) {
-        log.info("락 획득 시도: {}", lockName);
-        preoccupySeat(eventScheduleId, userId, seatMappingId, seatGrade, seatPrice);
-    }
-
-    /**
-     * Redis에 사용자 및 좌석 정보를 저장하여 좌석 선점 처리를 수행합니다.
+     * 요청된 좌석 전체를 Lua 스크립트 한 번으로 선점합니다.
+     * 하나라도 이미 선점된 좌석이 있으면 어떤 좌석도 선점되지 않습니다.
      *
      * @param eventScheduleId 이벤트 일정 ID.
      * @param userId          좌석을 선점하는 사용자 ID.
-     * @param seatMappingId   좌석 매핑 ID.
-     * @param seatGrade       좌석 등급.
-     * @param seatPrice       좌석 가격.
+     * @param selectSeatInfos 선점할 좌석 목록.
      */
-    public void preoccupySeat(Long eventScheduleId, Long userId, Long seatMappingId, String seatGrade, BigDecimal seatPrice) {
-        storeSeatInfo(eventScheduleId, userId, seatMappingId, seatGrade, seatPrice);
-        storeUserEventInfo(eventScheduleId, userId, seatMappingId);
-    }
-
-    private void storeSeatInfo(Long eventScheduleId, Long userId, Long seatMappingId, String seatGrade, BigDecimal seatPrice) {
-        String seatKey = RedisKeyHelper.getSeatKey(eventScheduleId);  // "seat_{eventScheduleId}" 형태의 키 생성
-        RMapCache<String, String> seatStates = redissonClient.getMapCache(seatKey); // TTL 지원하는 MapCache 사용
-
-        String seatField = generateSeatField(seatMappingId);  // "seat_101" 형태의 필드명 생성
-        String seatInfo = generateSeatInfo(userId, seatGrade, seatPrice); // 좌석 정보 JSON 생성
-
-        // 좌석 정보 저장 + 개별 TTL 설정 (9분 후 자동 만료)
-        seatStates.put(seatField, seatInfo, 540L, RedisTTLConstants.SEAT_LOCK_TIME_UNIT);
-
-        log.info("이벤트 {}의 좌석 {} 정보가 {}초 TTL과 함께 저장되었습니다.", eventScheduleId, seatMappingId, RedisTTLConstants.SEAT_LOCK_LEASE_TIME);
-    }
-
-    private void storeUserEventInfo(Long eventScheduleId, Long userId, Long seatMappingId) {
-        String userKey = RedisKeyHelper.getUserKey(userId);
-        RMapCache<String, String> userEvents = redissonClient.getMapCache(userKey);
-
-        String eventField = generateEventField(eventScheduleId);
-
-        userEvents.put(eventField, userEvents.compute(eventField,
-                        (key, existingSeats) -> mergeSeatIds(existingSeats, seatMappingId)),
-                540L, RedisTTLConstants.SEAT_LOCK_TIME_UNIT);
-
-        log.info("사용자 {}의 이벤트 {} 좌석 정보를 {}초 TTL과 함께 저장했습니다.", userId, eventScheduleId, RedisTTLConstants.SEAT_LOCK_LEASE_TIME);
-    }
+    public void lockSeats(Long eventScheduleId, Long userId, List<SelectSeatInfo> selectSeatInfos) {
+        SeatLayout seatLayout = seatLayoutService.getSeatLayout(eventScheduleId);
+
+        Map<Long, String> seatInfos = new LinkedHashMap<>();
+        Map<Long, Integer> seatOrdinals = new HashMap<>();
+        for (SelectSeatInfo selectSeatInfo : selectSeatInfos) {
+            Long seatMappingId = selectSeatInfo.getSeatMappingId();
+            int ordinal = seatLayout.ordinalOf(seatMappingId);
+            if (ordinal < 0) {
+                log.warn("좌석 {}는 이벤트 일정 {}의 좌석이 아닙니다.", seatMappingId, eventScheduleId);
+                throw new BusinessException(ErrorCode.SEAT_NOT_FOUND);
+            }
+
+            seatInfos.put(seatMappingId, generateSeatInfo(userId, selectSeatInfo.getSeatGrade(), selectSeatInfo.getSeatPrice()));
+            seatOrdinals.put(seatMappingId, ordinal);
+        }
 
+        long ttlMillis = RedisTTLConstants.SEAT_LOCK_TIME_UNIT.toMillis(RedisTTLConstants.SEAT_PREOCCUPY_TTL);
+        SeatLockResult result = seatLockRedisRepository.lockSeats(eventScheduleId, userId, seatInfos, seatOrdinals, ttlMillis);
 
-    private String generateSeatField(Long seatMappingId) {
-        return "seat_" + seatMappingId;
-    }
+        if (result.userAlreadyReserved()) {
+            log.warn("사용자 {}가 이벤트 일정 {}에 대해 이미 예약된 좌석이 존재합니다.", userId, eventScheduleId);
+            throw new BusinessException(ErrorCode.USER_ALREADY_HAS_RESERVED_SEATS);
+        }
 
-    private String generateEventField(Long eventScheduleId) {
-        return "event_" + eventScheduleId;
-    }
+        if (!result.conflictSeatIds().isEmpty()) {
+            log.warn("좌석 {}가 이미 선점되었습니다.", result.conflictSeatIds());
+            throw new BusinessException(ErrorCode.SEAT_ALREADY_RESERVED);
+        }
 
-    private String formatSeatId(Long seatMappingId) {
-        return "[" + seatMappingId + "]";
+        log.info("이벤트 {}의 좌석 {}가 사용자 {}에 의해 {}초 TTL과 함께 선점되었습니다.",
+                eventScheduleId, seatInfos.keySet(), userId, RedisTTLConstants.SEAT_PREOCCUPY_TTL);
     }
 
     private String generateSeatInfo(Long userId, String seatGrade, BigDecimal seatPrice) {
         return String.format("{\"userId\":%d, \"seatGrade\":\"%s\", \"seatPrice\":%s}", userId, seatGrade, seatPrice);
     }
-
-    /**
-     * 기존 좌석 ID 목록에 새로운 좌석 ID를 병합합니다.
-     *
-     * @param existingSeats 기존 좌석 ID 목록(JSON 배열).
-     * @param newSeatId     새로 추가할 좌석 ID.
-     * @return 병합된 좌석 ID 목록(JSON 배열).
-     */
-    private String mergeSeatIds(String existingSeats, Long newSeatId) {
-        if (existingSeats == null || existingSeats.isBlank()) {
-            return formatSeatId(newSeatId);
-        }
-
-        String trimmedSeats = existingSeats.substring(0, existingSeats.length() - 1);
-        return trimmedSeats + "," + newSeatId + "]";
-    }
 }
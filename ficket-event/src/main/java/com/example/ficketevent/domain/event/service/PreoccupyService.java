@@ -5,23 +5,21 @@ import com.example.ficketevent.domain.event.client.UserServiceClient;
 import com.example.ficketevent.domain.event.dto.common.UserSimpleDto;
 import com.example.ficketevent.domain.event.dto.request.SelectSeat;
 import com.example.ficketevent.domain.event.dto.request.SelectSeatInfo;
+import com.example.ficketevent.domain.event.repository.EventScheduleRepository;
+import com.example.ficketevent.domain.event.repository.SeatLockRedisRepository;
 import com.example.ficketevent.global.result.error.ErrorCode;
 import com.example.ficketevent.global.result.error.exception.BusinessException;
 import com.example.ficketevent.global.utils.CircuitBreakerUtils;
-import com.example.ficketevent.global.utils.RedisKeyHelper;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
 import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.redisson.api.RMapCache;
-import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.math.BigDecimal;
-import java.util.Arrays;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -34,13 +32,28 @@ import static com.example.ficketevent.global.utils.RateLimiterUtils.*;
 public class PreoccupyService {
 
     private final UserServiceClient userServiceClient;
-    private final RedissonClient redissonClient;
+    private final SeatLockRedisRepository seatLockRedisRepository;
+    private final EventScheduleRepository eventScheduleRepository;
     private final PreoccupyInternalService preoccupyInternalService;
     private final CircuitBreakerRegistry circuitBreakerRegistry;
     private final RateLimiterRegistry rateLimiterRegistry;
     private final TicketingServiceClient ticketingServiceClient;
     private final ObjectMapper objectMapper;
 
+    // 좌석 선점 경로에 AdmissionTokenFilter 가 연결되기 전까지는 끔 (헤더가 없거나 클라이언트가 보낸 값일 수 있음)
+    @Value("${admission.event-check.enabled:false}")
+    private boolean admissionEventCheckEnabled;
+
+    /**
+     * 입장 토큰의 공연(X-Admission-Event-Id)과 선점 요청 회차의 공연이 같은지 확인한 뒤 좌석을 선점합니다.
+     * 확인은 admission.event-check.enabled 가 켜진 경우에만 하며, 켜진 상태에서 헤더가 없으면 거부합니다.
+     */
+    @Transactional
+    public void lockSeat(SelectSeat request, Long userId, String admissionEventId) {
+        verifyAdmissionEvent(request.getEventScheduleId(), admissionEventId);
+        lockSeat(request, userId);
+    }
+
     @Transactional
     public void lockSeat(SelectSeat request, Long userId) {
 
@@ -80,19 +93,24 @@ public class PreoccupyService {
 
         validateSeatCount(seatMappingIds, reservationLimit);
 
-        // 요청 좌석 중 이미 선점된 좌석이 있는지 확인
-        validateSeatsAvailability(eventScheduleId, seatMappingIds);
+        // 요청 좌석 전체를 한 번에 선점 (이미 선점된 좌석이 하나라도 있으면 실패)
+        preoccupyInternalService.lockSeats(eventScheduleId, user.getUserId(), selectSeatInfoList);
+    }
+
+    private void verifyAdmissionEvent(Long eventScheduleId, String admissionEventId) {
+        if (!admissionEventCheckEnabled) {
+            return;
+        }
 
-        // 각 좌석을 사용자에 대해 잠금 처리
-        selectSeatInfoList.forEach(selectSeatInfo -> lockSeat(eventScheduleId, user.getUserId(), selectSeatInfo.getSeatMappingId(), selectSeatInfo.getSeatGrade(), selectSeatInfo.getSeatPrice()));
+        Long eventId = eventScheduleRepository.findEventIdByEventScheduleId(eventScheduleId);
+        if (eventId == null || !String.valueOf(eventId).equals(admissionEventId)) {
+            log.warn("입장 공연 불일치. 입장 공연: {}, 요청 회차: {}, 요청 공연: {}", admissionEventId, eventScheduleId, eventId);
+            throw new BusinessException(ErrorCode.ADMISSION_EVENT_MISMATCH);
+        }
     }
 
     private void ensureUserHasNoSelectedSeats(Long eventScheduleId, Long userId) {
-        String userKey = RedisKeyHelper.getUserKey(userId); // 키 생성
-        RMapCache<String, String> userEvents = redissonClient.getMapCache(userKey);
-
-        String eventField = "event_" + eventScheduleId;
-        if (userEvents.containsKey(eventField)) {
+        if (seatLockRedisRepository.hasReservedSeats(userId, eventScheduleId)) {
             log.warn("사용자 {}가 이벤트 일정 {}에 대해 이미 예약된 좌석이 존재합니다.", userId, eventScheduleId);
             throw new BusinessException(ErrorCode.USER_ALREADY_HAS_RESERVED_SEATS);
         }
@@ -119,85 +137,26 @@ public class PreoccupyService {
 
     }
 
-    private void validateSeatsAvailability(Long eventScheduleId, Set<Long> seatMappingIds) {
-        String seatKey = RedisKeyHelper.getSeatKey(eventScheduleId); // 키 생성
-        RMapCache<String, String> seatStates = redissonClient.getMapCache(seatKey); // TTL 적용된 RMapCache 사용
-
-        for (Long seatMappingId : seatMappingIds) {
-            String seatField = "seat_" + seatMappingId;
-            if (seatStates.containsKey(seatField)) {
-                log.warn("좌석 {}가 이미 선점되었습니다.", seatMappingId);
-                throw new BusinessException(ErrorCode.SEAT_ALREADY_RESERVED);
-            }
-        }
-    }
-
-    private void lockSeat(Long eventScheduleId, Long userId, Long seatMappingId, String seatGrade, BigDecimal seatPrice) {
-        String lockKey = RedisKeyHelper.getLockKey(eventScheduleId, seatMappingId); // 키 생성
-        preoccupyInternalService.lockSeat(lockKey, userId, seatMappingId, eventScheduleId, seatGrade, seatPrice);
-        log.info("좌석 {}가 사용자 {}에 의해 선점되었습니다. (등급: {}, 가격: {})", seatMappingId, userId, seatGrade, seatPrice);
-    }
-
     public void releaseSeat(Long eventScheduleId, Set<Long> seatMappingIds, Long userId) {
-        String seatKey = RedisKeyHelper.getSeatKey(eventScheduleId); // 키 생성
-        RMapCache<String, String> seatStates = redissonClient.getMapCache(seatKey); // TTL 지원하는 RMapCache 사용
-
-        String userKey = RedisKeyHelper.getUserKey(userId); // 키 생성
-        RMapCache<String, String> userEvents = redissonClient.getMapCache(userKey); // TTL 지원하는 RMapCache 사용
-
-        String eventField = "event_" + eventScheduleId;
-
-        seatMappingIds.forEach(seatMappingId -> {
-            String seatField = "seat_" + seatMappingId;
-            String lockKey = RedisKeyHelper.getLockKey(eventScheduleId, seatMappingId); // 키 생성
+        long released = seatLockRedisRepository.releaseSeats(eventScheduleId, seatMappingIds, userId);
 
-            if (seatStates.containsKey(seatField)) {
-                seatStates.remove(seatField);
-                log.info("좌석 {}가 사용자 {}로부터 해제되었습니다.", seatMappingId, userId);
-            }
-
-            if (redissonClient.getKeys().delete(lockKey) > 0) {
-                log.info("좌석 {}에 대한 잠금 키 {}가 삭제되었습니다.", seatMappingId, lockKey);
-            }
-        });
-
-        if (userEvents.containsKey(eventField)) {
-            userEvents.remove(eventField);
-            log.info("사용자 {}의 이벤트 데이터가 삭제되었습니다. EventScheduleId: {}", userId, eventScheduleId);
-        }
+        log.info("사용자 {}의 좌석 {}개가 해제되었습니다. EventScheduleId: {}", userId, released, eventScheduleId);
     }
 
     public void unLockSeatByEventScheduleIdAndUserId(String eventScheduleId, String userId) {
         try {
-            String userKey = RedisKeyHelper.getUserKey(Long.parseLong(userId));
-            RMapCache<String, String> userEvents = redissonClient.getMapCache(userKey);
+            Long scheduleId = Long.parseLong(eventScheduleId);
+            Long parsedUserId = Long.parseLong(userId);
 
-            String eventField = "event_" + eventScheduleId;
+            Set<Long> seatMappingIds = seatLockRedisRepository.findReservedSeatIds(parsedUserId, scheduleId);
 
-            if (!userEvents.containsKey(eventField)) {
+            if (seatMappingIds.isEmpty()) {
                 log.info("사용자 {}의 이벤트 일정 {}에 대한 예약 정보가 없습니다.", userId, eventScheduleId);
                 return;
             }
 
-            String seatData = userEvents.get(eventField);
-
-            if (seatData == null || seatData.isBlank()) {
-                log.info("사용자 {}의 이벤트 {}에 대한 좌석 정보가 없습니다.", userId, eventScheduleId);
-                return;
-            }
-
-            Set<Long> seatMappingIds = parseSeatIds(seatData);
-
-            if (!seatMappingIds.isEmpty()) {
-                releaseSeat(Long.parseLong(eventScheduleId), seatMappingIds, Long.parseLong(userId));
-                log.info("사용자 {}의 예약 좌석이 해제되었습니다. EventScheduleId: {}", userId, eventScheduleId);
-            }
-
-            // 사용자의 모든 이벤트 데이터가 삭제되었는지 확인 후 userKey 자체 삭제
-            if (userEvents.isEmpty()) {
-                redissonClient.getMapCache(userKey).delete();
-                log.info("사용자 {}의 모든 예약 데이터가 삭제되었습니다.", userId);
-            }
+            releaseSeat(scheduleId, seatMappingIds, parsedUserId);
+            log.info("사용자 {}의 예약 좌석이 해제되었습니다. EventScheduleId: {}", userId, eventScheduleId);
 
         } catch (Exception e) {
             log.error("사용자 {}의 좌석 해제 중 오류 발생: {}", userId, e.getMessage());
@@ -205,60 +164,29 @@ public class PreoccupyService {
         }
     }
 
-
-    private Set<Long> parseSeatIds(String seatData) {
-        if (seatData == null || seatData.isBlank() || seatData.equals("[]")) {
-            return Set.of(); // 빈 데이터일 경우 빈 Set 반환
-        }
-
-        return Arrays.stream(seatData.replace("[", "").replace("]", "").split(","))
-                .map(String::trim)
-                .filter(s -> !s.isEmpty())
-                .map(Long::parseLong)
-                .collect(Collectors.toSet());
-    }
-
     public String getUserIdBySeatLock(String eventScheduleId, String seatMappingId) {
-        String seatKey = RedisKeyHelper.getSeatKey(Long.valueOf(eventScheduleId));
-
-        String seatField = "seat_" + seatMappingId;
+        Long scheduleId = Long.valueOf(eventScheduleId);
+        Long parsedSeatMappingId = Long.valueOf(seatMappingId);
 
-        RMapCache<String, String> seatStates = redissonClient.getMapCache(seatKey);
+        String seatInfo = seatLockRedisRepository.findSeatInfo(scheduleId, parsedSeatMappingId);  // JSON 문자열 가져오기
+        if (seatInfo == null) {
+            throw new BusinessException(ErrorCode.USER_NOT_FOUND_BY_LOCK);
+        }
+        log.info("좌석 정보 조회: {}", seatInfo);
 
         String userId;
-        if (seatStates.containsKey(seatField)) {
-            String seatInfo = seatStates.get(seatField);  // JSON 문자열 가져오기
-            log.info("좌석 정보 조회: {}", seatInfo);
-
-            try {
-                JsonNode jsonNode = objectMapper.readTree(seatInfo);  // JSON 파싱
-                userId = jsonNode.get("userId").asText();  // userId 가져오기
-                log.info("파싱된 userId: {}", userId);
-            } catch (Exception e) {
-                log.error("좌석 정보 파싱 중 오류 발생: {}", e.getMessage());
-                throw new BusinessException(ErrorCode.USER_NOT_FOUND_BY_LOCK);
-            }
-
-            seatStates.remove(seatField);
-
-            String userKey = RedisKeyHelper.getUserKey(Long.parseLong(userId));
-            RMapCache<String, String> userEvents = redissonClient.getMapCache(userKey);
-
-            String eventField = "event_" + eventScheduleId;
-
-            if (userEvents.containsKey(eventField)) {
-                userEvents.remove(eventField);
-                log.info("사용자 {}의 이벤트 데이터가 삭제되었습니다. EventScheduleId: {}", userId, eventScheduleId);
-            }
-
-            if (userEvents.isEmpty()) {
-                redissonClient.getMapCache(userKey).delete();
-                log.info("사용자 {}의 모든 예약 데이터가 삭제되었습니다.", userId);
-            }
-        } else {
+        try {
+            JsonNode jsonNode = objectMapper.readTree(seatInfo);  // JSON 파싱
+            userId = jsonNode.get("userId").asText();  // userId 가져오기
+            log.info("파싱된 userId: {}", userId);
+        } catch (Exception e) {
+            log.error("좌석 정보 파싱 중 오류 발생: {}", e.getMessage());
             throw new BusinessException(ErrorCode.USER_NOT_FOUND_BY_LOCK);
         }
 
+        seatLockRedisRepository.releaseSeats(scheduleId, List.of(parsedSeatMappingId), Long.parseLong(userId));
+        log.info("사용자 {}의 이벤트 데이터가 삭제되었습니다. EventScheduleId: {}", userId, eventScheduleId);
+
         return userId;
     }
 }
@@ -0,0 +1,43 @@
+package com.example.ficketevent.domain.event.service;
+
+import com.example.ficketevent.domain.event.enums.Genre;
+
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * 주문 생성 이벤트 배치의 Redis 반영분 (예매 랭킹 / 좌석 상태 비트맵)
+ *
+ * - 주문별 트랜잭션이 커밋된 경우에만 누적되고, 배치 끝에 StageSeatService 가 한 번에 반영
+ * - 배치 안에서 회차별 이벤트 조회 결과를 재사용
+ */
+public class PurchasedSeatUpdates {
+
+    private final Map<Long, Optional<ReservedEvent>> eventsBySchedule = new HashMap<>();
+    private final Map<ReservedEvent, Integer> reservedSeatCounts = new HashMap<>();
+    private final Map<Long, List<Long>> purchasedSeatsBySchedule = new HashMap<>();
+
+    Optional<ReservedEvent> eventOf(Long eventScheduleId, Function<Long, Optional<ReservedEvent>> loader) {
+        return eventsBySchedule.computeIfAbsent(eventScheduleId, loader);
+    }
+
+    void add(ReservedEvent event, Long eventScheduleId, Collection<Long> seatMappingIds) {
+        reservedSeatCounts.merge(event, seatMappingIds.size(), Integer::sum);
+        purchasedSeatsBySchedule.computeIfAbsent(eventScheduleId, id -> new ArrayList<>())
+                .addAll(seatMappingIds);
+    }
+
+    Map<ReservedEvent, Integer> reservedSeatCounts() {
+        return reservedSeatCounts;
+    }
+
+    Map<Long, List<Long>> purchasedSeatsBySchedule() {
+        return purchasedSeatsBySchedule;
+    }
+
+    /**
+     * 랭킹 갱신에 필요한 이벤트 정보 (트랜잭션 밖에서 사용하므로 장르 목록을 복사해 보관)
+     */
+    record ReservedEvent(Long eventId, List<Genre> genres) {
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.ficketevent.domain.event.service;
+
+import com.example.ficketevent.domain.event.dto.response.SeatLayout;
+import com.example.ficketevent.domain.event.repository.SeatMappingRepository;
+import com.example.ficketevent.global.utils.RedisKeyHelper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.LongCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 이벤트 일정별 정적 좌석 배치를 조회하고 캐싱하는 서비스 클래스.
+ * <p>
+ * 좌석 배치는 티케팅 시작 이후 변경되지 않으므로 인스턴스 로컬(Caffeine)에 보관하고,
+ * 좌석 상태(선점/구매)는 비트맵으로 분리하여 관리합니다.
+ * 행사 수정/삭제 시 Redis pub/sub 으로 모든 인스턴스의 로컬 캐시를 무효화합니다.
+ */
+@Slf4j
+@Service
+public class SeatLayoutService {
+
+    private final SeatMappingRepository seatMappingRepository;
+    private final RTopic invalidationTopic;
+    private final Cache<Long, SeatLayout> seatLayoutCache;
+
+    public SeatLayoutService(SeatMappingRepository seatMappingRepository,
+                             RedissonClient redissonClient,
+                             @Value("${seat.layout.cache.max-size:2000}") long maxSize,
+                             @Value("${seat.layout.cache.expire-minutes:60}") long expireMinutes) {
+        this.seatMappingRepository = seatMappingRepository;
+        this.invalidationTopic = redissonClient.getTopic(RedisKeyHelper.getSeatLayoutInvalidationTopic(), LongCodec.INSTANCE);
+        this.seatLayoutCache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMinutes(expireMinutes)) // 무효화 메시지 유실 대비
+                .build();
+    }
+
+    @PostConstruct
+    void subscribeInvalidation() {
+        invalidationTopic.addListener(Long.class, (channel, eventScheduleId) -> {
+            seatLayoutCache.invalidate(eventScheduleId);
+            log.info("좌석 배치 로컬 캐시 무효화. EventScheduleId: {}", eventScheduleId);
+        });
+    }
+
+    /**
+     * 좌석 매핑 ID 오름차순으로 정렬된 좌석 배치를 조회합니다.
+     *
+     * @param eventScheduleId 이벤트 일정 ID
+     * @return 좌석 배치
+     */
+    public SeatLayout getSeatLayout(Long eventScheduleId) {
+        return seatLayoutCache.get(eventScheduleId,
+                id -> SeatLayout.from(seatMappingRepository.findSeatInfoByEventScheduleId(id)));
+    }
+
+    /**
+     * 모든 인스턴스의 좌석 배치 캐시를 무효화합니다.
+     * 트랜잭션 안에서 호출되면 커밋 이후에 전파하여 이전 배치가 다시 적재되지 않도록 합니다.
+     *
+     * @param eventScheduleIds 무효화할 이벤트 일정 ID 목록
+     */
+    public void invalidate(Collection<Long> eventScheduleIds) {
+        List<Long> targets = List.copyOf(eventScheduleIds);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    publishInvalidation(targets);
+                }
+            });
+            return;
+        }
+        publishInvalidation(targets);
+    }
+
+    private void publishInvalidation(List<Long> eventScheduleIds) {
+        seatLayoutCache.invalidateAll(eventScheduleIds);
+        eventScheduleIds.forEach(invalidationTopic::publish);
+    }
+}
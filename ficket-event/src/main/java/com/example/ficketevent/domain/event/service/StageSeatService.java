@@ -7,28 +7,33 @@ import com.example.ficketevent.domain.event.dto.request.SelectSeatInfo;
 import com.example.ficketevent.domain.event.dto.response.*;
 import com.example.ficketevent.domain.event.entity.*;
 import com.example.ficketevent.domain.event.enums.Genre;
+import com.example.ficketevent.domain.event.enums.Period;
 import com.example.ficketevent.domain.event.mapper.StageSeatMapper;
 import com.example.ficketevent.domain.event.messagequeue.SeatMappingProducer;
 import com.example.ficketevent.domain.event.repository.EventScheduleRepository;
 import com.example.ficketevent.domain.event.repository.EventStageRepository;
+import com.example.ficketevent.domain.event.repository.SeatLockRedisRepository;
 import com.example.ficketevent.domain.event.repository.SeatMappingRepository;
+import com.example.ficketevent.domain.event.repository.SeatStateRedisRepository;
+import com.example.ficketevent.domain.event.repository.SeatStateRedisRepository.SeatStateChanges;
 import com.example.ficketevent.domain.event.repository.StageSeatRepository;
 import com.example.ficketevent.global.result.error.ErrorCode;
 import com.example.ficketevent.global.result.error.exception.BusinessException;
 import com.example.ficketevent.global.utils.RedisKeyHelper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.redisson.api.RMapCache;
-import org.redisson.api.RedissonClient;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.*;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutionException;
 import java.util.stream.Collectors;
 
 import static com.example.ficketevent.domain.event.enums.Period.*;
@@ -46,7 +51,9 @@ public class StageSeatService {
     private final StageSeatRepository stageSeatRepository;
     private final StageSeatMapper stageSeatMapper;
     private final SeatMappingRepository seatMappingRepository;
-    private final RedissonClient redissonClient;
+    private final SeatLockRedisRepository seatLockRedisRepository;
+    private final SeatStateRedisRepository seatStateRedisRepository;
+    private final SeatLayoutService seatLayoutService;
     private final SeatMappingProducer seatMappingProducer;
     private final EventScheduleRepository eventScheduleRepository;
     @Qualifier("rankingRedisTemplate") // 랭킹용 RedisTemplate
@@ -98,13 +105,29 @@ public class StageSeatService {
 
     /**
      * 좌석 조회
+     * - 정적 좌석 배치(로컬 캐시)와 좌석 상태 비트맵(Redis GET 1회)을 병합
      *
      * @param eventScheduleId 이벤트 일정 ID
      * @return 좌석 상태 목록
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED) // 캐시 적중 시 DB 커넥션을 점유하지 않음
     public List<SeatStatusResponse> getSeatStatusesByEventSchedule(Long eventScheduleId) {
         try {
-            return getAvailableSeatsAsync(eventScheduleId);
+            SeatLayout seatLayout = seatLayoutService.getSeatLayout(eventScheduleId);
+            byte[] seatStates = getSeatStatesFromRedis(eventScheduleId);
+
+            // 비트맵이 없으면 DB 구매 정보 기준으로 초기화
+            if (seatStates == null) {
+                seatStates = initSeatStates(eventScheduleId, seatLayout);
+            }
+
+            // 좌석 상태 병합
+            int seatCount = seatLayout.getSeatCount();
+            List<SeatStatusResponse> result = new ArrayList<>(seatCount);
+            for (int ordinal = 0; ordinal < seatCount; ordinal++) {
+                result.add(seatLayout.toSeatStatusResponse(ordinal, determineSeatStatus(seatStates, ordinal)));
+            }
+            return result;
         } catch (Exception e) {
             log.error("좌석 조회 중 오류 발생: {}", e.getMessage(), e);
             throw new RuntimeException("좌석 조회 중 문제가 발생했습니다.");
@@ -112,80 +135,91 @@ public class StageSeatService {
     }
 
     /**
-     * 비동기 좌석 조회
+     * 특정 버전 이후 변경된 좌석만 조회
+     * - 요청 버전이 변경 이력 범위를 벗어나면 전체 좌석을 반환
      *
      * @param eventScheduleId 이벤트 일정 ID
-     * @return 좌석 상태 목록
+     * @param since           클라이언트가 가진 버전 (없으면 전체 조회)
+     * @return 현재 버전과 변경 좌석 목록
      */
-    private List<SeatStatusResponse> getAvailableSeatsAsync(Long eventScheduleId) throws ExecutionException, InterruptedException {
-        // Redis 좌석 상태 비동기 조회
-        CompletableFuture<Set<Long>> redisFuture = CompletableFuture.supplyAsync(() -> getLockedSeatFromRedis(eventScheduleId));
-
-        // 데이터베이스 좌석 정보 비동기 조회
-        CompletableFuture<List<SeatInfo>> dbFuture = CompletableFuture.supplyAsync(() -> seatMappingRepository.findSeatInfoByEventScheduleId(eventScheduleId));
-
-        // 병렬 처리 결과 병합
-        CompletableFuture.allOf(redisFuture, dbFuture).join();
-
-        Set<Long> lockedSeats = redisFuture.get();
-        List<SeatInfo> allSeats = dbFuture.get();
-
-        // 좌석 상태 병합
-        return allSeats.stream()
-                .map(seat -> SeatStatusResponse.builder()
-                        .seatMappingId(seat.getSeatMappingId())
-                        .seatX(seat.getSeatX())
-                        .seatY(seat.getSeatY())
-                        .seatGrade(seat.getSeatGrade())
-                        .seatRow(seat.getSeatRow())
-                        .seatCol(seat.getSeatCol())
-                        .status(determineSeatStatus(seat.getSeatMappingId(), lockedSeats, seat.getPurchased()))
-                        .seatPrice(seat.getSeatPrice())
-                        .build())
-                .toList();
-    }
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public SeatStatusChangesResponse getSeatStatusChanges(Long eventScheduleId, Long since) {
+        long fromVersion = since == null ? -1L : since;
 
-    private Set<Long> getLockedSeatFromRedis(Long eventScheduleId) {
-        Set<Long> lockedSeatSet = new HashSet<>();
-        try {
-            String seatKey = RedisKeyHelper.getSeatKey(eventScheduleId); // 키 생성
-            RMapCache<String, String> seatStates = redissonClient.getMapCache(seatKey);
-
-            for (String seatField : seatStates.keySet()) {
-                try {
-                    String seatIdStr = seatField.replace("seat_", "");
-                    Long seatId = Long.parseLong(seatIdStr);
-                    lockedSeatSet.add(seatId);
-                } catch (NumberFormatException e) {
-                    log.warn("Redis 해시 필드 '{}'에서 좌석 ID를 파싱하는 중 오류가 발생했습니다.", seatField, e);
+        SeatLayout seatLayout = seatLayoutService.getSeatLayout(eventScheduleId);
+        SeatStateChanges changes = seatStateRedisRepository.findSeatChanges(eventScheduleId, fromVersion);
+
+        // 비트맵이 없으면 초기화 후 전체 조회
+        if (changes.states() == null) {
+            initSeatStates(eventScheduleId, seatLayout);
+            changes = seatStateRedisRepository.findSeatChanges(eventScheduleId, -1L);
+        }
+
+        byte[] seatStates = changes.states();
+        List<SeatStatusResponse> seats;
+        if (changes.full()) {
+            int seatCount = seatLayout.getSeatCount();
+            seats = new ArrayList<>(seatCount);
+            for (int ordinal = 0; ordinal < seatCount; ordinal++) {
+                seats.add(seatLayout.toSeatStatusResponse(ordinal, determineSeatStatus(seatStates, ordinal)));
+            }
+        } else {
+            seats = new ArrayList<>(changes.changedOrdinals().size());
+            for (int ordinal : changes.changedOrdinals()) {
+                if (ordinal < seatLayout.getSeatCount()) {
+                    seats.add(seatLayout.toSeatStatusResponse(ordinal, determineSeatStatus(seatStates, ordinal)));
                 }
             }
+        }
+
+        return SeatStatusChangesResponse.builder()
+                .version(changes.version())
+                .full(changes.full())
+                .seats(seats)
+                .build();
+    }
+
+    private byte[] getSeatStatesFromRedis(Long eventScheduleId) {
+        try {
+            return seatStateRedisRepository.findSeatStates(eventScheduleId);
         } catch (Exception e) {
             log.error("Redis에서 좌석 상태를 가져오는 중 오류 발생. EventScheduleId: {}", eventScheduleId, e);
-            throw new RuntimeException("잠금된 좌석 데이터를 가져오는 중 오류 발생.", e);
+            throw new RuntimeException("좌석 상태 데이터를 가져오는 중 오류 발생.", e);
         }
+    }
 
-        log.info("EventScheduleId {}와 관련된 잠금된 좌석 수: {}", eventScheduleId, lockedSeatSet.size());
-        return lockedSeatSet;
+    private byte[] initSeatStates(Long eventScheduleId, SeatLayout seatLayout) {
+        List<Integer> purchasedOrdinals = toOrdinals(seatLayout, seatMappingRepository.findPurchasedSeatMappingIds(eventScheduleId));
+        byte[] purchasedBitmap = SeatStateRedisRepository.toPurchasedBitmap(seatLayout.getSeatCount(), purchasedOrdinals);
+
+        log.info("EventScheduleId {}의 좌석 상태 비트맵 초기화. 좌석 수: {}, 구매 좌석 수: {}",
+                eventScheduleId, seatLayout.getSeatCount(), purchasedOrdinals.size());
+        return seatStateRedisRepository.initSeatStates(eventScheduleId, purchasedBitmap);
     }
 
     /**
      * 좌석 상태 결정
      *
-     * @param seatMappingId 좌석 매핑 ID
-     * @param lockedSeats   Redis에서 가져온 선점된 좌석 목록
-     * @param purchased     구매 여부
+     * @param seatStates 좌석 상태 비트맵
+     * @param ordinal    좌석 배치 내 순번
      * @return 좌석 상태
      */
-    private String determineSeatStatus(Long seatMappingId, Set<Long> lockedSeats, Boolean purchased) {
-        if (Boolean.TRUE.equals(purchased)) {
+    private String determineSeatStatus(byte[] seatStates, int ordinal) {
+        if (SeatStateRedisRepository.isPurchased(seatStates, ordinal)) {
             return "PURCHASED";
-        } else if (lockedSeats.contains(seatMappingId)) {
+        } else if (SeatStateRedisRepository.isLocked(seatStates, ordinal)) {
             return "LOCKED";
         }
         return "AVAILABLE";
     }
 
+    private List<Integer> toOrdinals(SeatLayout seatLayout, Collection<Long> seatMappingIds) {
+        return seatMappingIds.stream()
+                .map(seatLayout::ordinalOf)
+                .filter(ordinal -> ordinal >= 0)
+                .toList();
+    }
+
     /**
      * 특정 이벤트 일정에 대한 등급별 남은 좌석 수를 조회합니다.
      *
@@ -197,26 +231,9 @@ public class StageSeatService {
     }
 
     public ReservedSeatsResponse getReservedSeats(Long userId, Long eventScheduleId) {
-        String userKey = RedisKeyHelper.getUserKey(userId); // 키 생성
-        RMapCache<String, String> userEvents = redissonClient.getMapCache(userKey);
-
-        String eventField = "event_" + eventScheduleId;
-
-        String value = userEvents.get(eventField);
-
-        log.info("해당 유저가 선점한 좌석 : {}", value);
-
-        if (value == null) {
-            return ReservedSeatsResponse
-                    .builder()
-                    .reservedSeats(Collections.emptySet())
-                    .build();
-        }
+        Set<Long> result = seatLockRedisRepository.findReservedSeatIds(userId, eventScheduleId);
 
-        Set<Long> result = Arrays.stream(value.replaceAll("[\\[\\]]", "")
-                        .split(","))
-                .map(Long::valueOf)
-                .collect(Collectors.toSet());
+        log.info("해당 유저가 선점한 좌석 : {}", result);
 
         return ReservedSeatsResponse
                 .builder()
@@ -224,58 +241,78 @@ public class StageSeatService {
                 .build();
     }
 
-    @Transactional
-    public void handleOrderCreatedEvent(OrderDto orderEvent) {
-        log.info("Processing OrderCreatedEvent: {}", orderEvent);
-
-        List<Long> successfullyUpdatedSeats = new ArrayList<>(); // 업데이트 성공한 좌석 추적
+    /**
+     * 주문 생성 이벤트 1건을 처리합니다. (호출 측이 주문마다 연 트랜잭션에서 실행)
+     * - UPDATE 한 번으로 좌석에 ticketId 를 할당 (이미 할당된 좌석이 있으면 해당 주문만 원복 후 실패 이벤트 발행)
+     * - 랭킹 / 좌석 상태 비트맵 반영분은 커밋 이후에만 updates 에 누적 (롤백된 주문이 Redis 에 남지 않도록)
+     *
+     * @param orderEvent 주문 생성 이벤트
+     * @param updates    배치 단위 Redis 반영분
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void handleOrderCreatedEvent(OrderDto orderEvent, PurchasedSeatUpdates updates) {
+        Long eventScheduleId = orderEvent.getEventScheduleId();
+        Optional<PurchasedSeatUpdates.ReservedEvent> event = updates.eventOf(eventScheduleId, id ->
+                eventScheduleRepository.findEventByEventScheduleId(id)
+                        .map(found -> new PurchasedSeatUpdates.ReservedEvent(found.getEventId(), List.copyOf(found.getGenre()))));
+
+        if (event.isEmpty() || !assignTicket(orderEvent)) {
+            publishSeatMappingFailure(orderEvent.getOrderId());
+            return;
+        }
 
-        try {
-            List<Long> seatMappingIds = new ArrayList<>(orderEvent.getSeatMappingIds());
-            Long ticketId = orderEvent.getTicketId();
-
-            // SeatMapping 데이터베이스 조회 및 업데이트
-            for (Long seatMappingId : seatMappingIds) {
-                SeatMapping seatMapping = seatMappingRepository.findBySeatMappingIdAndTicketIdIsNull(seatMappingId)
-                        .orElseThrow(() -> {
-                            log.error("SeatMapping not found or already assigned. seatMappingId: {}", seatMappingId);
-                            return new BusinessException(ErrorCode.SEAT_NOT_FOUND);
-                        });
-
-                seatMapping.setTicketId(ticketId);
-                successfullyUpdatedSeats.add(seatMappingId); // 업데이트 성공한 좌석 ID 저장
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                updates.add(event.get(), eventScheduleId, orderEvent.getSeatMappingIds());
             }
+        });
+    }
 
-            // 랭킹 업데이트
-            Event event = eventScheduleRepository.findEventByEventScheduleId(orderEvent.getEventScheduleId())
-                    .orElseThrow(() -> new BusinessException(ErrorCode.EVENT_NOT_FOUND));
-            updateReservationCount(event.getEventId(), event.getGenre(), seatMappingIds.size());
+    /**
+     * 커밋된 주문의 예매 랭킹 / 좌석 상태 비트맵을 한 번에 반영합니다.
+     * - 랭킹 갱신은 배치당 한 번의 파이프라인으로 처리
+     *
+     * @param updates 배치 단위 Redis 반영분
+     */
+    public void applyPurchasedSeatUpdates(PurchasedSeatUpdates updates) {
+        // 랭킹 업데이트
+        updateReservationCounts(updates.reservedSeatCounts());
 
-            log.info("OrderCreatedEvent processed successfully");
+        // 좌석 상태 비트맵 구매 비트 설정
+        updates.purchasedSeatsBySchedule().forEach((eventScheduleId, seatMappingIds) ->
+                updatePurchasedSeatStates(eventScheduleId, seatMappingIds, true));
 
-        } catch (BusinessException e) {
-            log.error("Failed to process OrderCreatedEvent", e);
+        log.info("OrderCreatedEvents applied to ranking and seat states | events={}", updates.reservedSeatCounts().size());
+    }
 
-            // 성공적으로 업데이트된 좌석만 원복
-            for (Long seatMappingId : successfullyUpdatedSeats) {
-                SeatMapping seatMapping = seatMappingRepository.findById(seatMappingId)
-                        .orElseThrow(() -> new BusinessException(ErrorCode.SEAT_NOT_FOUND));
-                seatMapping.setTicketId(null); // ticketId를 NULL로 설정
-            }
+    /**
+     * 주문 좌석 전체에 ticketId 를 할당합니다. (all-or-nothing)
+     *
+     * @return 모든 좌석 할당 성공 여부
+     */
+    private boolean assignTicket(OrderDto orderEvent) {
+        Set<Long> seatMappingIds = orderEvent.getSeatMappingIds();
+        Long ticketId = orderEvent.getTicketId();
 
-            // Redis 랭킹 데이터 복구 (랭킹이 업데이트된 경우에만)
-            if (!successfullyUpdatedSeats.isEmpty()) {
-                Event event = eventScheduleRepository.findEventByEventScheduleId(orderEvent.getEventScheduleId())
-                        .orElseThrow(() -> new BusinessException(ErrorCode.EVENT_NOT_FOUND));
-                updateReservationCount(event.getEventId(), event.getGenre(), -successfullyUpdatedSeats.size());
-            }
+        int assigned = seatMappingRepository.assignTicket(ticketId, seatMappingIds);
+        if (assigned == seatMappingIds.size()) {
+            return true;
+        }
+
+        log.error("SeatMapping not found or already assigned. orderId: {}, seatMappingIds: {}", orderEvent.getOrderId(), seatMappingIds);
 
-            // 실패 이벤트 발행
-            Long orderId = orderEvent.getOrderId();
-            SeatMappingUpdatedEvent failedEvent = new SeatMappingUpdatedEvent(orderId, false);
-            seatMappingProducer.publishSeatMappingUpdatedEvent(failedEvent);
-            log.info("Published failure event for orderId: {}", orderId);
+        // 이번 주문으로 할당된 좌석만 원복
+        if (assigned > 0) {
+            seatMappingRepository.unassignTicket(ticketId, seatMappingIds);
         }
+        return false;
+    }
+
+    private void publishSeatMappingFailure(Long orderId) {
+        SeatMappingUpdatedEvent failedEvent = new SeatMappingUpdatedEvent(orderId, false);
+        seatMappingProducer.publishSeatMappingUpdatedEvent(failedEvent);
+        log.info("Published failure event for orderId: {}", orderId);
     }
 
     public ValidSeatInfoResponse validRequest(CreateOrderRequest createOrderRequest) {
@@ -291,6 +328,7 @@ public class StageSeatService {
 
         return ValidSeatInfoResponse
                 .builder()
+                .eventId(eventSchedule.getEvent().getEventId())
                 .reservationLimit(eventSchedule.getEvent().getReservationLimit())
                 .selectSeatInfoList(seatInfoInSeatMappingIds)
                 .build();
@@ -315,6 +353,33 @@ public class StageSeatService {
         }
     }
 
+    /**
+     * 이벤트별 구매 좌석 수만큼 예매 순위를 한 번의 파이프라인으로 업데이트
+     *
+     * @param seatCounts 이벤트 → 구매한 좌석 수
+     */
+    private void updateReservationCounts(Map<PurchasedSeatUpdates.ReservedEvent, Integer> seatCounts) {
+        if (seatCounts.isEmpty()) {
+            return;
+        }
+
+        rankingRedisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public Object execute(RedisOperations operations) {
+                seatCounts.forEach((event, seatCount) -> {
+                    String eventId = String.valueOf(event.eventId());
+                    for (Genre genre : event.genres()) {
+                        for (Period period : List.of(DAILY, WEEKLY, MONTHLY)) {
+                            operations.opsForZSet().incrementScore(RedisKeyHelper.getReservationKey(period, genre), eventId, seatCount);
+                        }
+                    }
+                });
+                return null;
+            }
+        });
+    }
+
     /**
      * @param ticketInfo 환불 티켓 정보
      */
@@ -327,7 +392,19 @@ public class StageSeatService {
 
         updateReservationCount(event.getEventId(), event.getGenre(), -seatCount);
 
+        List<Long> seatMappingIds = seatMappingRepository.findAllByTicketId(ticketId).stream()
+                .map(SeatMapping::getSeatMappingId)
+                .toList();
+
         seatMappingRepository.openSeat(ticketId);
+
+        // 좌석 상태 비트맵 구매 비트 해제
+        updatePurchasedSeatStates(ticketInfo.getEventScheduleId(), seatMappingIds, false);
+    }
+
+    private void updatePurchasedSeatStates(Long eventScheduleId, Collection<Long> seatMappingIds, boolean purchased) {
+        SeatLayout seatLayout = seatLayoutService.getSeatLayout(eventScheduleId);
+        seatStateRedisRepository.updatePurchased(eventScheduleId, toOrdinals(seatLayout, seatMappingIds), purchased);
     }
 
 
@@ -387,6 +464,38 @@ public class StageSeatService {
         return TicketSimpleInfo.builder().build();
     }
 
+    /**
+     * 여러 티켓의 이벤트/좌석 정보를 한 번에 조회합니다.
+     *
+     * @param ticketIds 티켓 ID 목록
+     * @return 티켓 ID 별 정보 (좌석이 없는 티켓은 빈 정보)
+     */
+    public Map<Long, TicketSimpleInfo> getTicketSimpleInfos(List<Long> ticketIds) {
+        Map<Long, TicketSimpleInfo> ticketSimpleInfos = new LinkedHashMap<>();
+        ticketIds.forEach(ticketId -> ticketSimpleInfos.put(ticketId, TicketSimpleInfo.builder().build()));
+        if (ticketIds.isEmpty()) {
+            return ticketSimpleInfos;
+        }
+
+        Map<Long, List<SeatMapping>> seatMappingsByTicketId = seatMappingRepository.findAllWithEventByTicketIds(ticketIds)
+                .stream()
+                .collect(Collectors.groupingBy(SeatMapping::getTicketId));
+
+        seatMappingsByTicketId.forEach((ticketId, seatMappings) -> {
+            Event event = seatMappings.get(0).getEventSchedule().getEvent();
+            List<String> seatInfo = seatMappings.stream()
+                    .map(seat -> seat.getStageSeat().getSeatRow() + "열" + seat.getStageSeat().getSeatCol() + "번")
+                    .toList();
+            ticketSimpleInfos.put(ticketId, TicketSimpleInfo.builder()
+                    .seatLoc(seatInfo)
+                    .eventTitle(event.getTitle())
+                    .stageName(event.getEventStage().getStageName())
+                    .build());
+        });
+
+        return ticketSimpleInfos;
+    }
+
     public Long ticketSeatCount(Long ticketId) {
         List<SeatMapping> seatMappings = seatMappingRepository.findAllByTicketId(ticketId);
         return (long) seatMappings.size();
@@ -0,0 +1,104 @@
+package com.example.ficketevent.domain.event.service;
+
+import com.example.ficketevent.global.utils.RedisKeyHelper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 이벤트 조회수 쓰기 지연(write-behind) 버퍼.
+ * <p>
+ * 조회마다 ZINCRBY 를 보내지 않고 이벤트별 LongAdder 에 누적한 뒤,
+ * 주기적으로 조회수 랭킹 ZSET 에 파이프라인 배치로 반영합니다.
+ * 엔트리는 제거하지 않고 sumThenReset 으로 비우므로 동시 증가분은 이번 또는 다음 반영에 포함됩니다.
+ * (엔트리 수는 조회된 이벤트 수로 제한됨)
+ */
+@Slf4j
+@Service
+public class ViewCountBuffer {
+
+    private final RedisTemplate<String, Object> rankingRedisTemplate;
+    private final int flushBatchSize;
+    private final Map<Long, LongAdder> pendingViews = new ConcurrentHashMap<>();
+
+    public ViewCountBuffer(@Qualifier("rankingRedisTemplate") RedisTemplate<String, Object> rankingRedisTemplate,
+                           @Value("${event.view-count.flush-batch-size:500}") int flushBatchSize) {
+        this.rankingRedisTemplate = rankingRedisTemplate;
+        this.flushBatchSize = flushBatchSize;
+    }
+
+    /**
+     * 조회수를 1 증가시킵니다. (다음 반영 주기에 Redis 에 기록)
+     */
+    public void increment(Long eventId) {
+        pendingViews.computeIfAbsent(eventId, id -> new LongAdder()).increment();
+    }
+
+    /**
+     * 누적된 조회수를 flushBatchSize 개 이벤트 단위의 파이프라인으로 랭킹 ZSET 에 반영합니다.
+     * 반영에 실패한 조회수는 버퍼에 되돌려 다음 주기에 재시도합니다.
+     */
+    public void flush() {
+        List<ViewCount> batch = new ArrayList<>(flushBatchSize);
+
+        for (Map.Entry<Long, LongAdder> entry : pendingViews.entrySet()) {
+            long count = entry.getValue().sumThenReset();
+            if (count == 0) {
+                continue;
+            }
+
+            batch.add(new ViewCount(entry.getKey(), count));
+            if (batch.size() >= flushBatchSize) {
+                write(batch);
+                batch = new ArrayList<>(flushBatchSize);
+            }
+        }
+
+        if (!batch.isEmpty()) {
+            write(batch);
+        }
+    }
+
+    @PreDestroy
+    void drain() {
+        flush();
+    }
+
+    private void write(List<ViewCount> batch) {
+        String rankingKey = RedisKeyHelper.getViewRankingKey();
+
+        try {
+            rankingRedisTemplate.executePipelined(new SessionCallback<>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                    RedisOperations<String, Object> ops = (RedisOperations<String, Object>) operations;
+                    for (ViewCount viewCount : batch) {
+                        ops.opsForZSet().incrementScore(rankingKey, String.valueOf(viewCount.eventId()), viewCount.count());
+                    }
+                    return null;
+                }
+            });
+        } catch (Exception e) {
+            log.error("조회수 반영 실패. 다음 주기에 재시도합니다. 이벤트 수: {}", batch.size(), e);
+            batch.forEach(viewCount -> pendingViews
+                    .computeIfAbsent(viewCount.eventId(), id -> new LongAdder())
+                    .add(viewCount.count()));
+        }
+    }
+
+    private record ViewCount(Long eventId, long count) {
+    }
+}
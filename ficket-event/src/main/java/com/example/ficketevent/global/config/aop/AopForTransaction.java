@@ -1,15 +0,0 @@
-package com.example.ficketevent.global.config.aop;
-
-import org.aspectj.lang.ProceedingJoinPoint;
-import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Propagation;
-import org.springframework.transaction.annotation.Transactional;
-
-@Component
-public class AopForTransaction {
-
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
-    public Object proceed(final ProceedingJoinPoint joinPoint) throws Throwable {
-        return joinPoint.proceed();
-    }
-}
\ No newline at end of file
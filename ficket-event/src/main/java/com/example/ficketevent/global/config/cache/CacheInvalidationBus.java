@@ -0,0 +1,83 @@
+package com.example.ficketevent.global.config.cache;
+
+import com.example.ficketevent.global.utils.RedisKeyHelper;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * 인스턴스 로컬 캐시 무효화 메시지를 Redis pub/sub 으로 전파합니다.
+ * <p>
+ * 메시지 형식: {instanceId}\t{cacheName}[\t{key}] (key 가 없으면 캐시 전체 무효화)
+ * 자신이 발행한 메시지는 무시하며, 트랜잭션 안에서 발행하면 커밋 이후에 전파합니다.
+ */
+@Slf4j
+@Component
+public class CacheInvalidationBus {
+
+    private static final String SEPARATOR = "\t";
+
+    private final String instanceId = UUID.randomUUID().toString();
+    private final RTopic invalidationTopic;
+    private final Map<String, Consumer<String>> listeners = new ConcurrentHashMap<>();
+
+    public CacheInvalidationBus(RedissonClient redissonClient) {
+        this.invalidationTopic = redissonClient.getTopic(RedisKeyHelper.getCacheInvalidationTopic(), StringCodec.INSTANCE);
+    }
+
+    @PostConstruct
+    void subscribe() {
+        invalidationTopic.addListener(String.class, (channel, message) -> {
+            String[] parts = message.split(SEPARATOR, 3);
+            if (parts.length < 2 || instanceId.equals(parts[0])) {
+                return;
+            }
+
+            Consumer<String> listener = listeners.get(parts[1]);
+            if (listener != null) {
+                listener.accept(parts.length == 3 ? parts[2] : null);
+            }
+        });
+    }
+
+    /**
+     * 캐시 이름별 로컬 무효화 리스너를 등록합니다.
+     *
+     * @param evictLocal 무효화할 키를 받는 리스너 (null 이면 전체 무효화)
+     */
+    public void register(String cacheName, Consumer<String> evictLocal) {
+        listeners.put(cacheName, evictLocal);
+    }
+
+    /**
+     * 다른 인스턴스에 로컬 캐시 무효화를 전파합니다.
+     *
+     * @param key 무효화할 키 (null 이면 전체 무효화)
+     */
+    public void publish(String cacheName, String key) {
+        String message = key == null
+                ? instanceId + SEPARATOR + cacheName
+                : instanceId + SEPARATOR + cacheName + SEPARATOR + key;
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidationTopic.publish(message);
+                }
+            });
+            return;
+        }
+        invalidationTopic.publish(message);
+    }
+}
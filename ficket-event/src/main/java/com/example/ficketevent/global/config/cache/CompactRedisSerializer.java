@@ -0,0 +1,102 @@
+package com.example.ficketevent.global.config.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Factory;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * 바이너리(Smile) + 선택적 LZ4 압축 Redis 직렬화
+ * <p>
+ * 저장 형식: [형식 1바이트][본문]
+ * - 0x01: Smile
+ * - 0x02: LZ4 압축된 Smile ([원본 길이 4바이트][압축 본문])
+ * 첫 바이트가 형식 값이 아니면 기존 JSON 값으로 보고 JSON 직렬화로 읽습니다. (기존 키 마이그레이션)
+ * writeBinary 가 false 이면 JSON 으로 저장하되 바이너리 값도 읽을 수 있어, 전 인스턴스 배포 후 전환할 수 있습니다.
+ */
+public class CompactRedisSerializer implements RedisSerializer<Object> {
+
+    private static final byte SMILE = 0x01;
+    private static final byte SMILE_LZ4 = 0x02;
+    private static final int LZ4_HEADER_LENGTH = 1 + Integer.BYTES;
+    private static final LZ4Factory LZ4 = LZ4Factory.fastestInstance();
+
+    private final ObjectMapper smileMapper;
+    private final RedisSerializer<Object> jsonSerializer;
+    private final boolean writeBinary;
+    private final int compressionThreshold;
+
+    /**
+     * @param smileMapper          Smile 팩토리 기반 ObjectMapper (JSON 과 같은 타입 정보 설정)
+     * @param jsonSerializer       기존 JSON 직렬화
+     * @param writeBinary          바이너리로 저장할지 여부
+     * @param compressionThreshold 이 크기(byte) 이상이면 LZ4 압축 (0 이하면 압축하지 않음)
+     */
+    public CompactRedisSerializer(ObjectMapper smileMapper,
+                                  RedisSerializer<Object> jsonSerializer,
+                                  boolean writeBinary,
+                                  int compressionThreshold) {
+        this.smileMapper = smileMapper;
+        this.jsonSerializer = jsonSerializer;
+        this.writeBinary = writeBinary;
+        this.compressionThreshold = compressionThreshold;
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        if (!writeBinary) {
+            return jsonSerializer.serialize(value);
+        }
+        if (value == null) {
+            return new byte[0];
+        }
+
+        byte[] smile;
+        try {
+            smile = smileMapper.writeValueAsBytes(value);
+        } catch (Exception e) {
+            throw new SerializationException("Smile 직렬화 실패", e);
+        }
+
+        if (compressionThreshold <= 0 || smile.length < compressionThreshold) {
+            byte[] result = new byte[smile.length + 1];
+            result[0] = SMILE;
+            System.arraycopy(smile, 0, result, 1, smile.length);
+            return result;
+        }
+
+        LZ4Compressor compressor = LZ4.fastCompressor();
+        byte[] result = new byte[LZ4_HEADER_LENGTH + compressor.maxCompressedLength(smile.length)];
+        result[0] = SMILE_LZ4;
+        ByteBuffer.wrap(result, 1, Integer.BYTES).putInt(smile.length);
+        int compressedLength = compressor.compress(smile, 0, smile.length, result, LZ4_HEADER_LENGTH);
+        return Arrays.copyOf(result, LZ4_HEADER_LENGTH + compressedLength);
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+
+        try {
+            return switch (bytes[0]) {
+                case SMILE -> smileMapper.readValue(bytes, 1, bytes.length - 1, Object.class);
+                case SMILE_LZ4 -> {
+                    int originalLength = ByteBuffer.wrap(bytes, 1, Integer.BYTES).getInt();
+                    byte[] smile = LZ4.fastDecompressor().decompress(bytes, LZ4_HEADER_LENGTH, originalLength);
+                    yield smileMapper.readValue(smile, Object.class);
+                }
+                default -> jsonSerializer.deserialize(bytes);
+            };
+        } catch (SerializationException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new SerializationException("바이너리 역직렬화 실패", e);
+        }
+    }
+}
@@ -5,7 +5,9 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
 import com.fasterxml.jackson.databind.jsontype.PolymorphicTypeValidator;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
@@ -21,9 +23,13 @@ import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 import java.time.Duration;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static org.springframework.data.redis.serializer.RedisSerializationContext.SerializationPair.fromSerializer;
 
@@ -39,6 +45,17 @@ public class RedisCacheConfig {
     @Value("${spring.redis.cache.port}")
     private int port;
 
+    // 바이너리(Smile + LZ4)로 저장할 캐시 이름 목록 (나머지는 JSON 저장, 읽기는 두 형식 모두 지원)
+    @Value("${cache.serializer.binary-caches:}")
+    private List<String> binaryCaches;
+
+    // redisTemplate(이벤트 상세 등) 값을 바이너리로 저장할지 여부
+    @Value("${cache.serializer.binary-template:false}")
+    private boolean binaryTemplate;
+
+    @Value("${cache.serializer.compression-threshold:512}")
+    private int compressionThreshold;
+
 
     /**
      * Redis Connection Factory 생성
@@ -66,7 +83,7 @@ public class RedisCacheConfig {
         // Key Serializer 설정
         redisTemplate.setKeySerializer(new StringRedisSerializer());
         // Value Serializer 설정
-        redisTemplate.setValueSerializer(new GenericJackson2JsonRedisSerializer(objectMapper()));
+        redisTemplate.setValueSerializer(valueSerializer(binaryTemplate));
 
         return redisTemplate;
     }
@@ -75,34 +92,65 @@ public class RedisCacheConfig {
      * 기본 RedisCacheConfiguration 설정
      */
     private RedisCacheConfiguration defaultCacheConfiguration() {
+        return cacheConfiguration(false);
+    }
+
+    private RedisCacheConfiguration cacheConfiguration(boolean writeBinary) {
         return RedisCacheConfiguration
                 .defaultCacheConfig()
                 .disableCachingNullValues()
                 .serializeKeysWith(fromSerializer(new StringRedisSerializer()))
-                .serializeValuesWith(fromSerializer(new GenericJackson2JsonRedisSerializer(objectMapper())))
+                .serializeValuesWith(fromSerializer(valueSerializer(writeBinary)))
                 .entryTtl(Duration.ofDays(1L));
     }
 
     /**
-     * CacheManager 설정
+     * 값 직렬화 설정
+     * 저장 형식과 관계없이 JSON/바이너리 값을 모두 읽을 수 있어, 기존 키는 만료 또는 재저장 시 자연스럽게 전환됩니다.
+     */
+    private RedisSerializer<Object> valueSerializer(boolean writeBinary) {
+        return new CompactRedisSerializer(
+                configure(new ObjectMapper(new SmileFactory())),
+                new GenericJackson2JsonRedisSerializer(objectMapper()),
+                writeBinary,
+                compressionThreshold
+        );
+    }
+
+    /**
+     * CacheManager 설정 (로컬 Caffeine L1 + Redis L2)
      */
     @Bean
-    public CacheManager redisCacheManager(@Qualifier("redisCacheConnectionFactory") RedisConnectionFactory connectionFactory) {
-        return RedisCacheManager
+    public CacheManager cacheManager(@Qualifier("redisCacheConnectionFactory") RedisConnectionFactory connectionFactory,
+                                     CacheInvalidationBus cacheInvalidationBus,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${cache.local.max-size:10000}") long localMaxSize,
+                                     @Value("${cache.local.expire-seconds:60}") long localExpireSeconds) {
+        RedisCacheManager redisCacheManager = RedisCacheManager
                 .RedisCacheManagerBuilder
                 .fromConnectionFactory(connectionFactory)
                 .cacheDefaults(defaultCacheConfiguration())
+                .withInitialCacheConfigurations(binaryCaches.stream().distinct()
+                        .collect(Collectors.toMap(Function.identity(), cacheName -> cacheConfiguration(true))))
                 .build();
+        redisCacheManager.initializeCaches();
+
+        return new TwoLevelCacheManager(redisCacheManager, cacheInvalidationBus, meterRegistry,
+                localMaxSize, Duration.ofSeconds(localExpireSeconds));
     }
 
     private ObjectMapper objectMapper() {
+        return configure(new ObjectMapper())
+                .enable(SerializationFeature.INDENT_OUTPUT);
+    }
+
+    private ObjectMapper configure(ObjectMapper objectMapper) {
         PolymorphicTypeValidator typeValidator = BasicPolymorphicTypeValidator.builder()
                 .allowIfSubType(Object.class)
                 .build();
 
-        return new ObjectMapper()
+        return objectMapper
                 .findAndRegisterModules()
-                .enable(SerializationFeature.INDENT_OUTPUT)
                 .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
                 .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
                 .registerModule(new JavaTimeModule())
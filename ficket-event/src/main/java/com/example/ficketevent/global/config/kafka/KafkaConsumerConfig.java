@@ -1,14 +1,21 @@
 package com.example.ficketevent.global.config.kafka;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.common.TopicPartition;
 import org.apache.kafka.common.serialization.StringDeserializer;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.kafka.annotation.EnableKafka;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.core.ConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.util.backoff.FixedBackOff;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -20,6 +27,9 @@ public class KafkaConsumerConfig {
     @Value("${spring.kafka.bootstrap_servers}")
     private String BOOTSTRAP_SERVERS;
 
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreadsEnabled;
+
     @Bean
     public ConsumerFactory<String, String> consumerFactory() {
         Map<String, Object> properties = new HashMap<>();
@@ -45,7 +55,56 @@ public class KafkaConsumerConfig {
         kafkaListenerContainerFactory.setConsumerFactory(consumerFactory());
 
         // Kafka 메시지를 병렬로 처리하기 위한 설정을 추가할 수 있음(스레드 풀 크기, 에러 핸들링..)
+        configureListenerTaskExecutor(kafkaListenerContainerFactory);
+
+        return kafkaListenerContainerFactory;
+    }
+
+    // 주문 이벤트를 poll 단위로 묶어 처리하는 배치 KafkaListenerContainerFactory
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, String> orderBatchListenerContainerFactory(
+            KafkaTemplate<String, String> kafkaTemplate,
+            @Value("${kafka.order.consumer.concurrency:3}") int concurrency,
+            @Value("${kafka.order.consumer.max-poll-records:500}") int maxPollRecords,
+            @Value("${kafka.order.consumer.retry-interval-ms:1000}") long retryIntervalMs,
+            @Value("${kafka.order.consumer.max-retries:3}") long maxRetries) {
+        Map<String, Object> properties = new HashMap<>(consumerFactory().getConfigurationProperties());
+        properties.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, maxPollRecords);
+
+        ConcurrentKafkaListenerContainerFactory<String, String> kafkaListenerContainerFactory =
+                new ConcurrentKafkaListenerContainerFactory<>();
+        kafkaListenerContainerFactory.setConsumerFactory(new DefaultKafkaConsumerFactory<>(properties));
+        kafkaListenerContainerFactory.setBatchListener(true);
+        // 파티션 수 이하로 설정 (컨슈머 스레드당 파티션 할당)
+        kafkaListenerContainerFactory.setConcurrency(concurrency);
+        kafkaListenerContainerFactory.setCommonErrorHandler(orderErrorHandler(kafkaTemplate, retryIntervalMs, maxRetries));
+        configureListenerTaskExecutor(kafkaListenerContainerFactory);
 
         return kafkaListenerContainerFactory;
     }
+
+    /**
+     * 주문 배치 에러 핸들러
+     * - 리스너가 BatchListenerFailedException 으로 실패 인덱스를 알리면 앞 레코드 오프셋은 커밋하고 실패 레코드부터 재시도
+     * - 재시도를 모두 소진한 레코드는 {topic}.DLT 로 발행 (파티션은 브로커가 선택)
+     * - 역직렬화 실패는 재시도 없이 바로 DLT 로 이동
+     */
+    private DefaultErrorHandler orderErrorHandler(KafkaTemplate<String, String> kafkaTemplate, long retryIntervalMs, long maxRetries) {
+        DeadLetterPublishingRecoverer recoverer = new DeadLetterPublishingRecoverer(kafkaTemplate,
+                (record, exception) -> new TopicPartition(record.topic() + ".DLT", -1));
+
+        DefaultErrorHandler errorHandler = new DefaultErrorHandler(recoverer, new FixedBackOff(retryIntervalMs, maxRetries));
+        errorHandler.addNotRetryableExceptions(JsonProcessingException.class);
+        return errorHandler;
+    }
+
+    // 직접 정의한 컨테이너 팩토리는 Boot 자동 설정을 거치지 않으므로 가상 스레드 모드를 직접 반영
+    private void configureListenerTaskExecutor(ConcurrentKafkaListenerContainerFactory<?, ?> kafkaListenerContainerFactory) {
+        if (!virtualThreadsEnabled) {
+            return;
+        }
+        SimpleAsyncTaskExecutor listenerTaskExecutor = new SimpleAsyncTaskExecutor("kafka-listener-");
+        listenerTaskExecutor.setVirtualThreads(true);
+        kafkaListenerContainerFactory.getContainerProperties().setListenerTaskExecutor(listenerTaskExecutor);
+    }
 }
\ No newline at end of file
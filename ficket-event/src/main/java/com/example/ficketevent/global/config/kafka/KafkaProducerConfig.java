@@ -1,10 +1,12 @@
 package com.example.ficketevent.global.config.kafka;
 
+import com.example.ficketoutbox.OutboxConfiguration;
 import org.apache.kafka.clients.producer.ProducerConfig;
 import org.apache.kafka.common.serialization.StringSerializer;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
 import org.springframework.kafka.annotation.EnableKafka;
 import org.springframework.kafka.core.DefaultKafkaProducerFactory;
 import org.springframework.kafka.core.KafkaTemplate;
@@ -15,6 +17,7 @@ import java.util.Map;
 
 @Configuration
 @EnableKafka
+@Import(OutboxConfiguration.class) // 아웃박스 릴레이 / processed_event 정리
 public class KafkaProducerConfig {
 
     @Value("${spring.kafka.bootstrap_servers}")
@@ -31,8 +34,9 @@ public class KafkaProducerConfig {
         properties.put(ProducerConfig.RETRIES_CONFIG, 3); // 메시지 전송 실패 시 재시도 횟수
         properties.put(ProducerConfig.RETRY_BACKOFF_MS_CONFIG, 500); // 재시도 간격 (500ms)
         properties.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true); // 중복 방지 (Idempotent Producer)
-        properties.put(ProducerConfig.BATCH_SIZE_CONFIG, 16384); // 배치 크기 (16KB)
-        properties.put(ProducerConfig.LINGER_MS_CONFIG, 5); // 배치 대기 시간 (5ms)
+        properties.put(ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION, 5); // 멱등성 + 순서 보장 한도
+        properties.put(ProducerConfig.BATCH_SIZE_CONFIG, 65536); // 배치 크기 (64KB, 아웃박스 릴레이 일괄 전송)
+        properties.put(ProducerConfig.LINGER_MS_CONFIG, 10); // 배치 대기 시간 (10ms)
 
         return new DefaultKafkaProducerFactory<>(properties);
     }
@@ -0,0 +1,143 @@
+package com.example.ficketevent.global.config.redisson;
+
+import com.example.ficketevent.domain.event.dto.response.SeatLayout;
+import com.example.ficketevent.domain.event.repository.SeatLockRedisRepository;
+import com.example.ficketevent.domain.event.repository.SeatLockRedisRepository.SeatLockResult;
+import com.example.ficketevent.domain.event.service.SeatLayoutService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RMapCache;
+import org.redisson.api.RedissonClient;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Redisson RMapCache 좌석 선점 키 이관 (1회성)
+ *
+ * 이전 버전은 좌석 선점을 RMapCache(ficket:seats:{eventScheduleId}, 사용자별 ficket:user:{userId}:events)에 저장했고,
+ * 새 버전은 HASH + 만료 ZSET(ficket:seats:{eventScheduleId}:state / :expiry)만 읽는다.
+ * 선점이 남은 상태로 배포하면 해당 좌석이 빈 좌석으로 보여 다른 사용자가 다시 선점할 수 있다.
+ *
+ * 전환 절차
+ * 1. 이전 버전 인스턴스를 모두 내린다. (이관 중 이전 키에 쓰기가 없어야 함)
+ * 2. 새 버전 인스턴스 1대를 seat.migration.legacy-locks.enabled=true 로 기동하여 이관 완료 로그를 확인한다.
+ * 3. 설정을 제거하고 나머지 인스턴스를 기동한다.
+ *
+ * 이관 내용 (이벤트 일정별)
+ * - 만료되지 않은 좌석을 사용자별로 묶어 좌석 선점 Lua 스크립트로 다시 선점 (상태 HASH, 만료 ZSET, 순번, 비트맵, 사용자 선점 키)
+ * - 남은 TTL 은 사용자별로 가장 긴 값을 사용 (이관으로 선점이 먼저 풀리지 않도록)
+ * - 이관한 이전 좌석 키와 사용자 키는 삭제
+ *
+ * 키 탐색에 SCAN 을 사용하지만 전체 키를 훑으므로 트래픽이 없는 전환 시점에만 실행한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "seat.migration.legacy-locks.enabled", havingValue = "true")
+public class LegacySeatLockMigration implements ApplicationRunner {
+
+    private static final Pattern LEGACY_SEAT_KEY = Pattern.compile("ficket:seats:(\\d+)");
+    private static final Pattern LEGACY_USER_KEY = Pattern.compile("ficket:user:\\d+:events");
+    private static final String SEAT_FIELD_PREFIX = "seat_";
+
+    private final RedissonClient redissonClient;
+    private final SeatLockRedisRepository seatLockRedisRepository;
+    private final SeatLayoutService seatLayoutService;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        int schedules = 0;
+        int seats = 0;
+        for (String legacySeatKey : redissonClient.getKeys().getKeysByPattern("ficket:seats:*")) {
+            // 새 형식 키(ficket:seats:{id}:state 등)는 건너뜀
+            Matcher matcher = LEGACY_SEAT_KEY.matcher(legacySeatKey);
+            if (!matcher.matches()) {
+                continue;
+            }
+
+            Long eventScheduleId = Long.parseLong(matcher.group(1));
+            try {
+                seats += migrateSchedule(eventScheduleId, legacySeatKey);
+                schedules++;
+            } catch (Exception e) {
+                log.error("[SEAT MIGRATION] failed | eventScheduleId={}", eventScheduleId, e);
+            }
+        }
+
+        int users = 0;
+        for (String legacyUserKey : redissonClient.getKeys().getKeysByPattern("ficket:user:*:events")) {
+            if (LEGACY_USER_KEY.matcher(legacyUserKey).matches()) {
+                redissonClient.getMapCache(legacyUserKey).delete();
+                users++;
+            }
+        }
+
+        log.info("[SEAT MIGRATION] legacy seat locks migrated | schedules={}, seats={}, users={}", schedules, seats, users);
+    }
+
+    private int migrateSchedule(Long eventScheduleId, String legacySeatKey) throws JsonProcessingException {
+        RMapCache<String, String> legacySeats = redissonClient.getMapCache(legacySeatKey);
+        SeatLayout seatLayout = seatLayoutService.getSeatLayout(eventScheduleId);
+        long fullTtlMillis = RedisTTLConstants.SEAT_LOCK_TIME_UNIT.toMillis(RedisTTLConstants.SEAT_PREOCCUPY_TTL);
+
+        Map<Long, UserSeats> userSeats = new HashMap<>();
+        for (Map.Entry<String, String> entry : legacySeats.readAllMap().entrySet()) {
+            long ttlMillis = legacySeats.remainTimeToLive(entry.getKey());
+            if (ttlMillis == -2) {
+                continue; // 읽는 사이 만료
+            }
+
+            Long seatMappingId = Long.parseLong(entry.getKey().substring(SEAT_FIELD_PREFIX.length()));
+            int ordinal = seatLayout.ordinalOf(seatMappingId);
+            if (ordinal < 0) {
+                log.warn("[SEAT MIGRATION] seat not in layout | eventScheduleId={}, seatMappingId={}", eventScheduleId, seatMappingId);
+                continue;
+            }
+
+            Long userId = objectMapper.readTree(entry.getValue()).path("userId").asLong();
+            userSeats.computeIfAbsent(userId, id -> new UserSeats())
+                    .add(seatMappingId, entry.getValue(), ordinal, ttlMillis < 0 ? fullTtlMillis : ttlMillis);
+        }
+
+        int migrated = 0;
+        for (Map.Entry<Long, UserSeats> entry : userSeats.entrySet()) {
+            UserSeats seats = entry.getValue();
+            SeatLockResult result = seatLockRedisRepository.lockSeats(
+                    eventScheduleId, entry.getKey(), seats.seatInfos, seats.seatOrdinals, seats.ttlMillis);
+
+            if (result.isSuccess()) {
+                migrated += seats.seatInfos.size();
+            } else {
+                log.error("[SEAT MIGRATION] lock conflict | eventScheduleId={}, userId={}, seats={}, userAlreadyReserved={}, conflicts={}",
+                        eventScheduleId, entry.getKey(), seats.seatInfos.keySet(), result.userAlreadyReserved(), result.conflictSeatIds());
+            }
+        }
+
+        legacySeats.delete();
+        log.info("[SEAT MIGRATION] eventScheduleId={}, users={}, seats={}", eventScheduleId, userSeats.size(), migrated);
+        return migrated;
+    }
+
+    private static class UserSeats {
+        private final Map<Long, String> seatInfos = new LinkedHashMap<>();
+        private final Map<Long, Integer> seatOrdinals = new HashMap<>();
+        private long ttlMillis;
+
+        void add(Long seatMappingId, String seatInfo, int ordinal, long remainTtlMillis) {
+            seatInfos.put(seatMappingId, seatInfo);
+            seatOrdinals.put(seatMappingId, ordinal);
+            ttlMillis = Math.max(ttlMillis, remainTtlMillis);
+        }
+    }
+}
@@ -4,5 +4,7 @@ import java.util.concurrent.TimeUnit;
 
 public class RedisTTLConstants {
     public static final long SEAT_LOCK_LEASE_TIME = 480L; // 8분
+    public static final long SEAT_PREOCCUPY_TTL = 540L; // 9분
+    public static final long SEAT_STATE_BITMAP_TTL = 600L; // 10분 (DB 와의 불일치 자가 복구 주기)
     public static final TimeUnit SEAT_LOCK_TIME_UNIT = TimeUnit.SECONDS;
 }
@@ -23,6 +23,8 @@ public class RedissonConfig {
         RedissonClient redissonClient = null;
         Config config = new Config();
         config.useSingleServer().setAddress(REDISSON_HOST_PREFIX + host + ":" + port);
+        // Lua 스크립트를 EVALSHA 로 실행 (NOSCRIPT 시 자동 재적재)
+        config.setUseScriptCache(true);
         redissonClient = Redisson.create(config);
         return redissonClient;
     }
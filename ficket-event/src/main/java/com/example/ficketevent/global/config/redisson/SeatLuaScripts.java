@@ -0,0 +1,353 @@
+package com.example.ficketevent.global.config.redisson;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * 좌석 선점 Redis Lua 스크립트 관리
+ *
+ * - 좌석 상태: HASH (field = seat_{seatMappingId}, value = 좌석 정보 JSON)
+ * - 좌석 만료: ZSET (member = seat_{seatMappingId}, score = 만료 시각 ms)
+ * - 좌석 순번: HASH (field = seat_{seatMappingId}, value = 좌석 배치 내 순번)
+ * - 좌석 상태 비트맵: STRING (좌석당 2비트, [2 * 순번] = 선점, [2 * 순번 + 1] = 구매)
+ * - 좌석 변경 버전: HASH (current = 현재 버전, floor = 잘려 나간 마지막 버전)
+ * - 좌석 변경 이력: ZSET (member = {버전}:{순번}, score = 버전)
+ * - 사용자 선점 좌석: STRING (value = [좌석 ID 목록], PX TTL)
+ */
+@Component
+public class SeatLuaScripts {
+
+    /**
+     * 좌석 변경 이력 기록 (공통)
+     * - 변경 묶음마다 버전을 1 증가시키고 변경된 순번을 기록
+     * - 최근 5000건만 유지하며, 잘려 나간 마지막 버전을 floor 로 저장
+     */
+    private static final String APPEND_SEAT_CHANGES = """
+        local function appendSeatChanges(versionKey, changeLogKey, ordinals)
+            if #ordinals == 0 then
+                return
+            end
+
+            local version = redis.call('HINCRBY', versionKey, 'current', 1)
+            for _, ordinal in ipairs(ordinals) do
+                redis.call('ZADD', changeLogKey, version, version .. ':' .. ordinal)
+            end
+
+            local overflow = redis.call('ZCARD', changeLogKey) - 5000
+            if overflow > 0 then
+                local last = redis.call('ZRANGE', changeLogKey, overflow - 1, overflow - 1, 'WITHSCORES')
+                redis.call('HSET', versionKey, 'floor', last[2])
+                redis.call('ZREMRANGEBYRANK', changeLogKey, 0, overflow - 1)
+            end
+
+            redis.call('PEXPIRE', versionKey, 86400000)
+            redis.call('PEXPIRE', changeLogKey, 86400000)
+        end
+        """;
+
+    /**
+     * 만료된 좌석 정리 (공통)
+     * - 비트맵이 존재하면 선점 비트도 함께 해제
+     * - 정리된 좌석 순번은 purgedOrdinals 에 수집
+     *
+     * KEYS[1] = seatKey
+     * KEYS[2] = seatExpiryKey
+     * KEYS[3] = seatOrdinalKey
+     * KEYS[4] = seatStateBitmapKey
+     */
+    private static final String PURGE_EXPIRED_SEATS = """
+        local time = redis.call('TIME')
+        local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+        local hasBitmap = redis.call('EXISTS', KEYS[4]) == 1
+        local purgedOrdinals = {}
+
+        local expired = redis.call('ZRANGEBYSCORE', KEYS[2], '-inf', now, 'LIMIT', 0, 1000)
+        for _, seatField in ipairs(expired) do
+            local ordinal = redis.call('HGET', KEYS[3], seatField)
+            if ordinal then
+                if hasBitmap then
+                    redis.call('SETBIT', KEYS[4], tonumber(ordinal) * 2, 0)
+                end
+                table.insert(purgedOrdinals, ordinal)
+            end
+            redis.call('HDEL', KEYS[1], seatField)
+            redis.call('HDEL', KEYS[3], seatField)
+            redis.call('ZREM', KEYS[2], seatField)
+        end
+        """;
+
+    /**
+     * 다중 좌석 선점 (all-or-nothing)
+     * - 만료된 좌석 정리
+     * - 사용자 기존 선점 여부 + 요청 좌석 전체 충돌 여부 확인
+     * - 충돌이 없을 때만 좌석/사용자 정보를 TTL 과 함께 저장하고 선점 비트 설정
+     *
+     * KEYS[1] = seatKey
+     * KEYS[2] = seatExpiryKey
+     * KEYS[3] = seatOrdinalKey
+     * KEYS[4] = seatStateBitmapKey
+     * KEYS[5] = userEventKey
+     * KEYS[6] = seatActiveSchedulesKey
+     * KEYS[7] = seatVersionKey
+     * KEYS[8] = seatChangeLogKey
+     *
+     * ARGV[1] = ttlMillis
+     * ARGV[2] = 사용자 선점 좌석 목록 ([1,2,3])
+     * ARGV[3] = eventScheduleId
+     * ARGV[4..] = (seatField, seatInfo, ordinal) 묶음
+     *
+     * return {1} = 선점 성공
+     * return {0, seatField...} = 이미 선점된 좌석 존재
+     * return {-1} = 사용자가 이미 좌석을 선점한 상태
+     */
+    public String getLockSeatsScript() {
+        return APPEND_SEAT_CHANGES + PURGE_EXPIRED_SEATS + """
+        appendSeatChanges(KEYS[7], KEYS[8], purgedOrdinals)
+
+        -- 사용자 기존 선점 여부 확인
+        if redis.call('EXISTS', KEYS[5]) == 1 then
+            return { -1 }
+        end
+
+        -- 요청 좌석 전체 충돌 확인
+        local conflicts = { 0 }
+        for i = 4, #ARGV, 3 do
+            if redis.call('HEXISTS', KEYS[1], ARGV[i]) == 1 then
+                table.insert(conflicts, ARGV[i])
+            end
+        end
+
+        if #conflicts > 1 then
+            return conflicts
+        end
+
+        -- 좌석 + 순번 + 사용자 정보 저장
+        local ttl = tonumber(ARGV[1])
+        local expireAt = now + ttl
+        local lockedOrdinals = {}
+        for i = 4, #ARGV, 3 do
+            redis.call('HSET', KEYS[1], ARGV[i], ARGV[i + 1])
+            redis.call('ZADD', KEYS[2], expireAt, ARGV[i])
+            redis.call('HSET', KEYS[3], ARGV[i], ARGV[i + 2])
+            if hasBitmap then
+                redis.call('SETBIT', KEYS[4], tonumber(ARGV[i + 2]) * 2, 1)
+            end
+            table.insert(lockedOrdinals, ARGV[i + 2])
+        end
+        redis.call('SET', KEYS[5], ARGV[2], 'PX', ttl)
+        redis.call('SADD', KEYS[6], ARGV[3])
+        appendSeatChanges(KEYS[7], KEYS[8], lockedOrdinals)
+
+        -- 마지막 선점 이후 전체 만료 시 키 자체 정리 (만료 정리 스케줄러가 비트를 해제할 수 있도록 여유 시간 부여)
+        local keyTtl = ttl + 60000
+        redis.call('PEXPIRE', KEYS[1], keyTtl)
+        redis.call('PEXPIRE', KEYS[2], keyTtl)
+        redis.call('PEXPIRE', KEYS[3], keyTtl)
+
+        return { 1 }
+        """;
+    }
+
+    /**
+     * 좌석 선점 해제
+     *
+     * KEYS[1] = seatKey
+     * KEYS[2] = seatExpiryKey
+     * KEYS[3] = seatOrdinalKey
+     * KEYS[4] = seatStateBitmapKey
+     * KEYS[5] = userEventKey
+     * KEYS[6] = seatVersionKey
+     * KEYS[7] = seatChangeLogKey
+     *
+     * ARGV[1..] = seatField
+     *
+     * return 해제된 좌석 수
+     */
+    public String getReleaseSeatsScript() {
+        return APPEND_SEAT_CHANGES + """
+        local hasBitmap = redis.call('EXISTS', KEYS[4]) == 1
+
+        local released = 0
+        local releasedOrdinals = {}
+        for i = 1, #ARGV do
+            local ordinal = redis.call('HGET', KEYS[3], ARGV[i])
+            if ordinal then
+                if hasBitmap then
+                    redis.call('SETBIT', KEYS[4], tonumber(ordinal) * 2, 0)
+                end
+                table.insert(releasedOrdinals, ordinal)
+            end
+            released = released + redis.call('HDEL', KEYS[1], ARGV[i])
+            redis.call('HDEL', KEYS[3], ARGV[i])
+            redis.call('ZREM', KEYS[2], ARGV[i])
+        end
+
+        redis.call('DEL', KEYS[5])
+        appendSeatChanges(KEYS[6], KEYS[7], releasedOrdinals)
+
+        return released
+        """;
+    }
+
+    /**
+     * 만료된 좌석 선점 정리 (스케줄러)
+     * - 남은 선점 좌석이 없으면 활성 일정 목록에서 제거
+     *
+     * KEYS[1] = seatKey
+     * KEYS[2] = seatExpiryKey
+     * KEYS[3] = seatOrdinalKey
+     * KEYS[4] = seatStateBitmapKey
+     * KEYS[5] = seatActiveSchedulesKey
+     * KEYS[6] = seatVersionKey
+     * KEYS[7] = seatChangeLogKey
+     *
+     * ARGV[1] = eventScheduleId
+     *
+     * return 남은 선점 좌석 수
+     */
+    public String getSweepExpiredSeatsScript() {
+        return APPEND_SEAT_CHANGES + PURGE_EXPIRED_SEATS + """
+        appendSeatChanges(KEYS[6], KEYS[7], purgedOrdinals)
+
+        local remaining = redis.call('ZCARD', KEYS[2])
+        if remaining == 0 then
+            redis.call('SREM', KEYS[5], ARGV[1])
+        end
+
+        return remaining
+        """;
+    }
+
+    /**
+     * 만료되지 않은 좌석 정보 조회
+     *
+     * KEYS[1] = seatKey
+     * KEYS[2] = seatExpiryKey
+     *
+     * ARGV[1] = seatField
+     *
+     * return 좌석 정보 JSON (없거나 만료 시 nil)
+     */
+    public String getFindSeatScript() {
+        return """
+        local expireAt = redis.call('ZSCORE', KEYS[2], ARGV[1])
+        if not expireAt then
+            return nil
+        end
+
+        local time = redis.call('TIME')
+        local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+        if tonumber(expireAt) <= now then
+            return nil
+        end
+
+        return redis.call('HGET', KEYS[1], ARGV[1])
+        """;
+    }
+
+    /**
+     * 좌석 상태 비트맵 조회 (없으면 초기화)
+     * - DB 기준 구매 비트맵을 저장한 뒤 현재 유효한 선점 비트를 덧씌움
+     *
+     * KEYS[1] = seatStateBitmapKey
+     * KEYS[2] = seatExpiryKey
+     * KEYS[3] = seatOrdinalKey
+     *
+     * ARGV[1] = 구매 비트맵 (byte[])
+     * ARGV[2] = 비트맵 TTL (ms)
+     *
+     * return 좌석 상태 비트맵
+     */
+    public String getInitSeatStateBitmapScript() {
+        return """
+        local bitmap = redis.call('GET', KEYS[1])
+        if bitmap then
+            return bitmap
+        end
+
+        redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[2])
+
+        local time = redis.call('TIME')
+        local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+        local locked = redis.call('ZRANGEBYSCORE', KEYS[2], '(' .. now, '+inf')
+        for _, seatField in ipairs(locked) do
+            local ordinal = redis.call('HGET', KEYS[3], seatField)
+            if ordinal then
+                redis.call('SETBIT', KEYS[1], tonumber(ordinal) * 2, 1)
+            end
+        end
+
+        return redis.call('GET', KEYS[1])
+        """;
+    }
+
+    /**
+     * 구매 비트 갱신
+     * - 비트맵이 아직 없으면 다음 조회 시 DB 기준으로 초기화되므로 변경 이력만 기록
+     *
+     * KEYS[1] = seatStateBitmapKey
+     * KEYS[2] = seatVersionKey
+     * KEYS[3] = seatChangeLogKey
+     *
+     * ARGV[1] = 비트 값 (1 = 구매, 0 = 환불)
+     * ARGV[2..] = ordinal
+     *
+     * return 1 = 갱신, 0 = 비트맵 없음
+     */
+    public String getUpdatePurchasedBitsScript() {
+        return APPEND_SEAT_CHANGES + """
+        local ordinals = {}
+        for i = 2, #ARGV do
+            table.insert(ordinals, ARGV[i])
+        end
+        appendSeatChanges(KEYS[2], KEYS[3], ordinals)
+
+        if redis.call('EXISTS', KEYS[1]) == 0 then
+            return 0
+        end
+
+        local value = tonumber(ARGV[1])
+        for _, ordinal in ipairs(ordinals) do
+            redis.call('SETBIT', KEYS[1], tonumber(ordinal) * 2 + 1, value)
+        end
+
+        return 1
+        """;
+    }
+
+    /**
+     * 특정 버전 이후 좌석 변경 조회
+     * - 비트맵 + 변경 순번을 한 번에 읽어 버전과 상태를 일관되게 반환
+     * - 요청 버전이 이력 범위를 벗어나면 전체 조회(full = 1)
+     *
+     * KEYS[1] = seatStateBitmapKey
+     * KEYS[2] = seatVersionKey
+     * KEYS[3] = seatChangeLogKey
+     *
+     * ARGV[1] = 클라이언트가 가진 버전 (없으면 -1)
+     *
+     * return { 현재 버전, full(1/0), 비트맵(없으면 생략), 변경 순번... }
+     */
+    public String getFindSeatChangesScript() {
+        return """
+        local bitmap = redis.call('GET', KEYS[1])
+        local current = tonumber(redis.call('HGET', KEYS[2], 'current') or '0')
+        if not bitmap then
+            return { current, 1 }
+        end
+
+        local since = tonumber(ARGV[1])
+        local floor = tonumber(redis.call('HGET', KEYS[2], 'floor') or '0')
+        if since < floor or since > current then
+            return { current, 1, bitmap }
+        end
+
+        local result = { current, 0, bitmap }
+        local changes = redis.call('ZRANGEBYSCORE', KEYS[3], '(' .. since, '+inf')
+        for _, change in ipairs(changes) do
+            table.insert(result, tonumber(string.sub(change, string.find(change, ':') + 1)))
+        end
+
+        return result
+        """;
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.ficketevent.global.config.scheduler;
+
+import com.example.ficketevent.domain.event.repository.SeatLockRedisRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SeatLockSweepScheduler {
+
+    private final SeatLockRedisRepository seatLockRedisRepository;
+
+    /**
+     * 만료된 좌석 선점을 정리하여 좌석 상태 비트맵의 선점 비트를 해제
+     */
+    @Scheduled(fixedDelayString = "${seat.lock.sweep-ms:1000}")
+    public void sweepExpiredSeatLocks() {
+        for (Long eventScheduleId : seatLockRedisRepository.findActiveScheduleIds()) {
+            try {
+                seatLockRedisRepository.sweepExpiredSeats(eventScheduleId);
+            } catch (Exception e) {
+                log.error("만료 좌석 정리 중 오류 발생. EventScheduleId: {}", eventScheduleId, e);
+            }
+        }
+    }
+}
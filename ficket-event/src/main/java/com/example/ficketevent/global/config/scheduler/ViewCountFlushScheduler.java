@@ -0,0 +1,21 @@
+package com.example.ficketevent.global.config.scheduler;
+
+import com.example.ficketevent.domain.event.service.ViewCountBuffer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class ViewCountFlushScheduler {
+
+    private final ViewCountBuffer viewCountBuffer;
+
+    /**
+     * 버퍼에 누적된 이벤트 조회수를 랭킹 Redis 에 반영
+     */
+    @Scheduled(fixedDelayString = "${event.view-count.flush-ms:200}")
+    public void flushViewCounts() {
+        viewCountBuffer.flush();
+    }
+}
@@ -46,6 +46,7 @@ public enum ErrorCode {
     EMPTY_SEATS_EXCEPTION(400, "선택된 좌석이 없습니다. 요청을 확인해주세요."),
     EXCEED_SEAT_RESERVATION_LIMIT(409, "1인당 예매 제한을 초과했습니다."),
     USER_ALREADY_HAS_RESERVED_SEATS(409, "사용자는 해당 이벤트에서 이미 좌석을 예약했습니다."),
+    ADMISSION_EVENT_MISMATCH(403, "입장한 공연과 요청한 공연이 일치하지 않습니다."),
     SEAT_RESERVED_BY_ANOTHER_USER(409, "해당 좌석은 다른 고객에 의해 선점됐습니다."),
     SEAT_NOT_RESERVED(409, "해당 좌석은 선점 상태가 아닙니다."),
     SEAT_UNLOCK_FAILED(400, "좌석 선점 해제에 실패했습니다."),
@@ -14,18 +14,50 @@ public class RedisKeyHelper {
         return KeyType.SEAT_STATE.format(eventScheduleId);
     }
 
-    public static String getUserKey(Long userId) {
-        return KeyType.USER_EVENT.format(userId);
+    public static String getSeatExpiryKey(Long eventScheduleId) {
+        return KeyType.SEAT_EXPIRY.format(eventScheduleId);
     }
 
-    public static String getLockKey(Long eventScheduleId, Long seatMappingId) {
-        return KeyType.SEAT_LOCK.format(eventScheduleId, seatMappingId);
+    public static String getUserEventKey(Long userId, Long eventScheduleId) {
+        return KeyType.USER_EVENT.format(userId, eventScheduleId);
+    }
+
+    public static String getSeatOrdinalKey(Long eventScheduleId) {
+        return KeyType.SEAT_ORDINAL.format(eventScheduleId);
+    }
+
+    public static String getSeatStateBitmapKey(Long eventScheduleId) {
+        return KeyType.SEAT_STATE_BITMAP.format(eventScheduleId);
+    }
+
+    public static String getSeatVersionKey(Long eventScheduleId) {
+        return KeyType.SEAT_VERSION.format(eventScheduleId);
+    }
+
+    public static String getSeatChangeLogKey(Long eventScheduleId) {
+        return KeyType.SEAT_CHANGE_LOG.format(eventScheduleId);
+    }
+
+    public static String getSeatActiveSchedulesKey() {
+        return KeyType.SEAT_ACTIVE_SCHEDULES.format();
+    }
+
+    public static String getSeatLayoutInvalidationTopic() {
+        return KeyType.SEAT_LAYOUT_INVALIDATION.format();
     }
 
     public static String getEventDetailCacheKey(Long eventId) {
         return KeyType.EVENT_DETAIL_CACHE.format(eventId);
     }
 
+    public static String getEventDetailLeaseKey(Long eventId) {
+        return KeyType.EVENT_DETAIL_LEASE.format(eventId);
+    }
+
+    public static String getCacheInvalidationTopic() {
+        return KeyType.CACHE_INVALIDATION.format();
+    }
+
     public static String getViewRankingKey() {
         return KeyType.EVENT_VIEW_RANKING.format();
     }
@@ -0,0 +1,121 @@
+package com.example.ficketevent.domain.event.messagequeue;
+
+import com.example.ficketevent.domain.event.dto.kafka.OrderDto;
+import com.example.ficketevent.domain.event.service.StageSeatService;
+import com.example.ficketoutbox.entity.ProcessedEvent;
+import com.example.ficketoutbox.messagequeue.OutboxRelay;
+import com.example.ficketoutbox.repository.ProcessedEventRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * 주문 생성 이벤트 일괄 수신 / processed_event 중복 제거 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class OrderConsumerTest {
+
+    private static final String TOPIC = "order-events";
+
+    @Mock
+    private StageSeatService stageSeatService;
+
+    @Mock
+    private ProcessedEventRepository processedEventRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private OrderConsumer orderConsumer;
+
+    @BeforeEach
+    void setUp() {
+        orderConsumer = new OrderConsumer(stageSeatService, processedEventRepository, objectMapper,
+                new TransactionTemplate(transactionManager));
+    }
+
+    @Test
+    @DisplayName("처음 받은 메시지는 처리 기록을 남기고 좌석 할당을 처리한다")
+    void handleNewMessage() throws Exception {
+        when(processedEventRepository.existsById("order-events:1")).thenReturn(false);
+
+        orderConsumer.createOrders(List.of(record(0, "order-events:1", 100L)));
+
+        ArgumentCaptor<ProcessedEvent> processed = ArgumentCaptor.forClass(ProcessedEvent.class);
+        verify(processedEventRepository).save(processed.capture());
+        assertThat(processed.getValue().getMessageId()).isEqualTo("order-events:1");
+        verify(stageSeatService).handleOrderCreatedEvent(argThat(order -> order.getOrderId().equals(100L)), any());
+        verify(stageSeatService).applyPurchasedSeatUpdates(any());
+    }
+
+    @Test
+    @DisplayName("이미 처리한 outbox-id 메시지는 건너뛴다")
+    void skipProcessedMessage() throws Exception {
+        when(processedEventRepository.existsById("order-events:1")).thenReturn(true);
+        when(processedEventRepository.existsById("order-events:2")).thenReturn(false);
+
+        orderConsumer.createOrders(List.of(
+                record(0, "order-events:1", 100L),
+                record(1, "order-events:2", 200L)));
+
+        verify(stageSeatService, never()).handleOrderCreatedEvent(argThat(order -> order.getOrderId().equals(100L)), any());
+        verify(stageSeatService).handleOrderCreatedEvent(argThat(order -> order.getOrderId().equals(200L)), any());
+        verify(processedEventRepository, times(1)).save(any());
+    }
+
+    @Test
+    @DisplayName("outbox-id 헤더가 없는 메시지는 중복 확인 없이 처리한다")
+    void handleMessageWithoutHeader() throws Exception {
+        orderConsumer.createOrders(List.of(record(0, null, 100L)));
+
+        verifyNoInteractions(processedEventRepository);
+        verify(stageSeatService).handleOrderCreatedEvent(any(), any());
+    }
+
+    @Test
+    @DisplayName("처리에 실패하면 실패한 레코드 인덱스를 알리고 앞서 커밋된 반영분은 적용한다")
+    void reportFailedIndex() throws Exception {
+        when(processedEventRepository.existsById(any())).thenReturn(false);
+        doNothing().doThrow(new IllegalStateException("db down"))
+                .when(stageSeatService).handleOrderCreatedEvent(any(), any());
+
+        assertThatThrownBy(() -> orderConsumer.createOrders(List.of(
+                record(0, "order-events:1", 100L),
+                record(1, "order-events:2", 200L))))
+                .isInstanceOfSatisfying(BatchListenerFailedException.class,
+                        e -> assertThat(e.getIndex()).isEqualTo(1));
+
+        verify(transactionManager).rollback(any());
+        verify(stageSeatService).applyPurchasedSeatUpdates(any());
+    }
+
+    private ConsumerRecord<String, String> record(long offset, String messageId, Long orderId) throws Exception {
+        String payload = objectMapper.writeValueAsString(new OrderDto(1L, orderId, Set.of(10L), orderId));
+        ConsumerRecord<String, String> record = new ConsumerRecord<>(TOPIC, 0, offset, "1", payload);
+        if (messageId != null) {
+            record.headers().add(OutboxRelay.OUTBOX_ID_HEADER, messageId.getBytes(StandardCharsets.UTF_8));
+        }
+        return record;
+    }
+}
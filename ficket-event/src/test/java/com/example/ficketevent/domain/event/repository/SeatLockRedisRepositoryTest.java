@@ -0,0 +1,160 @@
+package com.example.ficketevent.domain.event.repository;
+
+import com.example.ficketevent.domain.event.repository.SeatLockRedisRepository.SeatLockResult;
+import com.example.ficketevent.global.config.redisson.SeatLuaScripts;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.Redisson;
+import org.redisson.api.RedissonClient;
+import org.redisson.config.Config;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 좌석 선점 / 해제 / 만료 정리 Lua 스크립트 테스트
+ */
+class SeatLockRedisRepositoryTest {
+
+    private static final Long EVENT_SCHEDULE_ID = 1L;
+    private static final long TTL_MILLIS = 60_000L;
+
+    private static RedisServer redisServer;
+    private static RedissonClient redissonClient;
+
+    private SeatLockRedisRepository seatLockRedisRepository;
+    private SeatStateRedisRepository seatStateRedisRepository;
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        int port = freePort();
+        redisServer = new RedisServer(port);
+        redisServer.start();
+
+        Config config = new Config();
+        config.useSingleServer().setAddress("redis://localhost:" + port);
+        redissonClient = Redisson.create(config);
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+        redissonClient.shutdown();
+        redisServer.stop();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redissonClient.getKeys().flushdb();
+        SeatLuaScripts seatLuaScripts = new SeatLuaScripts();
+        seatLockRedisRepository = new SeatLockRedisRepository(redissonClient, seatLuaScripts);
+        seatStateRedisRepository = new SeatStateRedisRepository(redissonClient, seatLuaScripts);
+    }
+
+    @Test
+    @DisplayName("요청 좌석 전체를 선점하고 사용자 선점 정보를 저장한다")
+    void lockSeats() {
+        SeatLockResult result = lock(1L, Map.of(10L, 0, 11L, 1), TTL_MILLIS);
+
+        assertThat(result.isSuccess()).isTrue();
+        assertThat(seatLockRedisRepository.findSeatInfo(EVENT_SCHEDULE_ID, 10L)).isEqualTo(seatInfo(10L));
+        assertThat(seatLockRedisRepository.findReservedSeatIds(1L, EVENT_SCHEDULE_ID)).containsExactlyInAnyOrder(10L, 11L);
+        assertThat(seatLockRedisRepository.hasReservedSeats(1L, EVENT_SCHEDULE_ID)).isTrue();
+        assertThat(seatLockRedisRepository.findActiveScheduleIds()).containsExactly(EVENT_SCHEDULE_ID);
+    }
+
+    @Test
+    @DisplayName("이미 좌석을 선점한 사용자는 다시 선점할 수 없다")
+    void rejectUserWithReservedSeats() {
+        lock(1L, Map.of(10L, 0), TTL_MILLIS);
+
+        SeatLockResult result = lock(1L, Map.of(11L, 1), TTL_MILLIS);
+
+        assertThat(result.userAlreadyReserved()).isTrue();
+        assertThat(seatLockRedisRepository.findSeatInfo(EVENT_SCHEDULE_ID, 11L)).isNull();
+    }
+
+    @Test
+    @DisplayName("하나라도 선점된 좌석이 있으면 아무 좌석도 선점하지 않고 충돌 좌석을 반환한다")
+    void allOrNothingOnConflict() {
+        lock(1L, Map.of(10L, 0), TTL_MILLIS);
+
+        SeatLockResult result = lock(2L, Map.of(10L, 0, 11L, 1), TTL_MILLIS);
+
+        assertThat(result.isSuccess()).isFalse();
+        assertThat(result.conflictSeatIds()).containsExactly(10L);
+        assertThat(seatLockRedisRepository.findSeatInfo(EVENT_SCHEDULE_ID, 11L)).isNull();
+        assertThat(seatLockRedisRepository.hasReservedSeats(2L, EVENT_SCHEDULE_ID)).isFalse();
+    }
+
+    @Test
+    @DisplayName("해제하면 좌석과 사용자 선점 정보가 삭제되고 다른 사용자가 선점할 수 있다")
+    void releaseSeats() {
+        lock(1L, Map.of(10L, 0, 11L, 1), TTL_MILLIS);
+
+        assertThat(seatLockRedisRepository.releaseSeats(EVENT_SCHEDULE_ID, List.of(10L, 11L), 1L)).isEqualTo(2L);
+
+        assertThat(seatLockRedisRepository.findSeatInfo(EVENT_SCHEDULE_ID, 10L)).isNull();
+        assertThat(seatLockRedisRepository.hasReservedSeats(1L, EVENT_SCHEDULE_ID)).isFalse();
+        assertThat(lock(2L, Map.of(10L, 0), TTL_MILLIS).isSuccess()).isTrue();
+    }
+
+    @Test
+    @DisplayName("만료된 좌석은 조회되지 않고 새 선점 시 정리된다")
+    void expiredSeatIsPurgedOnLock() throws InterruptedException {
+        lock(1L, Map.of(10L, 0), 50L);
+        Thread.sleep(100);
+
+        assertThat(seatLockRedisRepository.findSeatInfo(EVENT_SCHEDULE_ID, 10L)).isNull();
+        assertThat(lock(2L, Map.of(10L, 0), TTL_MILLIS).isSuccess()).isTrue();
+        assertThat(seatLockRedisRepository.findSeatInfo(EVENT_SCHEDULE_ID, 10L)).isEqualTo(seatInfo(10L));
+    }
+
+    @Test
+    @DisplayName("만료 정리 스케줄러는 남은 선점이 없으면 활성 일정에서 제거하고 선점 비트를 해제한다")
+    void sweepExpiredSeats() throws InterruptedException {
+        seatStateRedisRepository.initSeatStates(EVENT_SCHEDULE_ID, SeatStateRedisRepository.toPurchasedBitmap(4, Set.of()));
+        lock(1L, Map.of(10L, 2), 50L);
+        assertThat(SeatStateRedisRepository.isLocked(seatStateRedisRepository.findSeatStates(EVENT_SCHEDULE_ID), 2)).isTrue();
+
+        Thread.sleep(100);
+
+        assertThat(seatLockRedisRepository.sweepExpiredSeats(EVENT_SCHEDULE_ID)).isZero();
+        assertThat(seatLockRedisRepository.findActiveScheduleIds()).isEmpty();
+        assertThat(SeatStateRedisRepository.isLocked(seatStateRedisRepository.findSeatStates(EVENT_SCHEDULE_ID), 2)).isFalse();
+    }
+
+    @Test
+    @DisplayName("만료되지 않은 선점이 남아 있으면 활성 일정을 유지한다")
+    void sweepKeepsActiveSchedule() {
+        lock(1L, Map.of(10L, 0), TTL_MILLIS);
+
+        assertThat(seatLockRedisRepository.sweepExpiredSeats(EVENT_SCHEDULE_ID)).isEqualTo(1L);
+        assertThat(seatLockRedisRepository.findActiveScheduleIds()).containsExactly(EVENT_SCHEDULE_ID);
+    }
+
+    private SeatLockResult lock(Long userId, Map<Long, Integer> seatOrdinals, long ttlMillis) {
+        Map<Long, String> seatInfos = new HashMap<>();
+        seatOrdinals.keySet().forEach(seatMappingId -> seatInfos.put(seatMappingId, seatInfo(seatMappingId)));
+        return seatLockRedisRepository.lockSeats(EVENT_SCHEDULE_ID, userId, seatInfos, seatOrdinals, ttlMillis);
+    }
+
+    private static String seatInfo(Long seatMappingId) {
+        return "{\"seatMappingId\":" + seatMappingId + "}";
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package com.example.ficketevent.domain.event.repository;
+
+import com.example.ficketevent.domain.event.repository.SeatStateRedisRepository.SeatStateChanges;
+import com.example.ficketevent.global.config.redisson.SeatLuaScripts;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.Redisson;
+import org.redisson.api.RedissonClient;
+import org.redisson.config.Config;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 좌석 상태 비트맵 / 변경 이력 Lua 스크립트 테스트
+ */
+class SeatStateRedisRepositoryTest {
+
+    private static final Long EVENT_SCHEDULE_ID = 1L;
+    private static final int SEAT_COUNT = 10;
+
+    private static RedisServer redisServer;
+    private static RedissonClient redissonClient;
+
+    private SeatLockRedisRepository seatLockRedisRepository;
+    private SeatStateRedisRepository seatStateRedisRepository;
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        int port = freePort();
+        redisServer = new RedisServer(port);
+        redisServer.start();
+
+        Config config = new Config();
+        config.useSingleServer().setAddress("redis://localhost:" + port);
+        redissonClient = Redisson.create(config);
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+        redissonClient.shutdown();
+        redisServer.stop();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redissonClient.getKeys().flushdb();
+        SeatLuaScripts seatLuaScripts = new SeatLuaScripts();
+        seatLockRedisRepository = new SeatLockRedisRepository(redissonClient, seatLuaScripts);
+        seatStateRedisRepository = new SeatStateRedisRepository(redissonClient, seatLuaScripts);
+    }
+
+    @Test
+    @DisplayName("구매 비트맵은 좌석당 2비트 중 구매 비트만 설정한다")
+    void purchasedBitmapLayout() {
+        byte[] bitmap = SeatStateRedisRepository.toPurchasedBitmap(SEAT_COUNT, List.of(0, 9));
+
+        assertThat(bitmap).hasSize(3);
+        assertThat(SeatStateRedisRepository.isPurchased(bitmap, 0)).isTrue();
+        assertThat(SeatStateRedisRepository.isLocked(bitmap, 0)).isFalse();
+        assertThat(SeatStateRedisRepository.isPurchased(bitmap, 9)).isTrue();
+        assertThat(SeatStateRedisRepository.isPurchased(bitmap, 5)).isFalse();
+        assertThat(SeatStateRedisRepository.isPurchased(bitmap, 100)).isFalse();
+    }
+
+    @Test
+    @DisplayName("비트맵 초기화는 DB 구매 비트에 현재 선점 비트를 덧씌우고 이후에는 기존 값을 반환한다")
+    void initSeatStatesOverlaysLockedSeats() {
+        lock(1L, 10L, 4);
+
+        byte[] states = seatStateRedisRepository.initSeatStates(EVENT_SCHEDULE_ID,
+                SeatStateRedisRepository.toPurchasedBitmap(SEAT_COUNT, List.of(3)));
+
+        assertThat(SeatStateRedisRepository.isPurchased(states, 3)).isTrue();
+        assertThat(SeatStateRedisRepository.isLocked(states, 4)).isTrue();
+        assertThat(SeatStateRedisRepository.isLocked(states, 3)).isFalse();
+
+        // 이미 초기화된 비트맵은 덮어쓰지 않음
+        byte[] again = seatStateRedisRepository.initSeatStates(EVENT_SCHEDULE_ID,
+                SeatStateRedisRepository.toPurchasedBitmap(SEAT_COUNT, Set.of()));
+        assertThat(again).isEqualTo(states);
+    }
+
+    @Test
+    @DisplayName("선점 / 구매 / 해제마다 버전이 증가하고 요청 버전 이후 변경 순번만 반환한다")
+    void changesSinceVersion() {
+        seatStateRedisRepository.initSeatStates(EVENT_SCHEDULE_ID,
+                SeatStateRedisRepository.toPurchasedBitmap(SEAT_COUNT, Set.of()));
+
+        lock(1L, 10L, 1);
+        seatStateRedisRepository.updatePurchased(EVENT_SCHEDULE_ID, List.of(1), true);
+        seatLockRedisRepository.releaseSeats(EVENT_SCHEDULE_ID, List.of(10L), 1L);
+
+        SeatStateChanges all = seatStateRedisRepository.findSeatChanges(EVENT_SCHEDULE_ID, 0);
+        assertThat(all.version()).isEqualTo(3L);
+        assertThat(all.full()).isFalse();
+        assertThat(all.changedOrdinals()).containsExactly(1);
+        assertThat(SeatStateRedisRepository.isPurchased(all.states(), 1)).isTrue();
+        assertThat(SeatStateRedisRepository.isLocked(all.states(), 1)).isFalse();
+
+        lock(2L, 11L, 2);
+        SeatStateChanges delta = seatStateRedisRepository.findSeatChanges(EVENT_SCHEDULE_ID, 3);
+        assertThat(delta.version()).isEqualTo(4L);
+        assertThat(delta.changedOrdinals()).containsExactly(2);
+        assertThat(SeatStateRedisRepository.isLocked(delta.states(), 2)).isTrue();
+
+        SeatStateChanges upToDate = seatStateRedisRepository.findSeatChanges(EVENT_SCHEDULE_ID, 4);
+        assertThat(upToDate.full()).isFalse();
+        assertThat(upToDate.changedOrdinals()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("환불하면 구매 비트를 해제한다")
+    void refundClearsPurchasedBit() {
+        seatStateRedisRepository.initSeatStates(EVENT_SCHEDULE_ID,
+                SeatStateRedisRepository.toPurchasedBitmap(SEAT_COUNT, List.of(5)));
+
+        seatStateRedisRepository.updatePurchased(EVENT_SCHEDULE_ID, List.of(5), false);
+
+        assertThat(SeatStateRedisRepository.isPurchased(seatStateRedisRepository.findSeatStates(EVENT_SCHEDULE_ID), 5)).isFalse();
+    }
+
+    @Test
+    @DisplayName("비트맵이 없으면 전체 조회로 응답하고 구매 갱신은 변경 이력만 기록한다")
+    void fullWithoutBitmap() {
+        seatStateRedisRepository.updatePurchased(EVENT_SCHEDULE_ID, List.of(1), true);
+
+        SeatStateChanges changes = seatStateRedisRepository.findSeatChanges(EVENT_SCHEDULE_ID, -1);
+
+        assertThat(changes.full()).isTrue();
+        assertThat(changes.states()).isNull();
+        assertThat(changes.version()).isEqualTo(1L);
+        assertThat(seatStateRedisRepository.findSeatStates(EVENT_SCHEDULE_ID)).isNull();
+    }
+
+    @Test
+    @DisplayName("요청 버전이 이력 범위를 벗어나면 전체 조회로 응답한다")
+    void fullWhenVersionOutOfRange() {
+        seatStateRedisRepository.initSeatStates(EVENT_SCHEDULE_ID,
+                SeatStateRedisRepository.toPurchasedBitmap(SEAT_COUNT, Set.of()));
+        seatStateRedisRepository.updatePurchased(EVENT_SCHEDULE_ID, List.of(1), true);
+
+        assertThat(seatStateRedisRepository.findSeatChanges(EVENT_SCHEDULE_ID, -1).full()).isTrue();
+        assertThat(seatStateRedisRepository.findSeatChanges(EVENT_SCHEDULE_ID, 2).full()).isTrue();
+    }
+
+    @Test
+    @DisplayName("변경 이력은 최근 5000건만 유지하고 잘려 나간 버전 이전 요청은 전체 조회로 응답한다")
+    void changeLogIsTrimmed() {
+        seatStateRedisRepository.initSeatStates(EVENT_SCHEDULE_ID,
+                SeatStateRedisRepository.toPurchasedBitmap(SEAT_COUNT, Set.of()));
+        seatStateRedisRepository.updatePurchased(EVENT_SCHEDULE_ID, List.of(1), true);
+        seatStateRedisRepository.updatePurchased(EVENT_SCHEDULE_ID, IntStream.range(0, 5000).boxed().toList(), true);
+
+        assertThat(seatStateRedisRepository.findSeatChanges(EVENT_SCHEDULE_ID, 0).full()).isTrue();
+
+        SeatStateChanges latest = seatStateRedisRepository.findSeatChanges(EVENT_SCHEDULE_ID, 1);
+        assertThat(latest.full()).isFalse();
+        assertThat(latest.changedOrdinals()).hasSize(5000);
+    }
+
+    @Test
+    @DisplayName("좌석 배치 변경 시 비트맵과 변경 이력을 삭제한다")
+    void deleteSeatStates() {
+        seatStateRedisRepository.initSeatStates(EVENT_SCHEDULE_ID,
+                SeatStateRedisRepository.toPurchasedBitmap(SEAT_COUNT, Set.of()));
+        seatStateRedisRepository.updatePurchased(EVENT_SCHEDULE_ID, List.of(1), true);
+
+        seatStateRedisRepository.deleteSeatStates(List.of(EVENT_SCHEDULE_ID));
+
+        SeatStateChanges changes = seatStateRedisRepository.findSeatChanges(EVENT_SCHEDULE_ID, 0);
+        assertThat(changes.states()).isNull();
+        assertThat(changes.version()).isZero();
+    }
+
+    private void lock(Long userId, Long seatMappingId, int ordinal) {
+        seatLockRedisRepository.lockSeats(EVENT_SCHEDULE_ID, userId,
+                Map.of(seatMappingId, "{}"), Map.of(seatMappingId, ordinal), 60_000L);
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
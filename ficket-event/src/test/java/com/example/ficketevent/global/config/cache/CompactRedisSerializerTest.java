@@ -0,0 +1,135 @@
+package com.example.ficketevent.global.config.cache;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 바이너리(Smile + LZ4) Redis 직렬화 테스트
+ *
+ * - ObjectMapper 는 RedisCacheConfig 와 같은 타입 정보 설정을 사용
+ * - 타입 정보로 복원하므로 List.of 대신 ArrayList 사용
+ */
+class CompactRedisSerializerTest {
+
+    private static final int COMPRESSION_THRESHOLD = 512;
+
+    private final RedisSerializer<Object> jsonSerializer = new GenericJackson2JsonRedisSerializer(configure(new ObjectMapper()));
+
+    @Test
+    @DisplayName("임계값보다 작은 값은 압축 없이 Smile 로 저장하고 그대로 복원한다")
+    void smileRoundTrip() {
+        CompactRedisSerializer serializer = serializer(true);
+        CachedValue value = smallValue();
+
+        byte[] bytes = serializer.serialize(value);
+
+        assertThat(bytes[0]).isEqualTo((byte) 0x01);
+        assertThat(serializer.deserialize(bytes)).isEqualTo(value);
+    }
+
+    @Test
+    @DisplayName("임계값 이상인 값은 LZ4 로 압축하여 저장하고 그대로 복원한다")
+    void lz4RoundTrip() {
+        CompactRedisSerializer serializer = serializer(true);
+        CachedValue value = largeValue();
+
+        byte[] bytes = serializer.serialize(value);
+
+        assertThat(bytes[0]).isEqualTo((byte) 0x02);
+        assertThat(bytes.length).isLessThan(jsonSerializer.serialize(value).length);
+        assertThat(serializer.deserialize(bytes)).isEqualTo(value);
+    }
+
+    @Test
+    @DisplayName("기존 JSON 값은 JSON 직렬화로 읽는다")
+    void readLegacyJson() {
+        CachedValue value = largeValue();
+
+        assertThat(serializer(true).deserialize(jsonSerializer.serialize(value))).isEqualTo(value);
+    }
+
+    @Test
+    @DisplayName("바이너리 저장을 끄면 JSON 으로 저장하면서 바이너리 값도 읽는다")
+    void writeJsonAndReadBinary() {
+        CompactRedisSerializer jsonWriter = serializer(false);
+        CachedValue value = smallValue();
+
+        byte[] json = jsonWriter.serialize(value);
+
+        assertThat(json).isEqualTo(jsonSerializer.serialize(value));
+        assertThat(jsonWriter.deserialize(serializer(true).serialize(value))).isEqualTo(value);
+    }
+
+    @Test
+    @DisplayName("빈 값은 null 로 읽는다")
+    void emptyIsNull() {
+        CompactRedisSerializer serializer = serializer(true);
+
+        assertThat(serializer.deserialize(null)).isNull();
+        assertThat(serializer.deserialize(serializer.serialize(null))).isNull();
+    }
+
+    @Test
+    @DisplayName("손상된 바이너리 값은 SerializationException 으로 실패한다")
+    void corruptedBinary() {
+        CompactRedisSerializer serializer = serializer(true);
+        byte[] bytes = serializer.serialize(largeValue());
+        byte[] truncated = Arrays.copyOf(bytes, 8);
+
+        assertThatThrownBy(() -> serializer.deserialize(truncated)).isInstanceOf(SerializationException.class);
+    }
+
+    private CompactRedisSerializer serializer(boolean writeBinary) {
+        return new CompactRedisSerializer(configure(new ObjectMapper(new SmileFactory())), jsonSerializer,
+                writeBinary, COMPRESSION_THRESHOLD);
+    }
+
+    private static ObjectMapper configure(ObjectMapper objectMapper) {
+        return objectMapper
+                .findAndRegisterModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
+                .registerModule(new JavaTimeModule())
+                .activateDefaultTyping(BasicPolymorphicTypeValidator.builder().allowIfSubType(Object.class).build(),
+                        ObjectMapper.DefaultTyping.NON_FINAL);
+    }
+
+    private static CachedValue smallValue() {
+        return new CachedValue(1L, "공연", LocalDateTime.of(2026, 1, 1, 19, 30), new ArrayList<>(List.of("VIP", "R")));
+    }
+
+    private static CachedValue largeValue() {
+        return new CachedValue(2L, "공연 상세 설명 ".repeat(200), LocalDateTime.of(2026, 1, 1, 19, 30),
+                new ArrayList<>(List.of("VIP", "R", "S", "A")));
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    static class CachedValue {
+        private Long id;
+        private String description;
+        private LocalDateTime startAt;
+        private List<String> grades;
+    }
+}
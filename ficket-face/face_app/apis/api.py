@@ -51,6 +51,35 @@ match_parser = api.parser()
 match_parser.add_argument("file", location="files", type=FileStorage, required=True, help="Face image file")
 match_parser.add_argument("event_schedule_id", location="form", type=int, required=True, help="Event schedule ID")
 
+multi_match_parser = api.parser()
+multi_match_parser.add_argument("file", location="files", type=FileStorage, required=True, help="Face image file")
+multi_match_parser.add_argument("event_schedule_ids", location="form", type=str, required=True,
+                                help="Comma separated event schedule IDs")
+
+
+def find_best_match(embedding, faces):
+    max_similarity = -1
+    best_match = None
+
+    for face in faces:
+        decrypted_embedding = decrypt_vector(face.vector)
+        similarity = cosine_similarity(embedding, decrypted_embedding)
+        if similarity > max_similarity:
+            max_similarity = similarity
+            best_match = {
+                "face_id": face.face_id,
+                "face_img": generate_presigned_url(face.face_img),
+                "ticket_id": face.ticket_id,
+                "event_schedule_id": face.event_schedule_id,
+                "similarity": float(similarity),
+            }
+
+    threshold = 0.4
+    if best_match and max_similarity > threshold:
+        return best_match
+    return None
+
+
 # API 리소스 정의
 @api.route("/upload")
 class UploadFace(Resource):
@@ -112,24 +141,43 @@ class MatchFace(Resource):
         if not faces:
             return ResponseSchema.make_response(404, "No faces found for the event schedule."), 404
 
-        max_similarity = -1
-        best_match = None
-
-        for face in faces:
-            decrypted_embedding = decrypt_vector(face.vector)
-            similarity = cosine_similarity(embedding, decrypted_embedding)
-            if similarity > max_similarity:
-                max_similarity = similarity
-                best_match = {
-                    "face_id": face.face_id,
-                    "face_img": generate_presigned_url(face.face_img),
-                    "ticket_id": face.ticket_id,
-                    "event_schedule_id": face.event_schedule_id,
-                    "similarity": float(similarity),
-                }
-
-        threshold = 0.4
-        if best_match and max_similarity > threshold:
+        best_match = find_best_match(embedding, faces)
+        if best_match:
+            return ResponseSchema.make_response(200, "Face match found.", best_match), 200
+        else:
+            return ResponseSchema.make_response(206, "No matching face found."), 206
+
+
+# 여러 회차를 한 번에 매칭 (임베딩 1회 계산, 얼굴 조회 1회)
+@api.route("/match-multi")
+class MultiMatchFace(Resource):
+    @api.expect(multi_match_parser)
+    @api.response(200, "Face match found", response_model)
+    @api.response(206, "No matching face found", response_model)
+    @api.response(400, "Bad Request", response_model)
+    def post(self):
+        args = multi_match_parser.parse_args()
+        file = request.files.get("file")
+
+        try:
+            event_schedule_ids = [int(i) for i in args.get("event_schedule_ids", "").split(",") if i.strip()]
+        except ValueError:
+            return ResponseSchema.make_response(400, "Invalid event_schedule_ids."), 400
+
+        if not file or not event_schedule_ids:
+            return ResponseSchema.make_response(400, "File or event_schedule_ids missing."), 400
+
+        image_data = file.read()
+        embedding = get_face_embedding(image_data)
+        if embedding is None:
+            return ResponseSchema.make_response(400, "No face detected."), 400
+
+        faces = Face.query.filter(Face.event_schedule_id.in_(event_schedule_ids)).all()
+        if not faces:
+            return ResponseSchema.make_response(404, "No faces found for the event schedules."), 404
+
+        best_match = find_best_match(embedding, faces)
+        if best_match:
             return ResponseSchema.make_response(200, "Face match found.", best_match), 200
         else:
             return ResponseSchema.make_response(206, "No matching face found."), 206
@@ -0,0 +1,19 @@
+package com.example.ficketoutbox;
+
+import org.springframework.boot.autoconfigure.AutoConfigurationPackage;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 트랜잭셔널 아웃박스 설정
+ * <p>
+ * 서비스 설정 클래스에서 @Import 하면 아웃박스 엔티티 / 레포지토리가 JPA 스캔 대상에 추가되고,
+ * OutboxRelay 와 ProcessedEventPurger 가 등록됩니다. (KafkaTemplate&lt;String, String&gt; 빈 필요)
+ */
+@Configuration
+@EnableScheduling
+@ComponentScan
+@AutoConfigurationPackage
+public class OutboxConfiguration {
+}
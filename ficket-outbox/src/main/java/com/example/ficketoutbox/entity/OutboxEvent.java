@@ -0,0 +1,32 @@
+package com.example.ficketoutbox.entity;
+
+import com.example.ficketoutbox.common.BaseEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 트랜잭셔널 아웃박스
+ * <p>
+ * Kafka 로 발행할 메시지를 비즈니스 데이터와 같은 트랜잭션에 저장하고, OutboxRelay 가 순서대로 발행 후 삭제합니다.
+ */
+@Entity
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OutboxEvent extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String topic;
+
+    private String messageKey; // 파티션 키
+
+    @Lob
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+}
@@ -0,0 +1,36 @@
+package com.example.ficketoutbox.entity;
+
+import com.example.ficketoutbox.common.BaseEntity;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+/**
+ * 처리 완료한 아웃박스 메시지 ID (중복 수신 방지, 보관 기간이 지나면 ProcessedEventPurger 가 삭제)
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ProcessedEvent extends BaseEntity implements Persistable<String> {
+
+    @Id
+    private String messageId; // {topic}:{outboxId}
+
+    public ProcessedEvent(String messageId) {
+        this.messageId = messageId;
+    }
+
+    @Override
+    public String getId() {
+        return messageId;
+    }
+
+    // 항상 신규 INSERT (merge 전 SELECT 방지)
+    @Override
+    public boolean isNew() {
+        return getCreatedAt() == null;
+    }
+}
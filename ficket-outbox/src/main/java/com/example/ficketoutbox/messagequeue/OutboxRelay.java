@@ -0,0 +1,105 @@
+package com.example.ficketoutbox.messagequeue;
+
+import com.example.ficketoutbox.entity.OutboxEvent;
+import com.example.ficketoutbox.repository.OutboxEventRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * 아웃박스 릴레이
+ * <p>
+ * 아웃박스에 쌓인 메시지를 id 순으로 묶어 비동기 전송하고(프로듀서 batch/linger 활용), 전송 확인된 구간만 삭제합니다.
+ * 발행 순서를 지키기 위해 outbox_relay_lease 를 보유한 인스턴스 하나만 발행하며,
+ * 조회 / 전송은 트랜잭션 밖에서 하고 삭제만 짧은 트랜잭션으로 처리해 Kafka 전송 동안 DB 잠금을 잡지 않습니다.
+ * 발행 후 삭제 전에 장애가 나거나 lease 가 만료돼 다른 인스턴스가 이어받으면 재발행될 수 있으므로,
+ * 컨슈머는 outbox-id 헤더로 중복을 걸러냅니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboxRelay {
+
+    public static final String OUTBOX_ID_HEADER = "outbox-id";
+
+    private static final String RELAY_LEASE_NAME = "outbox-relay";
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final KafkaTemplate<String, String> kafkaTemplate;
+
+    private final String instanceId = UUID.randomUUID().toString();
+
+    @Value("${outbox.relay.batch-size:500}")
+    private int batchSize;
+
+    // 주기마다 연장되므로 한 배치 전송 시간보다 길게, 장애 시 다른 인스턴스가 이어받는 시간만큼 짧게 설정
+    @Value("${outbox.relay.lease-ms:30000}")
+    private long leaseMillis;
+
+    @Scheduled(fixedDelayString = "${outbox.relay.interval-ms:100}")
+    public void relay() {
+        if (outboxEventRepository.acquireRelayLease(RELAY_LEASE_NAME, instanceId, leaseMillis) == 0) {
+            return;
+        }
+
+        List<OutboxEvent> outboxEvents = outboxEventRepository.findRelayBatch(batchSize);
+        if (outboxEvents.isEmpty()) {
+            return;
+        }
+
+        List<CompletableFuture<SendResult<String, String>>> futures = outboxEvents.stream()
+                .map(this::send)
+                .toList();
+
+        // 앞에서부터 전송 확인된 메시지만 삭제 (실패 이후 메시지는 다음 주기에 순서대로 재전송)
+        List<Long> sentIds = new ArrayList<>(outboxEvents.size());
+        for (int i = 0; i < outboxEvents.size(); i++) {
+            try {
+                futures.get(i).join();
+                sentIds.add(outboxEvents.get(i).getId());
+            } catch (CompletionException e) {
+                log.error("아웃박스 메시지 전송 실패. outboxId: {}", outboxEvents.get(i).getId(), e.getCause());
+                break;
+            }
+        }
+
+        if (!sentIds.isEmpty()) {
+            outboxEventRepository.deleteAllByIdInBatch(sentIds);
+        }
+        log.info("아웃박스 메시지 {}건 발행", sentIds.size());
+    }
+
+    // 종료 시 lease 를 바로 반납해 다른 인스턴스가 만료를 기다리지 않고 이어받도록 함
+    @PreDestroy
+    public void releaseLease() {
+        try {
+            outboxEventRepository.releaseRelayLease(RELAY_LEASE_NAME, instanceId);
+        } catch (Exception e) {
+            log.warn("아웃박스 릴레이 lease 반납 실패", e);
+        }
+    }
+
+    private CompletableFuture<SendResult<String, String>> send(OutboxEvent outboxEvent) {
+        ProducerRecord<String, String> record = new ProducerRecord<>(
+                outboxEvent.getTopic(), outboxEvent.getMessageKey(), outboxEvent.getPayload());
+        record.headers().add(OUTBOX_ID_HEADER, messageId(outboxEvent).getBytes(StandardCharsets.UTF_8));
+        return kafkaTemplate.send(record);
+    }
+
+    private static String messageId(OutboxEvent outboxEvent) {
+        return outboxEvent.getTopic() + ":" + outboxEvent.getId();
+    }
+}
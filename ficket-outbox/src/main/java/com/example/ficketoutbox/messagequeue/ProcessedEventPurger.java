@@ -0,0 +1,44 @@
+package com.example.ficketoutbox.messagequeue;
+
+import com.example.ficketoutbox.repository.ProcessedEventRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * processed_event 보관 기간 정리
+ * <p>
+ * 같은 메시지가 다시 수신되는 경우는 릴레이의 삭제 전 재발행, 컨슈머의 오프셋 커밋 전 재처리 정도이므로
+ * 보관 기간(기본 7일)은 재전송 가능 구간보다 충분히 길게 두고, 그보다 오래된 기록만 삭제합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProcessedEventPurger {
+
+    private final ProcessedEventRepository processedEventRepository;
+
+    @Value("${outbox.processed-event.retention-days:7}")
+    private int retentionDays;
+
+    @Value("${outbox.processed-event.purge-batch-size:1000}")
+    private int purgeBatchSize;
+
+    @Scheduled(cron = "${outbox.processed-event.purge-cron:0 30 4 * * *}")
+    public void purge() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(retentionDays);
+
+        long purged = 0;
+        int deleted;
+        do {
+            deleted = processedEventRepository.deleteCreatedBefore(cutoff, purgeBatchSize);
+            purged += deleted;
+        } while (deleted == purgeBatchSize);
+
+        log.info("processed_event {}건 삭제 (기준: {} 이전)", purged, cutoff);
+    }
+}
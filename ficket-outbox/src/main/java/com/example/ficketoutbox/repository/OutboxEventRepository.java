@@ -0,0 +1,35 @@
+package com.example.ficketoutbox.repository;
+
+import com.example.ficketoutbox.entity.OutboxEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    @Query(value = "SELECT * FROM outbox_event ORDER BY id LIMIT :limit", nativeQuery = true)
+    List<OutboxEvent> findRelayBatch(@Param("limit") int limit);
+
+    /**
+     * 릴레이 lease 획득 / 연장 (비어 있거나 만료됐거나 이미 보유 중일 때만 갱신, 획득 시 1 반환)
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+            UPDATE outbox_relay_lease
+            SET owner = :owner, lease_until = DATE_ADD(NOW(6), INTERVAL :leaseMillis * 1000 MICROSECOND)
+            WHERE name = :name AND (owner IS NULL OR owner = :owner OR lease_until < NOW(6))
+            """, nativeQuery = true)
+    int acquireRelayLease(@Param("name") String name, @Param("owner") String owner, @Param("leaseMillis") long leaseMillis);
+
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE outbox_relay_lease SET owner = NULL WHERE name = :name AND owner = :owner", nativeQuery = true)
+    int releaseRelayLease(@Param("name") String name, @Param("owner") String owner);
+}
@@ -0,0 +1,158 @@
+package com.example.ficketoutbox.messagequeue;
+
+import com.example.ficketoutbox.entity.OutboxEvent;
+import com.example.ficketoutbox.repository.OutboxEventRepository;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 아웃박스 릴레이 발행 / 삭제 순서 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class OutboxRelayTest {
+
+    private static final int BATCH_SIZE = 500;
+    private static final long LEASE_MILLIS = 30_000L;
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    @Mock
+    private KafkaTemplate<String, String> kafkaTemplate;
+
+    private OutboxRelay outboxRelay;
+
+    @BeforeEach
+    void setUp() {
+        outboxRelay = new OutboxRelay(outboxEventRepository, kafkaTemplate);
+        ReflectionTestUtils.setField(outboxRelay, "batchSize", BATCH_SIZE);
+        ReflectionTestUtils.setField(outboxRelay, "leaseMillis", LEASE_MILLIS);
+    }
+
+    @Test
+    @DisplayName("lease 를 획득하지 못하면 아웃박스를 읽지 않는다")
+    void skipWithoutLease() {
+        when(outboxEventRepository.acquireRelayLease(eq("outbox-relay"), anyString(), eq(LEASE_MILLIS))).thenReturn(0);
+
+        outboxRelay.relay();
+
+        verify(outboxEventRepository, never()).findRelayBatch(anyInt());
+        verifyNoInteractions(kafkaTemplate);
+    }
+
+    @Test
+    @DisplayName("전송한 메시지에 outbox-id 헤더를 붙이고 전송 확인된 메시지를 삭제한다")
+    void relayAndDeleteSentEvents() {
+        acquireLease();
+        when(outboxEventRepository.findRelayBatch(BATCH_SIZE))
+                .thenReturn(List.of(outboxEvent(1L), outboxEvent(2L)));
+        when(kafkaTemplate.send(any(ProducerRecord.class))).thenReturn(sent(), sent());
+
+        outboxRelay.relay();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<ProducerRecord<String, String>> records = ArgumentCaptor.forClass(ProducerRecord.class);
+        verify(kafkaTemplate, times(2)).send(records.capture());
+
+        ProducerRecord<String, String> first = records.getAllValues().get(0);
+        assertThat(first.topic()).isEqualTo("order-events");
+        assertThat(first.key()).isEqualTo("10");
+        assertThat(first.value()).isEqualTo("payload-1");
+        assertThat(new String(first.headers().lastHeader(OutboxRelay.OUTBOX_ID_HEADER).value(), StandardCharsets.UTF_8))
+                .isEqualTo("order-events:1");
+
+        verify(outboxEventRepository).deleteAllByIdInBatch(List.of(1L, 2L));
+    }
+
+    @Test
+    @DisplayName("전송에 실패하면 앞에서부터 성공한 메시지만 삭제하고 이후 메시지는 남긴다")
+    void keepEventsAfterFailure() {
+        acquireLease();
+        when(outboxEventRepository.findRelayBatch(BATCH_SIZE))
+                .thenReturn(List.of(outboxEvent(1L), outboxEvent(2L), outboxEvent(3L)));
+        when(kafkaTemplate.send(any(ProducerRecord.class))).thenReturn(sent(), failed(), sent());
+
+        outboxRelay.relay();
+
+        verify(outboxEventRepository).deleteAllByIdInBatch(List.of(1L));
+    }
+
+    @Test
+    @DisplayName("첫 메시지 전송에 실패하면 아무것도 삭제하지 않는다")
+    void deleteNothingWhenFirstFails() {
+        acquireLease();
+        when(outboxEventRepository.findRelayBatch(BATCH_SIZE)).thenReturn(List.of(outboxEvent(1L)));
+        when(kafkaTemplate.send(any(ProducerRecord.class))).thenReturn(failed());
+
+        outboxRelay.relay();
+
+        verify(outboxEventRepository, never()).deleteAllByIdInBatch(any());
+    }
+
+    @Test
+    @DisplayName("아웃박스가 비어 있으면 전송하지 않는다")
+    void emptyBatch() {
+        acquireLease();
+        when(outboxEventRepository.findRelayBatch(BATCH_SIZE)).thenReturn(List.of());
+
+        outboxRelay.relay();
+
+        verifyNoInteractions(kafkaTemplate);
+        verify(outboxEventRepository, never()).deleteAllByIdInBatch(any());
+    }
+
+    @Test
+    @DisplayName("종료 시 같은 인스턴스 ID 로 lease 를 반납하고 실패는 전파하지 않는다")
+    void releaseLeaseWithSameOwner() {
+        when(outboxEventRepository.acquireRelayLease(eq("outbox-relay"), anyString(), eq(LEASE_MILLIS))).thenReturn(0);
+        when(outboxEventRepository.releaseRelayLease(eq("outbox-relay"), anyString()))
+                .thenThrow(new IllegalStateException("db down"));
+
+        outboxRelay.relay();
+
+        assertThatCode(outboxRelay::releaseLease).doesNotThrowAnyException();
+
+        ArgumentCaptor<String> owner = ArgumentCaptor.forClass(String.class);
+        verify(outboxEventRepository).acquireRelayLease(eq("outbox-relay"), owner.capture(), eq(LEASE_MILLIS));
+        verify(outboxEventRepository).releaseRelayLease("outbox-relay", owner.getValue());
+    }
+
+    private void acquireLease() {
+        when(outboxEventRepository.acquireRelayLease(eq("outbox-relay"), anyString(), eq(LEASE_MILLIS))).thenReturn(1);
+    }
+
+    private static OutboxEvent outboxEvent(Long id) {
+        return OutboxEvent.builder()
+                .id(id)
+                .topic("order-events")
+                .messageKey("10")
+                .payload("payload-" + id)
+                .build();
+    }
+
+    private static CompletableFuture<SendResult<String, String>> sent() {
+        return CompletableFuture.completedFuture(null);
+    }
+
+    private static CompletableFuture<SendResult<String, String>> failed() {
+        return CompletableFuture.failedFuture(new IllegalStateException("broker unavailable"));
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.ficketoutbox.messagequeue;
+
+import com.example.ficketoutbox.repository.ProcessedEventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * processed_event 보관 기간 정리 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class ProcessedEventPurgerTest {
+
+    private static final int RETENTION_DAYS = 7;
+    private static final int PURGE_BATCH_SIZE = 1000;
+
+    @Mock
+    private ProcessedEventRepository processedEventRepository;
+
+    private ProcessedEventPurger processedEventPurger;
+
+    @BeforeEach
+    void setUp() {
+        processedEventPurger = new ProcessedEventPurger(processedEventRepository);
+        ReflectionTestUtils.setField(processedEventPurger, "retentionDays", RETENTION_DAYS);
+        ReflectionTestUtils.setField(processedEventPurger, "purgeBatchSize", PURGE_BATCH_SIZE);
+    }
+
+    @Test
+    @DisplayName("보관 기간 이전 기록을 배치 크기보다 적게 삭제될 때까지 나눠 삭제한다")
+    void purgeInBatches() {
+        when(processedEventRepository.deleteCreatedBefore(any(), eq(PURGE_BATCH_SIZE)))
+                .thenReturn(PURGE_BATCH_SIZE, PURGE_BATCH_SIZE, 10);
+
+        processedEventPurger.purge();
+
+        ArgumentCaptor<LocalDateTime> cutoff = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(processedEventRepository, times(3)).deleteCreatedBefore(cutoff.capture(), eq(PURGE_BATCH_SIZE));
+        assertThat(cutoff.getValue())
+                .isCloseTo(LocalDateTime.now().minusDays(RETENTION_DAYS), within(1, ChronoUnit.MINUTES));
+        assertThat(cutoff.getAllValues()).containsOnly(cutoff.getValue());
+    }
+
+    @Test
+    @DisplayName("삭제할 기록이 없으면 한 번만 조회한다")
+    void nothingToPurge() {
+        when(processedEventRepository.deleteCreatedBefore(any(), eq(PURGE_BATCH_SIZE))).thenReturn(0);
+
+        processedEventPurger.purge();
+
+        verify(processedEventRepository, times(1)).deleteCreatedBefore(any(), eq(PURGE_BATCH_SIZE));
+    }
+}
@@ -0,0 +1,161 @@
+package com.example.ficketqueue.benchmark;
+
+import com.example.ficketqueue.global.metrics.QueueScriptMetrics;
+import com.example.ficketqueue.global.redis.RedisConfig;
+import com.example.ficketqueue.global.redis.RedisLuaScripts;
+import com.example.ficketqueue.global.redis.RedisScriptConfig;
+import com.example.ficketqueue.global.utils.QueueKeyResolver;
+import com.example.ficketqueue.queue.repository.QueueRedisRepository;
+import com.example.ficketqueue.queue.repository.QueueRepository;
+import com.example.ficketqueue.queue.service.SlotService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.data.redis.core.RedisTemplate;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 대기열 Lua 스크립트 / 키 구조 벤치마크
+ *
+ * - 로컬 Redis 서버를 내장 실행하여 QueueRedisRepository 를 직접 호출
+ * - 가상 사용자 수 = JMH 스레드 수 (-Djmh.threads)
+ * - Throughput(ops/ms) 과 SampleTime(p50/p99) 을 함께 측정
+ *
+ * 실행: ./gradlew jmh -Djmh.threads=64 -Dqueue.bench.waiting-users=100000
+ */
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class QueueRedisRepositoryBenchmark {
+
+    private static final String WAITING_EVENT_ID = "bench-waiting";
+    private static final String ENTER_EVENT_ID = "bench-enter";
+    private static final String CYCLE_EVENT_ID = "bench-cycle";
+
+    private static final AtomicInteger THREAD_SEQUENCE = new AtomicInteger();
+
+    private RedisServer redisServer;
+    private AnnotationConfigApplicationContext context;
+    private QueueRepository queueRepository;
+    private SlotService slotService;
+    private int waitingUsers;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        int port = Integer.getInteger("queue.bench.redis-port", 16379);
+        waitingUsers = Integer.getInteger("queue.bench.waiting-users", 100_000);
+
+        redisServer = new RedisServer(port);
+        redisServer.start();
+
+        context = new AnnotationConfigApplicationContext();
+        context.getEnvironment().getPropertySources().addFirst(new MapPropertySource("benchmark", Map.of(
+                "spring.data.redis.host", "localhost",
+                "spring.data.redis.port", port,
+                "queue.shard.count", Integer.getInteger("queue.shard.count", 1)
+        )));
+        context.registerBean(SimpleMeterRegistry.class);
+        context.register(RedisConfig.class, RedisLuaScripts.class, RedisScriptConfig.class, QueueScriptMetrics.class,
+                QueueKeyResolver.class, QueueRedisRepository.class, SlotService.class);
+        context.refresh();
+
+        queueRepository = context.getBean(QueueRepository.class);
+        context.getBean(RedisTemplate.class).getConnectionFactory().getConnection().serverCommands().flushAll();
+
+        slotService = context.getBean(SlotService.class);
+        slotService.setMaxSlot(WAITING_EVENT_ID, 0);
+
+        // 상태 조회 / 입장 시도용 대기열 사전 적재
+        for (int i = 0; i < waitingUsers; i++) {
+            queueRepository.enterQueue(waitingUserId(i), WAITING_EVENT_ID);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        if (context != null) {
+            context.close();
+        }
+        if (redisServer != null) {
+            redisServer.stop();
+        }
+    }
+
+    /**
+     * 가상 사용자(스레드)별 상태
+     * - 사이클 벤치마크는 스레드마다 별도 이벤트를 사용 (일괄 입장이 다른 스레드 사용자를 입장시키지 않도록)
+     */
+    @State(Scope.Thread)
+    public static class VirtualUser {
+        private int threadId;
+        private long sequence;
+        private String cycleEventId;
+
+        @Setup(Level.Trial)
+        public void setUp(QueueRedisRepositoryBenchmark benchmark) {
+            threadId = THREAD_SEQUENCE.incrementAndGet();
+            cycleEventId = CYCLE_EVENT_ID + "-" + threadId;
+            benchmark.slotService.setMaxSlot(cycleEventId, Integer.MAX_VALUE);
+        }
+
+        String nextUserId() {
+            return "vu-" + threadId + "-" + (sequence++);
+        }
+    }
+
+    /**
+     * 대기열 진입 (신규 사용자)
+     */
+    @Benchmark
+    @BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+    public Long enterQueue(VirtualUser user) {
+        return queueRepository.enterQueue(user.nextUserId(), ENTER_EVENT_ID);
+    }
+
+    /**
+     * 대기열 상태 polling (대기 중인 임의 사용자)
+     */
+    @Benchmark
+    @BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+    public void getQueueStatus(Blackhole blackhole) {
+        blackhole.consume(queueRepository.getQueueStatus(randomWaitingUserId(), WAITING_EVENT_ID));
+    }
+
+    /**
+     * 예매 화면 입장 시도 (슬롯이 없어 대부분 거절되는 on-sale 경합 상황)
+     */
+    @Benchmark
+    @BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+    public Long enterTicketing() {
+        return queueRepository.enterTicketing(randomWaitingUserId(), WAITING_EVENT_ID);
+    }
+
+    /**
+     * 진입 → 일괄 입장 → 예매 화면 퇴장 → 대기열 퇴장 한 사이클
+     * - 스레드 전용 이벤트이므로 일괄 입장 대상은 항상 방금 진입한 사용자
+     */
+    @Benchmark
+    @BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+    public void ticketingCycle(VirtualUser user, Blackhole blackhole) {
+        String userId = user.nextUserId();
+        blackhole.consume(queueRepository.enterQueue(userId, user.cycleEventId));
+        blackhole.consume(queueRepository.admitBatch(user.cycleEventId, 1));
+        blackhole.consume(queueRepository.leaveTicketing(userId, user.cycleEventId));
+        blackhole.consume(queueRepository.leaveQueue(userId, user.cycleEventId));
+    }
+
+    private String randomWaitingUserId() {
+        return waitingUserId(ThreadLocalRandom.current().nextInt(waitingUsers));
+    }
+
+    private static String waitingUserId(int index) {
+        return "waiting-" + index;
+    }
+}
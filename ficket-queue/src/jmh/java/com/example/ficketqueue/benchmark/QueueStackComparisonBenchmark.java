@@ -0,0 +1,135 @@
+package com.example.ficketqueue.benchmark;
+
+import com.example.ficketqueue.global.metrics.QueueScriptMetrics;
+import com.example.ficketqueue.global.redis.RedisConfig;
+import com.example.ficketqueue.global.redis.RedisLuaScripts;
+import com.example.ficketqueue.global.redis.RedisScriptConfig;
+import com.example.ficketqueue.global.utils.QueueKeyResolver;
+import com.example.ficketqueue.queue.repository.QueueRedisRepository;
+import com.example.ficketqueue.queue.repository.QueueRepository;
+import com.example.ficketqueue.queue.repository.ReactiveQueueRedisRepository;
+import com.example.ficketqueue.queue.repository.ReactiveQueueRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.data.redis.core.RedisTemplate;
+import reactor.core.publisher.Flux;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 블로킹(RedisTemplate) vs 리액티브(ReactiveRedisTemplate) 대기열 상태 조회 비교 벤치마크
+ *
+ * - 1 op = 동시 상태 조회 요청 concurrency 건을 모두 처리하는 시간
+ * - 블로킹: 요청당 스레드 1개를 점유하는 MVC 를 모사하여 고정 크기 스레드 풀(기본 200 = Tomcat 기본 max-threads)에서 실행
+ * - 리액티브: flatMap 으로 concurrency 건을 동시에 요청하고 Lettuce 이벤트 루프에서 응답 처리
+ * - 두 스택 모두 같은 Lettuce 공유 연결 / Lua 스크립트를 사용하므로 차이는 요청 대기 중 스레드 점유 방식에서만 발생
+ *
+ * 실행: ./gradlew jmh -Djmh.threads=1 -Djmh.includes=QueueStackComparisonBenchmark -Dqueue.bench.blocking-threads=200
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class QueueStackComparisonBenchmark {
+
+    private static final String EVENT_ID = "bench-stack";
+
+    @Param({"256", "4096", "16384"})
+    private int concurrency;
+
+    private RedisServer redisServer;
+    private AnnotationConfigApplicationContext context;
+    private QueueRepository queueRepository;
+    private ReactiveQueueRepository reactiveQueueRepository;
+    private ExecutorService blockingExecutor;
+    private int waitingUsers;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        int port = Integer.getInteger("queue.bench.redis-port", 16380);
+        waitingUsers = Integer.getInteger("queue.bench.waiting-users", 100_000);
+
+        redisServer = new RedisServer(port);
+        redisServer.start();
+
+        context = new AnnotationConfigApplicationContext();
+        context.getEnvironment().getPropertySources().addFirst(new MapPropertySource("benchmark", Map.of(
+                "spring.data.redis.host", "localhost",
+                "spring.data.redis.port", port,
+                "queue.shard.count", Integer.getInteger("queue.shard.count", 1)
+        )));
+        context.registerBean(SimpleMeterRegistry.class);
+        context.register(RedisConfig.class, RedisLuaScripts.class, RedisScriptConfig.class, QueueScriptMetrics.class,
+                QueueKeyResolver.class, QueueRedisRepository.class, ReactiveQueueRedisRepository.class);
+        context.refresh();
+
+        queueRepository = context.getBean(QueueRepository.class);
+        reactiveQueueRepository = context.getBean(ReactiveQueueRepository.class);
+        context.getBean(RedisTemplate.class).getConnectionFactory().getConnection().serverCommands().flushAll();
+
+        // 상태 조회용 대기열 사전 적재
+        Flux.range(0, waitingUsers)
+                .flatMap(i -> reactiveQueueRepository.enterQueue(waitingUserId(i), EVENT_ID), 256)
+                .blockLast();
+
+        blockingExecutor = Executors.newFixedThreadPool(Integer.getInteger("queue.bench.blocking-threads", 200));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        if (blockingExecutor != null) {
+            blockingExecutor.shutdownNow();
+        }
+        if (context != null) {
+            context.close();
+        }
+        if (redisServer != null) {
+            redisServer.stop();
+        }
+    }
+
+    /**
+     * 블로킹 스택: 요청마다 풀 스레드가 Redis 응답까지 대기
+     */
+    @Benchmark
+    public int blockingStatus() throws InterruptedException, ExecutionException {
+        List<Future<?>> futures = new ArrayList<>(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            futures.add(blockingExecutor.submit(() -> queueRepository.getQueueStatus(randomWaitingUserId(), EVENT_ID)));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        return futures.size();
+    }
+
+    /**
+     * 리액티브 스택: concurrency 건을 동시에 요청하고 이벤트 루프에서 완료 처리
+     */
+    @Benchmark
+    public long reactiveStatus() {
+        return Flux.range(0, concurrency)
+                .flatMap(i -> reactiveQueueRepository.getQueueStatus(randomWaitingUserId(), EVENT_ID), concurrency)
+                .count()
+                .block();
+    }
+
+    private String randomWaitingUserId() {
+        return waitingUserId(ThreadLocalRandom.current().nextInt(waitingUsers));
+    }
+
+    private static String waitingUserId(int index) {
+        return "waiting-" + index;
+    }
+}
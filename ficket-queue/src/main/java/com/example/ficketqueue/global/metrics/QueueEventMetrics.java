@@ -0,0 +1,115 @@
+package com.example.ficketqueue.global.metrics;
+
+import com.example.ficketqueue.queue.repository.QueueRepository;
+import com.example.ficketqueue.queue.repository.QueueRepository.QueueDepth;
+import com.example.ficketqueue.queue.service.AdmissionRateTracker;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 이벤트별 대기열 메트릭
+ *
+ * - 대기열 인원, currentNumber, lease 수, maxConcurrent, 초당 입장 인원 게이지 (eventId 태그)
+ * - 만료 lease 회수 카운터
+ * - 스크레이프마다 Redis 를 조회하지 않도록 주기적으로 파이프라인 1회로 갱신한 값을 노출
+ * - 입장 스케줄러 대상에서 빠진 이벤트의 meter 는 갱신 시 제거하여 카디널리티 제한
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class QueueEventMetrics {
+
+    private static final String EVENT_ID_TAG = "eventId";
+
+    private final QueueRepository queueRepository;
+    private final AdmissionRateTracker admissionRateTracker;
+    private final MeterRegistry meterRegistry;
+
+    // eventId -> 이벤트별 meter
+    private final Map<String, EventMeters> events = new ConcurrentHashMap<>();
+
+    @Scheduled(fixedDelayString = "${queue.metrics.refresh-ms:5000}")
+    public void refresh() {
+        try {
+            Set<String> activeEventIds = queueRepository.getActiveEventIds();
+
+            events.entrySet().removeIf(entry -> {
+                if (activeEventIds.contains(entry.getKey())) {
+                    return false;
+                }
+                entry.getValue().remove(meterRegistry);
+                return true;
+            });
+
+            queueRepository.getQueueDepths(activeEventIds)
+                    .forEach((eventId, depth) -> eventMeters(eventId).depth = depth);
+        } catch (Exception e) {
+            log.error("[QUEUE METRICS] failed to refresh", e);
+        }
+    }
+
+    /**
+     * 만료 lease 회수 인원 기록
+     */
+    public void recordReclaimed(String eventId, long reclaimed) {
+        eventMeters(eventId).reclaimed.increment(reclaimed);
+    }
+
+    private EventMeters eventMeters(String eventId) {
+        return events.computeIfAbsent(eventId, id -> new EventMeters(id, meterRegistry, admissionRateTracker));
+    }
+
+    private static final class EventMeters {
+
+        private volatile QueueDepth depth;
+        private final Counter reclaimed;
+        private final List<Meter> meters;
+
+        EventMeters(String eventId, MeterRegistry meterRegistry, AdmissionRateTracker admissionRateTracker) {
+            this.reclaimed = Counter.builder("queue.lease.reclaimed")
+                    .description("TTL 만료로 회수된 작업 슬롯 수")
+                    .tag(EVENT_ID_TAG, eventId)
+                    .register(meterRegistry);
+
+            this.meters = List.of(
+                    reclaimed,
+                    Gauge.builder("queue.waiting.size", this, self -> self.depth == null ? Double.NaN : self.depth.waiting())
+                            .description("대기열 인원")
+                            .tag(EVENT_ID_TAG, eventId)
+                            .register(meterRegistry),
+                    Gauge.builder("queue.working.current", this, self -> self.depth == null ? Double.NaN : self.depth.currentNumber())
+                            .description("currentNumber 값")
+                            .tag(EVENT_ID_TAG, eventId)
+                            .register(meterRegistry),
+                    Gauge.builder("queue.working.leases", this, self -> self.depth == null ? Double.NaN : self.depth.leases())
+                            .description("점유 중인 작업 슬롯(lease) 수")
+                            .tag(EVENT_ID_TAG, eventId)
+                            .register(meterRegistry),
+                    Gauge.builder("queue.working.max", this, self -> self.depth == null || self.depth.maxConcurrent() == null
+                                    ? Double.NaN : self.depth.maxConcurrent())
+                            .description("maxConcurrent 값")
+                            .tag(EVENT_ID_TAG, eventId)
+                            .register(meterRegistry),
+                    Gauge.builder("queue.admission.rate", admissionRateTracker, tracker -> tracker.getAdmissionsPerSecond(eventId))
+                            .description("초당 입장 인원 (EWMA)")
+                            .tag(EVENT_ID_TAG, eventId)
+                            .register(meterRegistry)
+            );
+        }
+
+        void remove(MeterRegistry meterRegistry) {
+            meters.forEach(meterRegistry::remove);
+        }
+    }
+}
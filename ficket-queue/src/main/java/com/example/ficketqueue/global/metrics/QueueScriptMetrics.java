@@ -0,0 +1,50 @@
+package com.example.ficketqueue.global.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 대기열 Lua 스크립트 실행 시간 메트릭
+ *
+ * - queue.script{script=스크립트 이름} 타이머, Prometheus 히스토그램 버킷 포함
+ * - 스크립트 이름은 RedisLuaScripts 의 스크립트 종류로 고정되어 카디널리티가 제한됨
+ */
+@Component
+@RequiredArgsConstructor
+public class QueueScriptMetrics {
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+
+    /**
+     * 블로킹 스크립트 실행 시간 기록
+     */
+    public <T> T record(String script, Supplier<T> execution) {
+        return timer(script).record(execution);
+    }
+
+    /**
+     * 리액티브 스크립트 실행 시간 기록 (구독 시점부터 완료/에러/취소까지)
+     */
+    public <T> Mono<T> record(String script, Mono<T> execution) {
+        return Mono.defer(() -> {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            return execution.doFinally(signal -> sample.stop(timer(script)));
+        });
+    }
+
+    private Timer timer(String script) {
+        return timers.computeIfAbsent(script, name -> Timer.builder("queue.script")
+                .description("대기열 Lua 스크립트 실행 시간")
+                .tag("script", name)
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+    }
+}
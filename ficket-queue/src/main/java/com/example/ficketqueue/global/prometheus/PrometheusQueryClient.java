@@ -0,0 +1,69 @@
+package com.example.ficketqueue.global.prometheus;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+import java.time.Duration;
+
+/**
+ * Prometheus HTTP API 조회 클라이언트
+ *
+ * - 각 서비스가 노출한 메트릭을 Prometheus 에서 집계된 값으로 조회 (인스턴스별 actuator 직접 조회 X)
+ * - 조회 실패 또는 결과 없음은 null 로 반환하여 호출 측이 판단을 보류하도록 함
+ */
+@Slf4j
+@Component
+public class PrometheusQueryClient {
+
+    private final RestClient restClient;
+
+    public PrometheusQueryClient(@Value("${queue.slot-controller.prometheus-url:http://prometheus:9090}") String prometheusUrl,
+                                 @Value("${queue.slot-controller.query-timeout-ms:2000}") long queryTimeoutMs) {
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(Duration.ofMillis(queryTimeoutMs));
+        requestFactory.setReadTimeout(Duration.ofMillis(queryTimeoutMs));
+
+        // 리액티브 모드에서는 RestClient.Builder 가 자동 등록되지 않으므로 직접 생성
+        this.restClient = RestClient.builder()
+                .baseUrl(prometheusUrl)
+                .requestFactory(requestFactory)
+                .build();
+    }
+
+    /**
+     * 즉시 쿼리 결과의 첫 번째 값 조회
+     *
+     * @param promQl 단일 값으로 집계되는 PromQL
+     * @return 조회 값, 실패/결과 없음/NaN 이면 null
+     */
+    public Double queryScalar(String promQl) {
+        try {
+            JsonNode body = restClient.get()
+                    .uri(uriBuilder -> uriBuilder.path("/api/v1/query")
+                            .queryParam("query", "{query}")
+                            .build(promQl))
+                    .retrieve()
+                    .body(JsonNode.class);
+
+            if (body == null || !"success".equals(body.path("status").asText())) {
+                return null;
+            }
+
+            JsonNode result = body.path("data").path("result");
+            if (!result.isArray() || result.isEmpty()) {
+                return null;
+            }
+
+            // value = [timestamp, "값"]
+            double value = Double.parseDouble(result.get(0).path("value").path(1).asText("NaN"));
+            return Double.isFinite(value) ? value : null;
+        } catch (Exception e) {
+            log.warn("[PROMETHEUS] query failed | query={}", promQl, e);
+            return null;
+        }
+    }
+}
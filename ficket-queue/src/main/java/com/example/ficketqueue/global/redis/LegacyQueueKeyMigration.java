@@ -0,0 +1,148 @@
+package com.example.ficketqueue.global.redis;
+
+import com.example.ficketqueue.global.utils.QueueKeyResolver;
+import com.example.ficketqueue.queue.service.SlotService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 해시 태그 도입 이전 대기열 키 이관 (1회성)
+ *
+ * 이전 키(queue:{eventId}:... 가 아닌 queue:eventId:...)는 새 버전에서 읽지 않으므로,
+ * 대기열이 열린 상태로 배포하면 대기 중인 사용자 / 작업 공간 / 슬롯 설정이 모두 사라진 것처럼 보인다.
+ *
+ * 전환 절차
+ * 1. 이전 버전 인스턴스를 모두 내린다. (이관 중 이전 키에 쓰기가 없어야 함)
+ * 2. 새 버전 인스턴스 1대를 queue.migration.legacy-keys.enabled=true 로 기동하여 이관 완료 로그를 확인한다.
+ * 3. 설정을 제거하고 나머지 인스턴스를 기동한다.
+ *
+ * 이관 내용 (이벤트별, maxConcurrent 키 기준으로 탐색)
+ * - maxConcurrent: SlotService 로 다시 설정 (활성 이벤트 등록, 샤드 할당량 기록)
+ * - 대기열: 기존 순번(score)을 유지한 채 사용자 파티션으로 이동, nextNumber 는 기존 값 이상으로 맞춤
+ * - 작업 공간: 남은 TTL 그대로 이동하고 lease 등록, currentNumber 는 lease 수로 맞춤
+ * - 이관한 이전 키는 삭제
+ *
+ * 키 탐색에 KEYS 를 사용하므로 트래픽이 없는 전환 시점에만 실행한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "queue.migration.legacy-keys.enabled", havingValue = "true")
+public class LegacyQueueKeyMigration implements ApplicationRunner {
+
+    private static final String LEGACY_PREFIX = "queue:";
+    private static final String LEGACY_MAX_CONCURRENT_SUFFIX = ":maxConcurrent";
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final QueueKeyResolver queueKeyResolver;
+    private final SlotService slotService;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        Set<String> maxConcurrentKeys = redisTemplate.keys(LEGACY_PREFIX + "*" + LEGACY_MAX_CONCURRENT_SUFFIX);
+        if (maxConcurrentKeys == null) {
+            return;
+        }
+
+        int migrated = 0;
+        for (String maxConcurrentKey : maxConcurrentKeys) {
+            // 해시 태그가 있는 키는 이미 새 형식
+            if (maxConcurrentKey.contains("{")) {
+                continue;
+            }
+
+            String eventId = maxConcurrentKey.substring(
+                    LEGACY_PREFIX.length(), maxConcurrentKey.length() - LEGACY_MAX_CONCURRENT_SUFFIX.length());
+            try {
+                migrateEvent(eventId, maxConcurrentKey);
+                migrated++;
+            } catch (Exception e) {
+                log.error("[QUEUE MIGRATION] failed | eventId={}", eventId, e);
+            }
+        }
+
+        log.info("[QUEUE MIGRATION] legacy queue keys migrated | events={}", migrated);
+    }
+
+    private void migrateEvent(String eventId, String legacyMaxConcurrentKey) {
+        String legacyWaitingKey = LEGACY_PREFIX + eventId + ":waiting";
+        String legacyNextNumberKey = LEGACY_PREFIX + eventId + ":nextNumber";
+        String legacyCurrentNumberKey = LEGACY_PREFIX + eventId + ":currentNumber";
+
+        Object maxConcurrent = redisTemplate.opsForValue().get(legacyMaxConcurrentKey);
+        if (maxConcurrent != null) {
+            slotService.setMaxSlot(eventId, Integer.parseInt(maxConcurrent.toString()));
+        }
+
+        int waiting = migrateWaitingUsers(eventId, legacyWaitingKey, legacyNextNumberKey);
+        int working = migrateWorkingUsers(eventId);
+
+        redisTemplate.delete(Set.of(legacyMaxConcurrentKey, legacyWaitingKey, legacyNextNumberKey, legacyCurrentNumberKey));
+        log.info("[QUEUE MIGRATION] eventId={}, maxConcurrent={}, waiting={}, working={}",
+                eventId, maxConcurrent, waiting, working);
+    }
+
+    private int migrateWaitingUsers(String eventId, String legacyWaitingKey, String legacyNextNumberKey) {
+        Set<ZSetOperations.TypedTuple<Object>> waitingUsers =
+                redisTemplate.opsForZSet().rangeWithScores(legacyWaitingKey, 0, -1);
+        if (waitingUsers != null) {
+            for (ZSetOperations.TypedTuple<Object> tuple : waitingUsers) {
+                String userId = String.valueOf(tuple.getValue());
+                int partition = queueKeyResolver.partitionOf(userId);
+                redisTemplate.opsForZSet().add(queueKeyResolver.waitingZSetKey(eventId, partition), userId, tuple.getScore());
+            }
+        }
+
+        // 새로 진입한 사용자가 이관된 사용자보다 뒤 순번을 받도록 nextNumber 를 기존 값 이상으로 설정
+        Object nextNumber = redisTemplate.opsForValue().get(legacyNextNumberKey);
+        if (nextNumber != null) {
+            long legacyNext = Long.parseLong(nextNumber.toString());
+            for (int partition = 0; partition < queueKeyResolver.partitionCount(); partition++) {
+                String nextNumberKey = queueKeyResolver.nextNumberKey(eventId, partition);
+                Object current = redisTemplate.opsForValue().get(nextNumberKey);
+                if (current == null || Long.parseLong(current.toString()) < legacyNext) {
+                    redisTemplate.opsForValue().set(nextNumberKey, legacyNext);
+                }
+            }
+        }
+
+        return waitingUsers == null ? 0 : waitingUsers.size();
+    }
+
+    private int migrateWorkingUsers(String eventId) {
+        String legacyWorkingPrefix = LEGACY_PREFIX + eventId + ":working:";
+        Set<String> legacyWorkingKeys = redisTemplate.keys(legacyWorkingPrefix + "*");
+        if (legacyWorkingKeys == null || legacyWorkingKeys.isEmpty()) {
+            return 0;
+        }
+
+        long now = TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis());
+        int migrated = 0;
+        for (String legacyWorkingKey : legacyWorkingKeys) {
+            Long ttlSeconds = redisTemplate.getExpire(legacyWorkingKey, TimeUnit.SECONDS);
+            if (ttlSeconds != null && ttlSeconds > 0) {
+                String userId = legacyWorkingKey.substring(legacyWorkingPrefix.length());
+                int partition = queueKeyResolver.partitionOf(userId);
+                redisTemplate.opsForValue().set(queueKeyResolver.workingUserKey(eventId, userId), 1, ttlSeconds, TimeUnit.SECONDS);
+                redisTemplate.opsForZSet().add(queueKeyResolver.leaseZSetKey(eventId, partition), userId, now + ttlSeconds);
+                migrated++;
+            }
+            redisTemplate.delete(legacyWorkingKey);
+        }
+
+        for (int partition = 0; partition < queueKeyResolver.partitionCount(); partition++) {
+            Long leases = redisTemplate.opsForZSet().zCard(queueKeyResolver.leaseZSetKey(eventId, partition));
+            redisTemplate.opsForValue().set(queueKeyResolver.currentNumberKey(eventId, partition), leases == null ? 0L : leases);
+        }
+        return migrated;
+    }
+}
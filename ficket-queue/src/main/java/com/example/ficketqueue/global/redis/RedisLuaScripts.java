@@ -72,16 +72,19 @@ public class RedisLuaScripts {
     /**
      * 예매 화면 진입 시도
      * - 맨 앞(rank == 0)인지 확인
-     * - 동시 접속 제한 확인
+     * - 동시 접속 제한 확인 (maxConcurrent 도 스크립트 내부에서 조회)
      * - 입장 시 대기열 제거 + 작업 슬롯 점유
+     * - 현재 입장 인원은 lease ZSET 의 ZCARD 를 기준으로 계산
      *
      * KEYS[1] = waitingZSetKey
      * KEYS[2] = currentNumberKey
      * KEYS[3] = workingUserKey
+     * KEYS[4] = maxConcurrentKey
+     * KEYS[5] = leaseZSetKey
+     * KEYS[6] = admittedTotalKey
      *
      * ARGV[1] = userId
-     * ARGV[2] = maxConcurrent
-     * ARGV[3] = ttlSeconds
+     * ARGV[2] = ttlSeconds
      *
      * return 1 = 입장 성공
      * return 0 = 입장 불가
@@ -99,18 +102,22 @@ public class RedisLuaScripts {
             return 0
         end
 
-        -- 현재 입장 인원 확인
-        local current = tonumber(redis.call('GET', KEYS[2]) or '0')
-        local maxConcurrent = tonumber(ARGV[2])
+        -- 현재 입장 인원 확인 (슬롯 미설정 시 입장 불가)
+        local current = redis.call('ZCARD', KEYS[5])
+        local maxConcurrent = tonumber(redis.call('GET', KEYS[4]) or '0')
 
         if current >= maxConcurrent then
             return 0
         end
 
+        local expireAt = tonumber(redis.call('TIME')[1]) + tonumber(ARGV[2])
+
         -- 입장 처리 (원자적 상태 전환)
-        redis.call('ZREM', KEYS[1], ARGV[1])        -- 대기열 제거
-        redis.call('INCR', KEYS[2])                -- 현재 입장 인원 증가
-        redis.call('SET', KEYS[3], 1, 'EX', ARGV[3]) -- 작업 공간 TTL 설정
+        redis.call('ZREM', KEYS[1], ARGV[1])               -- 대기열 제거
+        redis.call('ZADD', KEYS[5], expireAt, ARGV[1])     -- 작업 슬롯 lease 등록
+        redis.call('SET', KEYS[2], current + 1)            -- 현재 입장 인원 동기화
+        redis.call('SET', KEYS[3], 1, 'EX', ARGV[2])       -- 작업 공간 TTL 설정
+        redis.call('INCR', KEYS[6])                        -- 누적 입장 인원
 
         return 1
         """;
@@ -118,23 +125,142 @@ public class RedisLuaScripts {
 
     /**
      * 예매 화면 나기기
-     * - 작업 공간 해제
-     * - currentNumber 감소
+     * - 작업 공간 해제 + lease 제거
+     * - currentNumber 를 lease ZSET 크기로 동기화
      *
      * KEYS[1] = currentNumberKey
      * KEYS[2] = workingUserKey
+     * KEYS[3] = leaseZSetKey
+     *
+     * ARGV[1] = userId
      *
      * return 1 = 퇴장 성공
      * return 0 = 이미 퇴장 상태
      */
     public String getLeaveTicketingScript() {
         return """
-        if redis.call('DEL', KEYS[2]) == 1 then
-            redis.call('DECR', KEYS[1])
-            return 1
+        redis.call('DEL', KEYS[2])
+        local removed = redis.call('ZREM', KEYS[3], ARGV[1])
+
+        redis.call('SET', KEYS[1], redis.call('ZCARD', KEYS[3]))
+
+        return removed
+        """;
+    }
+
+    /**
+     * 나의 대기열 상태 조회
+     * - ZRANK + ZCARD + EXISTS 를 한 번의 왕복으로 처리
+     *
+     * KEYS[1] = waitingZSetKey
+     * KEYS[2] = workingUserKey
+     * ARGV[1] = userId
+     *
+     * return { rank(없으면 -1), totalWaiting, working(1/0) }
+     */
+    public String getQueueStatusScript() {
+        return """
+        local rank = redis.call('ZRANK', KEYS[1], ARGV[1])
+        if not rank then
+            rank = -1
         end
 
-        return 0
+        local total = redis.call('ZCARD', KEYS[1])
+        local working = redis.call('EXISTS', KEYS[2])
+
+        return { rank, total, working }
+        """;
+    }
+
+    /**
+     * 입장 스케줄러 일괄 입장 처리
+     * - 빈 슬롯(maxConcurrent - lease 수)만큼 대기열 앞에서 ZPOPMIN
+     * - 샤드 모드에서는 샤드 키(샤드 할당량 / lease / 작업 공간)로 샤드마다 실행
+     * - 꺼낸 사용자마다 lease 등록 + 작업 공간 TTL 설정
+     * - currentNumber 를 lease ZSET 크기로 동기화
+     *
+     * KEYS[1] = waitingZSetKey
+     * KEYS[2] = currentNumberKey
+     * KEYS[3] = maxConcurrentKey
+     * KEYS[4] = leaseZSetKey
+     * KEYS[5] = admittedTotalKey
+     *
+     * ARGV[1] = ttlSeconds
+     * ARGV[2] = workingUserKey prefix (JSON 직렬화된 문자열)
+     * ARGV[3] = 한 번에 입장시킬 최대 인원
+     *
+     * return 입장 처리된 인원 수 (슬롯 미설정 시 -1)
+     */
+    public String getAdmitBatchScript() {
+        return """
+        local maxValue = redis.call('GET', KEYS[3])
+        if not maxValue then
+            return -1
+        end
+
+        local current = redis.call('ZCARD', KEYS[4])
+        local free = tonumber(maxValue) - current
+        if free <= 0 then
+            return 0
+        end
+
+        local limit = tonumber(ARGV[3])
+        if free > limit then
+            free = limit
+        end
+
+        local prefix = cjson.decode(ARGV[2])
+        local expireAt = tonumber(redis.call('TIME')[1]) + tonumber(ARGV[1])
+        local popped = redis.call('ZPOPMIN', KEYS[1], free)
+
+        local admitted = 0
+        for i = 1, #popped, 2 do
+            -- ZSET member 는 JSON 문자열로 저장되어 있음
+            local member = popped[i]
+            local userId = tostring(cjson.decode(member))
+            redis.call('ZADD', KEYS[4], expireAt, member)
+            redis.call('SET', prefix .. userId, 1, 'EX', ARGV[1])
+            admitted = admitted + 1
+        end
+
+        redis.call('SET', KEYS[2], current + admitted)
+        if admitted > 0 then
+            redis.call('INCRBY', KEYS[5], admitted)
+        end
+
+        return admitted
+        """;
+    }
+
+    /**
+     * 만료된 작업 슬롯 lease 회수
+     * - 만료 시각이 지난 lease 제거 + 작업 공간 키 삭제
+     * - currentNumber 를 lease ZSET 크기로 보정 (ZCARD 가 기준값)
+     *
+     * KEYS[1] = leaseZSetKey
+     * KEYS[2] = currentNumberKey
+     *
+     * ARGV[1] = workingUserKey prefix (JSON 직렬화된 문자열)
+     * ARGV[2] = 한 번에 회수할 최대 lease 수
+     *
+     * return 회수된 lease 수
+     */
+    public String getSweepExpiredLeasesScript() {
+        return """
+        local now = tonumber(redis.call('TIME')[1])
+        local expired = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', now, 'LIMIT', 0, tonumber(ARGV[2]))
+
+        if #expired > 0 then
+            local prefix = cjson.decode(ARGV[1])
+            for _, member in ipairs(expired) do
+                redis.call('DEL', prefix .. tostring(cjson.decode(member)))
+                redis.call('ZREM', KEYS[1], member)
+            end
+        end
+
+        redis.call('SET', KEYS[2], redis.call('ZCARD', KEYS[1]))
+
+        return #expired
         """;
     }
 }
@@ -0,0 +1,53 @@
+package com.example.ficketqueue.global.redis;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.List;
+
+/**
+ * 대기열 Lua 스크립트 Bean 등록
+ *
+ * - 스크립트 객체를 한 번만 생성하여 SHA1 을 재사용
+ * - RedisTemplate.execute 는 EVALSHA 를 먼저 시도하고, NOSCRIPT 인 경우에만 EVAL 로 전송
+ */
+@Configuration
+public class RedisScriptConfig {
+
+    @Bean
+    public RedisScript<Long> enterQueueScript(RedisLuaScripts redisLuaScripts) {
+        return RedisScript.of(redisLuaScripts.getEnterQueueScript(), Long.class);
+    }
+
+    @Bean
+    public RedisScript<Long> leaveQueueScript(RedisLuaScripts redisLuaScripts) {
+        return RedisScript.of(redisLuaScripts.getLeaveQueueScript(), Long.class);
+    }
+
+    @Bean
+    public RedisScript<Long> enterTicketingScript(RedisLuaScripts redisLuaScripts) {
+        return RedisScript.of(redisLuaScripts.getEnterTicketingScript(), Long.class);
+    }
+
+    @Bean
+    public RedisScript<Long> leaveTicketingScript(RedisLuaScripts redisLuaScripts) {
+        return RedisScript.of(redisLuaScripts.getLeaveTicketingScript(), Long.class);
+    }
+
+    @Bean
+    public RedisScript<Long> admitBatchScript(RedisLuaScripts redisLuaScripts) {
+        return RedisScript.of(redisLuaScripts.getAdmitBatchScript(), Long.class);
+    }
+
+    @Bean
+    public RedisScript<Long> sweepExpiredLeasesScript(RedisLuaScripts redisLuaScripts) {
+        return RedisScript.of(redisLuaScripts.getSweepExpiredLeasesScript(), Long.class);
+    }
+
+    @Bean
+    @SuppressWarnings("rawtypes")
+    public RedisScript<List> queueStatusScript(RedisLuaScripts redisLuaScripts) {
+        return RedisScript.of(redisLuaScripts.getQueueStatusScript(), List.class);
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.ficketqueue.global.scheduler;
+
+import com.example.ficketqueue.queue.repository.QueueRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 대기열 일괄 입장 스케줄러
+ *
+ * - 틱마다 이벤트별 빈 슬롯만큼 대기열 앞 사용자를 작업 공간으로 이동
+ * - 슬롯 계산과 이동은 Lua 스크립트에서 원자적으로 처리되므로 여러 인스턴스에서 동시에 실행해도 초과 입장 없음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "queue.admission.scheduler.enabled", havingValue = "true", matchIfMissing = true)
+public class AdmissionScheduler {
+
+    private final QueueRepository queueRepository;
+
+    @Value("${queue.admission.batch-size:500}")
+    private int batchSize;
+
+    @Scheduled(fixedDelayString = "${queue.admission.tick-ms:200}")
+    public void admit() {
+        for (String eventId : queueRepository.getActiveEventIds()) {
+            try {
+                Long admitted = queueRepository.admitBatch(eventId, batchSize);
+
+                if (admitted == null) {
+                    continue;
+                }
+
+                // 슬롯 설정이 사라진 이벤트는 남은 lease 가 모두 회수된 뒤 스케줄러 대상에서 제외
+                // (활성 이벤트 목록은 lease 회수 스케줄러도 사용하므로 먼저 제외하면 만료 lease 가 남음)
+                if (admitted < 0) {
+                    if (queueRepository.countWorkingSlots(eventId) == 0) {
+                        queueRepository.deactivateEvent(eventId);
+                        log.info("[ADMISSION] slot not initialized, deactivated | eventId={}", eventId);
+                    }
+                    continue;
+                }
+
+                if (admitted > 0) {
+                    log.debug("[ADMISSION] admitted={} | eventId={}", admitted, eventId);
+                }
+            } catch (Exception e) {
+                log.error("[ADMISSION] failed to admit | eventId={}", eventId, e);
+            }
+        }
+    }
+}
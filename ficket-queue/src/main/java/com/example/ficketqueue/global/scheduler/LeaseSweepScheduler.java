@@ -0,0 +1,44 @@
+package com.example.ficketqueue.global.scheduler;
+
+import com.example.ficketqueue.global.metrics.QueueEventMetrics;
+import com.example.ficketqueue.queue.repository.QueueRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 작업 슬롯 lease 회수 스케줄러
+ *
+ * - keyspace 만료 이벤트 대신 lease ZSET 을 주기적으로 검사하여 만료된 슬롯 회수
+ * - 회수와 currentNumber 보정은 Lua 스크립트에서 원자적으로 처리되므로 여러 인스턴스가 동시에 실행해도 중복 감소 없음
+ * - 활성 이벤트 목록 기준으로 검사하며, 입장 스케줄러는 lease ZSET 이 비기 전까지 이벤트를 목록에서 제외하지 않음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LeaseSweepScheduler {
+
+    private final QueueRepository queueRepository;
+    private final QueueEventMetrics queueEventMetrics;
+
+    @Value("${queue.lease.sweep-batch-size:1000}")
+    private int sweepBatchSize;
+
+    @Scheduled(fixedDelayString = "${queue.lease.sweep-ms:1000}")
+    public void sweep() {
+        for (String eventId : queueRepository.getActiveEventIds()) {
+            try {
+                Long reclaimed = queueRepository.sweepExpiredLeases(eventId, sweepBatchSize);
+
+                if (reclaimed != null && reclaimed > 0) {
+                    queueEventMetrics.recordReclaimed(eventId, reclaimed);
+                    log.info("[LEASE SWEEP] reclaimed={} | eventId={}", reclaimed, eventId);
+                }
+            } catch (Exception e) {
+                log.error("[LEASE SWEEP] failed to sweep | eventId={}", eventId, e);
+            }
+        }
+    }
+}
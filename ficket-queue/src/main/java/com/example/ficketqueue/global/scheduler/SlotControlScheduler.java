@@ -0,0 +1,141 @@
+package com.example.ficketqueue.global.scheduler;
+
+import com.example.ficketqueue.global.prometheus.PrometheusQueryClient;
+import com.example.ficketqueue.global.utils.KeyHelper;
+import com.example.ficketqueue.queue.repository.QueueRepository;
+import com.example.ficketqueue.queue.service.SlotService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * 작업 슬롯(maxSlot) 자동 조정 스케줄러 (AIMD)
+ *
+ * - 하위 서비스 지표(좌석 선점 p99 지연, 좌석 선점/주문 5xx 비율)를 Prometheus 에서 조회
+ * - 과부하: maxSlot 을 비율로 감소 (multiplicative decrease)
+ * - 정상 + 슬롯이 거의 찼을 때: maxSlot 을 고정 폭으로 증가 (additive increase)
+ * - 슬롯이 남는 동안에는 증가시키지 않아 실제로 쓰이지 않는 한도가 커지지 않음
+ * - min/max-slot 은 조정한 값에만 적용 (유지할 때는 관리자가 범위 밖으로 설정한 값도 그대로 둠)
+ * - 감소 후 cooldown 동안은 조정하지 않음 (지표가 1분 구간 rate 이므로 감소 효과가 반영되기 전에 연속 감소하지 않도록,
+ *   cooldown 은 쿼리 구간 이상으로 설정)
+ * - 지표 조회에 실패하면 현재 값 유지
+ * - 여러 인스턴스 중 틱마다 락을 획득한 한 곳에서만 조정
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "queue.slot-controller.enabled", havingValue = "true")
+public class SlotControlScheduler {
+
+    private static final String INSTANCE_ID = UUID.randomUUID().toString();
+
+    private final QueueRepository queueRepository;
+    private final SlotService slotService;
+    private final PrometheusQueryClient prometheusQueryClient;
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    @Value("${queue.slot-controller.interval-ms:10000}")
+    private long intervalMs;
+
+    @Value("${queue.slot-controller.latency-query:histogram_quantile(0.99, sum by (le) (rate(http_server_requests_seconds_bucket{uri=\"/api/v1/events/seat/lock\"}[1m])))}")
+    private String latencyQuery;
+
+    @Value("${queue.slot-controller.error-rate-query:sum(rate(http_server_requests_seconds_count{uri=~\"/api/v1/events/seat/lock|/api/v1/ticketing/order\",outcome=\"SERVER_ERROR\"}[1m])) / sum(rate(http_server_requests_seconds_count{uri=~\"/api/v1/events/seat/lock|/api/v1/ticketing/order\"}[1m]))}")
+    private String errorRateQuery;
+
+    @Value("${queue.slot-controller.latency-threshold-ms:500}")
+    private double latencyThresholdMs;
+
+    @Value("${queue.slot-controller.error-rate-threshold:0.01}")
+    private double errorRateThreshold;
+
+    @Value("${queue.slot-controller.utilization-threshold:0.9}")
+    private double utilizationThreshold;
+
+    @Value("${queue.slot-controller.increase-step:20}")
+    private int increaseStep;
+
+    @Value("${queue.slot-controller.decrease-factor:0.7}")
+    private double decreaseFactor;
+
+    @Value("${queue.slot-controller.min-slot:50}")
+    private int minSlot;
+
+    @Value("${queue.slot-controller.max-slot:5000}")
+    private int maxSlot;
+
+    @Value("${queue.slot-controller.decrease-cooldown-ms:60000}")
+    private long decreaseCooldownMs;
+
+    @Scheduled(fixedDelayString = "${queue.slot-controller.interval-ms:10000}")
+    public void adjust() {
+        Boolean acquired = redisTemplate.opsForValue()
+                .setIfAbsent(KeyHelper.slotControllerLockKey(), INSTANCE_ID, Duration.ofMillis(intervalMs));
+        if (!Boolean.TRUE.equals(acquired)) {
+            return;
+        }
+
+        // 하위 서비스는 이벤트 간 공유 자원이므로 지표는 틱마다 한 번만 조회
+        Double latencySeconds = prometheusQueryClient.queryScalar(latencyQuery);
+        Double errorRate = prometheusQueryClient.queryScalar(errorRateQuery);
+        if (latencySeconds == null && errorRate == null) {
+            log.warn("[SLOT CONTROL] downstream signals unavailable, holding current slots");
+            return;
+        }
+
+        boolean overloaded = (latencySeconds != null && latencySeconds * 1000 > latencyThresholdMs)
+                || (errorRate != null && errorRate > errorRateThreshold);
+
+        for (String eventId : queueRepository.getActiveEventIds()) {
+            try {
+                adjustEvent(eventId, overloaded, latencySeconds, errorRate);
+            } catch (Exception e) {
+                log.error("[SLOT CONTROL] failed to adjust | eventId={}", eventId, e);
+            }
+        }
+    }
+
+    private void adjustEvent(String eventId, boolean overloaded, Double latencySeconds, Double errorRate) {
+        Integer current = slotService.getMaxSlot(eventId);
+        if (current == null) {
+            return;
+        }
+
+        String cooldownKey = KeyHelper.slotControllerCooldownKey(eventId);
+        if (Boolean.TRUE.equals(redisTemplate.hasKey(cooldownKey))) {
+            return;
+        }
+
+        long working = queueRepository.countWorkingSlots(eventId);
+        double utilization = current == 0 ? 1.0 : (double) working / current;
+
+        int next;
+        if (overloaded) {
+            // 이미 min-slot 아래면 더 줄이지 않음
+            next = Math.min(current, Math.max(minSlot, (int) Math.floor(current * decreaseFactor)));
+        } else if (utilization >= utilizationThreshold) {
+            // 이미 max-slot 위면 더 늘리지 않음
+            next = Math.max(current, Math.min(maxSlot, current + increaseStep));
+        } else {
+            return;
+        }
+
+        if (next == current) {
+            return;
+        }
+
+        slotService.setMaxSlot(eventId, next);
+        if (next < current) {
+            redisTemplate.opsForValue().set(cooldownKey, INSTANCE_ID, Duration.ofMillis(decreaseCooldownMs));
+        }
+        log.info("[SLOT CONTROL] maxSlot {} -> {} | eventId={}, p99={}s, errorRate={}, utilization={}",
+                current, next, eventId, latencySeconds, errorRate, String.format("%.2f", utilization));
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.ficketqueue.global.utils;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.util.Date;
+
+/**
+ * 예매 화면 입장 토큰 발급기
+ * <p>
+ * 입장에 성공한 사용자에게 eventId, userId, 만료 시각을 담은 HMAC 서명 JWT 를 발급합니다.
+ * 게이트웨이가 같은 비밀 키로 서명만 검증하므로 좌석 선점/주문 요청마다 Redis 로 작업 상태를 확인하지 않습니다.
+ * 토큰은 짧게 발급하고 예매 화면 접속 상태 확인 시 재발급하므로, 퇴장/만료 이후에는 최대 TTL 만큼만 유효합니다.
+ */
+@Component
+public class AdmissionTokenProvider {
+
+    public static final String ADMISSION_TOKEN_HEADER = "X-Admission-Token";
+
+    private static final String USER_ID_CLAIM = "userId";
+    private static final String EVENT_ID_CLAIM = "eventId";
+
+    private final Key secretKey;
+    private final long ttlMillis;
+
+    public AdmissionTokenProvider(@Value("${admission.token.secret}") String secretKey,
+                                  @Value("${admission.token.ttl-seconds:300}") long ttlSeconds) {
+        this.secretKey = Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8));
+        this.ttlMillis = ttlSeconds * 1000;
+    }
+
+    /**
+     * 입장 토큰 발급
+     */
+    public String issue(String userId, String eventId) {
+        Date now = new Date();
+
+        return Jwts.builder()
+                .claim(USER_ID_CLAIM, userId)
+                .claim(EVENT_ID_CLAIM, eventId)
+                .setIssuedAt(now)
+                .setExpiration(new Date(now.getTime() + ttlMillis))
+                .signWith(secretKey, SignatureAlgorithm.HS256)
+                .compact();
+    }
+}
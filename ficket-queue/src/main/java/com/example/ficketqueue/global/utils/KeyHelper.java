@@ -44,4 +44,110 @@ public class KeyHelper {
     public static String maxConcurrentKey(String eventId) {
         return KeyType.MAX_CONCURRENT.format(eventId);
     }
+
+    /**
+     * 이벤트별 작업 슬롯 lease ZSET Key 생성
+     */
+    public static String leaseZSetKey(String eventId) {
+        return KeyType.LEASE_ZSET.format(eventId);
+    }
+
+    /**
+     * 이벤트별 누적 입장 인원 Key 생성
+     */
+    public static String admittedTotalKey(String eventId) {
+        return KeyType.ADMITTED_TOTAL.format(eventId);
+    }
+
+    /**
+     * 이벤트별 workingUser Key prefix 생성 (userId 제외)
+     */
+    public static String workingUserKeyPrefix(String eventId) {
+        return KeyType.WORKING_USER.format(eventId, "");
+    }
+
+    /**
+     * 이벤트 + 샤드별 nextNumber Key 생성
+     */
+    public static String nextNumberKey(String eventId, int shard) {
+        return KeyType.SHARD_NEXT_NUMBER.format(eventId, shard);
+    }
+
+    /**
+     * 이벤트 + 샤드별 대기열 ZSET Key 생성
+     */
+    public static String waitingZSetKey(String eventId, int shard) {
+        return KeyType.SHARD_WAITING_ZSET.format(eventId, shard);
+    }
+
+    /**
+     * 이벤트 + 샤드별 currentNumber Key 생성
+     */
+    public static String currentNumberKey(String eventId, int shard) {
+        return KeyType.SHARD_CURRENT_NUMBER.format(eventId, shard);
+    }
+
+    /**
+     * 이벤트 + 샤드 + 사용자별 workingUser Key 생성
+     */
+    public static String workingUserKey(String eventId, int shard, String userId) {
+        return KeyType.SHARD_WORKING_USER.format(eventId, shard, userId);
+    }
+
+    /**
+     * 이벤트 + 샤드별 workingUser Key prefix 생성 (userId 제외)
+     */
+    public static String workingUserKeyPrefix(String eventId, int shard) {
+        return KeyType.SHARD_WORKING_USER.format(eventId, shard, "");
+    }
+
+    /**
+     * 이벤트 + 샤드별 작업 슬롯 할당량 Key 생성
+     */
+    public static String maxConcurrentKey(String eventId, int shard) {
+        return KeyType.SHARD_MAX_CONCURRENT.format(eventId, shard);
+    }
+
+    /**
+     * 이벤트 + 샤드별 작업 슬롯 lease ZSET Key 생성
+     */
+    public static String leaseZSetKey(String eventId, int shard) {
+        return KeyType.SHARD_LEASE_ZSET.format(eventId, shard);
+    }
+
+    /**
+     * 이벤트 + 샤드별 누적 입장 인원 Key 생성
+     */
+    public static String admittedTotalKey(String eventId, int shard) {
+        return KeyType.SHARD_ADMITTED_TOTAL.format(eventId, shard);
+    }
+
+    /**
+     * 사용자가 속한 대기열 샤드 번호 계산
+     * - 같은 사용자는 항상 같은 샤드로 배정
+     */
+    public static int shardOf(String userId, int shardCount) {
+        return Math.floorMod(userId.hashCode(), shardCount);
+    }
+
+    /**
+     * 입장 스케줄러 대상 이벤트 SET Key 생성
+     */
+    public static String activeEventsKey() {
+        return KeyType.ACTIVE_EVENTS.format();
+    }
+
+    /**
+     * 작업 슬롯 자동 조정 락 Key 생성
+     */
+    public static String slotControllerLockKey() {
+        return KeyType.SLOT_CONTROLLER_LOCK.format();
+    }
+
+    /**
+     * 이벤트별 작업 슬롯 감소 후 조정 보류 Key 생성
+     */
+    public static String slotControllerCooldownKey(String eventId) {
+        return KeyType.SLOT_CONTROLLER_COOLDOWN.format(eventId);
+    }
 }
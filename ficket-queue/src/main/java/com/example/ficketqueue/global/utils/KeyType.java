@@ -2,11 +2,25 @@ package com.example.ficketqueue.global.utils;
 
 public enum KeyType {
 
-    NEXT_NUMBER("queue:%s:nextNumber"),           // 다음 순번 발급
-    CURRENT_NUMBER("queue:%s:currentNumber"),     // 현재 예매 화면 접속 인원
-    WAITING_ZSET("queue:%s:waiting"),            // 이벤트별 대기열
-    WORKING_USER("queue:%s:working:%s"),         // 예매 화면 접속 사용자, TTL 관리
-    MAX_CONCURRENT("queue:%s:maxConcurrent");    // 이벤트별 최대 동시 접속자
+    // {eventId} 해시 태그로 이벤트 단위 키를 같은 Cluster 슬롯에 배치 (Lua 스크립트 CROSSSLOT 방지)
+    NEXT_NUMBER("queue:{%s}:nextNumber"),             // 다음 순번 발급
+    CURRENT_NUMBER("queue:{%s}:currentNumber"),       // 현재 예매 화면 접속 인원
+    WAITING_ZSET("queue:{%s}:waiting"),              // 이벤트별 대기열
+    WORKING_USER("queue:{%s}:working:%s"),           // 예매 화면 접속 사용자, TTL 관리
+    MAX_CONCURRENT("queue:{%s}:maxConcurrent"),      // 이벤트별 최대 동시 접속자
+    LEASE_ZSET("queue:{%s}:leases"),                 // 작업 슬롯 lease (score = 만료 시각)
+    ADMITTED_TOTAL("queue:{%s}:admitted"),           // 누적 입장 인원 (입장 속도 추정용)
+    // 샤드 모드: 대기열 / 작업 슬롯 / lease 를 샤드 단위 해시 태그로 배치 (입장 스크립트가 샤드 안에서 원자적으로 처리)
+    SHARD_NEXT_NUMBER("queue:{%s#%d}:nextNumber"),    // 샤드별 다음 순번 발급
+    SHARD_WAITING_ZSET("queue:{%s#%d}:waiting"),     // 샤드별 대기열
+    SHARD_CURRENT_NUMBER("queue:{%s#%d}:currentNumber"), // 샤드별 예매 화면 접속 인원
+    SHARD_WORKING_USER("queue:{%s#%d}:working:%s"),  // 샤드별 예매 화면 접속 사용자, TTL 관리
+    SHARD_MAX_CONCURRENT("queue:{%s#%d}:maxConcurrent"), // 샤드별 작업 슬롯 할당량 (maxConcurrent 를 샤드 수로 분할)
+    SHARD_LEASE_ZSET("queue:{%s#%d}:leases"),        // 샤드별 작업 슬롯 lease
+    SHARD_ADMITTED_TOTAL("queue:{%s#%d}:admitted"),  // 샤드별 누적 입장 인원
+    ACTIVE_EVENTS("queue:activeEvents"),             // 입장 스케줄러 대상 이벤트 목록
+    SLOT_CONTROLLER_LOCK("queue:slotController:lock"), // 작업 슬롯 자동 조정 락 (틱마다 한 인스턴스만 실행)
+    SLOT_CONTROLLER_COOLDOWN("queue:slotController:cooldown:%s"); // 이벤트별 감소 후 조정 보류 (TTL = cooldown)
 
     private final String keyPattern;
 
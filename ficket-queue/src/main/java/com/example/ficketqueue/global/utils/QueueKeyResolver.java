@@ -0,0 +1,91 @@
+package com.example.ficketqueue.global.utils;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 대기열 파티션별 Redis Key 선택
+ *
+ * - queue.shard.count > 1 이면 샤드 키(queue:{eventId#N}:...), 아니면 이벤트 키(queue:{eventId}:...)
+ * - 샤드 모드에서는 대기열 / 작업 공간 / lease / 슬롯 할당량이 샤드마다 같은 Cluster 슬롯에 있으므로
+ *   샤드 단위 Lua 스크립트로 꺼내기와 슬롯 부여를 한 번에 처리
+ * - 단일 모드는 파티션 0 하나로 취급
+ * - 샤드 모드의 예매 화면 입장은 입장 스케줄러만 처리하므로 스케줄러 비활성화와 함께 설정되면 기동 실패
+ */
+@Component
+public class QueueKeyResolver {
+
+    private final int shardCount;
+
+    public QueueKeyResolver(@Value("${queue.shard.count:1}") int shardCount,
+                            @Value("${queue.admission.scheduler.enabled:true}") boolean admissionSchedulerEnabled) {
+        if (shardCount > 1 && !admissionSchedulerEnabled) {
+            throw new IllegalStateException(
+                    "queue.shard.count > 1 은 queue.admission.scheduler.enabled=true 가 필요합니다. (샤드 모드는 입장 스케줄러로만 입장)");
+        }
+        this.shardCount = shardCount;
+    }
+
+    public boolean isSharded() {
+        return shardCount > 1;
+    }
+
+    /**
+     * 이벤트당 파티션 수 (단일 모드는 1)
+     */
+    public int partitionCount() {
+        return isSharded() ? shardCount : 1;
+    }
+
+    /**
+     * 사용자가 속한 파티션 번호
+     */
+    public int partitionOf(String userId) {
+        return isSharded() ? KeyHelper.shardOf(userId, shardCount) : 0;
+    }
+
+    public String nextNumberKey(String eventId, int partition) {
+        return isSharded() ? KeyHelper.nextNumberKey(eventId, partition) : KeyHelper.nextNumberKey(eventId);
+    }
+
+    public String waitingZSetKey(String eventId, int partition) {
+        return isSharded() ? KeyHelper.waitingZSetKey(eventId, partition) : KeyHelper.waitingZSetKey(eventId);
+    }
+
+    public String currentNumberKey(String eventId, int partition) {
+        return isSharded() ? KeyHelper.currentNumberKey(eventId, partition) : KeyHelper.currentNumberKey(eventId);
+    }
+
+    public String workingUserKey(String eventId, String userId) {
+        return isSharded()
+                ? KeyHelper.workingUserKey(eventId, partitionOf(userId), userId)
+                : KeyHelper.workingUserKey(eventId, userId);
+    }
+
+    public String workingUserKeyPrefix(String eventId, int partition) {
+        return isSharded() ? KeyHelper.workingUserKeyPrefix(eventId, partition) : KeyHelper.workingUserKeyPrefix(eventId);
+    }
+
+    /**
+     * 파티션 작업 슬롯 한도 Key (샤드 모드는 샤드 할당량)
+     */
+    public String maxConcurrentKey(String eventId, int partition) {
+        return isSharded() ? KeyHelper.maxConcurrentKey(eventId, partition) : KeyHelper.maxConcurrentKey(eventId);
+    }
+
+    public String leaseZSetKey(String eventId, int partition) {
+        return isSharded() ? KeyHelper.leaseZSetKey(eventId, partition) : KeyHelper.leaseZSetKey(eventId);
+    }
+
+    public String admittedTotalKey(String eventId, int partition) {
+        return isSharded() ? KeyHelper.admittedTotalKey(eventId, partition) : KeyHelper.admittedTotalKey(eventId);
+    }
+
+    /**
+     * 샤드별 작업 슬롯 할당량
+     * - maxConcurrent 를 샤드 수로 균등 분할, 나머지는 앞 샤드부터 1씩 배정 (합계 = maxConcurrent)
+     */
+    public int shardQuota(int maxConcurrent, int shard) {
+        return maxConcurrent / shardCount + (shard < maxConcurrent % shardCount ? 1 : 0);
+    }
+}
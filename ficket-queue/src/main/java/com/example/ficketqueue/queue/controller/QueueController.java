@@ -1,19 +1,26 @@
 package com.example.ficketqueue.queue.controller;
 
+import com.example.ficketqueue.global.utils.AdmissionTokenProvider;
 import com.example.ficketqueue.queue.dto.response.MyQueueStatusResponse;
 import com.example.ficketqueue.queue.service.QueueService;
+import com.example.ficketqueue.queue.service.QueueStatusStreamService;
 import com.example.ficketqueue.queue.service.SlotService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api/v1/queues")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class QueueController {
 
     private final QueueService queueService;
     private final SlotService slotService;
+    private final QueueStatusStreamService queueStatusStreamService;
 
     /**
      * 해당 공연에 대기열 진입 API
@@ -46,6 +53,17 @@ public class QueueController {
         return ResponseEntity.ok(queueService.getQueueStatus(userId, eventId));
     }
 
+    /**
+     * 나의 대기열 상태 구독 API (SSE)
+     * <p>
+     * 서버가 주기적으로 순번을 Push 하며, 입장 또는 이탈 시 스트림 종료
+     */
+    @GetMapping(value = "/{eventId}/my-status/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamQueueStatus(@RequestHeader("X-User-Id") String userId,
+                                        @PathVariable String eventId) {
+        return queueStatusStreamService.subscribe(userId, eventId);
+    }
+
     /**
      * 대기열 퇴장 API
      * <p>
@@ -65,6 +83,7 @@ public class QueueController {
 
     /**
      * 예매 화면 입장 시도 API
+     * 입장에 성공하면 X-Admission-Token 헤더로 입장 토큰을 발급합니다.
      * <p>
      * 작업자: 오형상
      * 작업 날짜: 2025-12-14
@@ -79,7 +98,7 @@ public class QueueController {
     ) {
         boolean enter = queueService.enterTicketing(userId, eventId);
 
-        return ResponseEntity.ok(enter);
+        return withAdmissionToken(enter, userId, eventId);
     }
 
     /**
@@ -101,6 +120,7 @@ public class QueueController {
 
     /**
      * 예매 화면 접속 상태 확인 API
+     * 접속 중이면 X-Admission-Token 헤더로 입장 토큰을 재발급합니다.
      * <p>
      * 작업자: 오형상
      * 작업 날짜: 2025-12-15
@@ -113,7 +133,7 @@ public class QueueController {
             @PathVariable String eventId
     ) {
         boolean working = queueService.isInTicketing(userId, eventId);
-        return ResponseEntity.ok(working);
+        return withAdmissionToken(working, userId, eventId);
     }
 
     /**
@@ -131,4 +151,13 @@ public class QueueController {
         return ResponseEntity.noContent().build();
     }
 
+    private ResponseEntity<Boolean> withAdmissionToken(boolean admitted, String userId, String eventId) {
+        if (!admitted) {
+            return ResponseEntity.ok(false);
+        }
+
+        return ResponseEntity.ok()
+                .header(AdmissionTokenProvider.ADMISSION_TOKEN_HEADER, queueService.issueAdmissionToken(userId, eventId))
+                .body(true);
+    }
 }
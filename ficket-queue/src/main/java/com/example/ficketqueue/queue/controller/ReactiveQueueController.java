@@ -0,0 +1,140 @@
+package com.example.ficketqueue.queue.controller;
+
+import com.example.ficketqueue.global.utils.AdmissionTokenProvider;
+import com.example.ficketqueue.queue.dto.response.MyQueueStatusResponse;
+import com.example.ficketqueue.queue.service.ReactiveQueueService;
+import com.example.ficketqueue.queue.service.ReactiveQueueStatusStreamService;
+import com.example.ficketqueue.queue.service.SlotService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * 대기열 API 리액티브 버전 (spring.main.web-application-type=reactive 일 때만 등록)
+ * <p>
+ * QueueController 와 같은 경로/응답을 제공하며, Redis 응답을 기다리는 동안 요청 스레드를 점유하지 않습니다.
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/queues")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveQueueController {
+
+    private static final String STATUS_EVENT_NAME = "queue-status";
+
+    private final ReactiveQueueService reactiveQueueService;
+    private final SlotService slotService;
+    private final ReactiveQueueStatusStreamService reactiveQueueStatusStreamService;
+
+    /**
+     * 해당 공연에 대기열 진입 API
+     */
+    @PostMapping("/{eventId}/enter-queue")
+    public Mono<ResponseEntity<Void>> enterQueue(@RequestHeader("X-User-Id") String userId,
+                                                 @PathVariable String eventId) {
+        return reactiveQueueService.enterQueue(userId, eventId)
+                .then(Mono.just(ResponseEntity.noContent().build()));
+    }
+
+    /**
+     * 나의 대기열 상태 조회 API
+     */
+    @GetMapping("/{eventId}/my-status")
+    public Mono<ResponseEntity<MyQueueStatusResponse>> getQueueStatus(@RequestHeader("X-User-Id") String userId,
+                                                                      @PathVariable String eventId) {
+        return reactiveQueueService.getQueueStatus(userId, eventId)
+                .map(ResponseEntity::ok);
+    }
+
+    /**
+     * 나의 대기열 상태 구독 API (SSE)
+     * <p>
+     * 서버가 주기적으로 순번을 Push 하며, 입장 또는 이탈 시 스트림 종료
+     */
+    @GetMapping(value = "/{eventId}/my-status/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<MyQueueStatusResponse>> streamQueueStatus(@RequestHeader("X-User-Id") String userId,
+                                                                          @PathVariable String eventId) {
+        return reactiveQueueStatusStreamService.subscribe(userId, eventId)
+                .map(status -> ServerSentEvent.builder(status)
+                        .event(STATUS_EVENT_NAME)
+                        .build());
+    }
+
+    /**
+     * 대기열 퇴장 API
+     */
+    @PostMapping("/{eventId}/leave-queue")
+    public Mono<ResponseEntity<Void>> leaveQueue(
+            @RequestHeader("X-User-Id") String userId,
+            @PathVariable String eventId
+    ) {
+        return reactiveQueueService.leaveQueue(userId, eventId)
+                .then(Mono.just(ResponseEntity.noContent().build()));
+    }
+
+    /**
+     * 예매 화면 입장 시도 API
+     * 입장에 성공하면 X-Admission-Token 헤더로 입장 토큰을 발급합니다.
+     */
+    @PostMapping("/{eventId}/enter-ticketing")
+    public Mono<ResponseEntity<Boolean>> enterTicketing(
+            @RequestHeader("X-User-Id") String userId,
+            @PathVariable String eventId
+    ) {
+        return reactiveQueueService.enterTicketing(userId, eventId)
+                .map(enter -> withAdmissionToken(enter, userId, eventId));
+    }
+
+    /**
+     * 예매 화면 퇴장 API
+     */
+    @PostMapping("/{eventId}/leave-ticketing")
+    public Mono<ResponseEntity<Void>> leaveTicketing(
+            @RequestHeader("X-User-Id") String userId,
+            @PathVariable String eventId
+    ) {
+        return reactiveQueueService.leaveTicketing(userId, eventId)
+                .then(Mono.just(ResponseEntity.noContent().build()));
+    }
+
+    /**
+     * 예매 화면 접속 상태 확인 API
+     * 접속 중이면 X-Admission-Token 헤더로 입장 토큰을 재발급합니다.
+     */
+    @GetMapping("/{eventId}/check")
+    public Mono<ResponseEntity<Boolean>> isInTicketing(
+            @RequestHeader("X-User-Id") String userId,
+            @PathVariable String eventId
+    ) {
+        return reactiveQueueService.isInTicketing(userId, eventId)
+                .map(working -> withAdmissionToken(working, userId, eventId));
+    }
+
+    /**
+     * 해당 이벤트의 슬롯 초기화 API
+     * <p>
+     * 관리자 전용 저빈도 API 이므로 블로킹 SlotService 를 boundedElastic 에서 실행
+     */
+    @PostMapping("/{eventId}/initialize-slot")
+    public Mono<ResponseEntity<Void>> initializeSlot(@PathVariable String eventId, @RequestParam int maxSlot) {
+        return Mono.fromRunnable(() -> slotService.setMaxSlot(eventId, maxSlot))
+                .subscribeOn(Schedulers.boundedElastic())
+                .then(Mono.just(ResponseEntity.noContent().build()));
+    }
+
+    private ResponseEntity<Boolean> withAdmissionToken(boolean admitted, String userId, String eventId) {
+        if (!admitted) {
+            return ResponseEntity.ok(false);
+        }
+
+        return ResponseEntity.ok()
+                .header(AdmissionTokenProvider.ADMISSION_TOKEN_HEADER, reactiveQueueService.issueAdmissionToken(userId, eventId))
+                .body(true);
+    }
+}
@@ -13,6 +13,8 @@ public class MyQueueStatusResponse {
     private Long myWaitingNumber;
     private Long totalWaitingNumber;
     private Boolean canEnter;
+    private Long estimatedWaitSeconds; // 입장 속도 기반 예상 대기 시간 (추정 불가 시 null)
+    private Long retryAfterMs;         // 다음 상태 조회까지 권장 대기 시간
 
     public static MyQueueStatusResponse of(Long myWaitingNumber, Long totalWaitingNumber, Boolean canEnter) {
         return MyQueueStatusResponse.builder()
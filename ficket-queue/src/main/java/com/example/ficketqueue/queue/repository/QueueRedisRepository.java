@@ -1,24 +1,50 @@
 package com.example.ficketqueue.queue.repository;
 
-import com.example.ficketqueue.global.redis.RedisLuaScripts;
+import com.example.ficketqueue.global.metrics.QueueScriptMetrics;
 import com.example.ficketqueue.global.utils.KeyHelper;
+import com.example.ficketqueue.global.utils.QueueKeyResolver;
 import com.example.ficketqueue.queue.dto.response.MyQueueStatusResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Repository;
 
-import java.util.List;
+import java.util.*;
 
 /**
  * Redis 기반 대기열 Repository 구현체
+ *
+ * - queue.shard.count > 1 이면 이벤트 대기열을 N개의 해시 태그 샤드로 분산
+ *   - 사용자는 userId 해시로 샤드가 고정되며, 순번/총 인원은 샤드 내 값 × 샤드 수로 근사
+ *   - 작업 공간 / lease / 슬롯 할당량도 샤드 단위로 두어 샤드마다 독립된 대기열로 동작
+ *   - 예매 화면 입장은 입장 스케줄러가 샤드별 스크립트로 꺼내기와 슬롯 부여를 원자적으로 처리
  */
 @Repository
 @RequiredArgsConstructor
 public class QueueRedisRepository implements QueueRepository {
 
     private final RedisTemplate<String, Object> redisTemplate;
-    private final RedisLuaScripts redisLuaScripts;
+    private final QueueScriptMetrics queueScriptMetrics;
+    private final QueueKeyResolver queueKeyResolver;
+
+    @Qualifier("enterQueueScript")
+    private final RedisScript<Long> enterQueueScript;
+    @Qualifier("leaveQueueScript")
+    private final RedisScript<Long> leaveQueueScript;
+    @Qualifier("enterTicketingScript")
+    private final RedisScript<Long> enterTicketingScript;
+    @Qualifier("leaveTicketingScript")
+    private final RedisScript<Long> leaveTicketingScript;
+    @Qualifier("sweepExpiredLeasesScript")
+    private final RedisScript<Long> sweepExpiredLeasesScript;
+    @Qualifier("admitBatchScript")
+    private final RedisScript<Long> admitBatchScript;
+    @Qualifier("queueStatusScript")
+    @SuppressWarnings("rawtypes")
+    private final RedisScript<List> queueStatusScript;
 
     private static final int TICKETING_TTL_SECONDS = 20 * 60; // 20분
 
@@ -27,15 +53,12 @@ public class QueueRedisRepository implements QueueRepository {
      */
     @Override
     public Long enterQueue(String userId, String eventId) {
-        DefaultRedisScript<Long> script = new DefaultRedisScript<>();
-        script.setScriptText(redisLuaScripts.getEnterQueueScript());
-        script.setResultType(Long.class);
-
-        return redisTemplate.execute(
-                script,
+        int partition = queueKeyResolver.partitionOf(userId);
+        return executeScript(
+                "enterQueue", enterQueueScript,
                 List.of(
-                        KeyHelper.nextNumberKey(eventId),
-                        KeyHelper.waitingZSetKey(eventId)
+                        queueKeyResolver.nextNumberKey(eventId, partition),
+                        queueKeyResolver.waitingZSetKey(eventId, partition)
                 ),
                 userId
         );
@@ -43,14 +66,10 @@ public class QueueRedisRepository implements QueueRepository {
 
     @Override
     public Long leaveQueue(String userId, String eventId) {
-        DefaultRedisScript<Long> script = new DefaultRedisScript<>();
-        script.setScriptText(redisLuaScripts.getLeaveQueueScript());
-        script.setResultType(Long.class);
-
-        return redisTemplate.execute(
-                script,
+        return executeScript(
+                "leaveQueue", leaveQueueScript,
                 List.of(
-                        KeyHelper.waitingZSetKey(eventId)
+                        queueKeyResolver.waitingZSetKey(eventId, queueKeyResolver.partitionOf(userId))
                 ),
                 userId
         );
@@ -58,24 +77,26 @@ public class QueueRedisRepository implements QueueRepository {
 
     /**
      * 예매 화면 진입 허용
+     * - 샤드 모드에서는 맨 앞 판단이 불가능하므로 입장 스케줄러가 부여한 작업 공간만 확인
      * @return 1 = 입장 성공, 0 = 입장 불가
      */
     @Override
     public Long enterTicketing(String userId, String eventId) {
-        DefaultRedisScript<Long> script = new DefaultRedisScript<>();
-        script.setScriptText(redisLuaScripts.getEnterTicketingScript());
-        script.setResultType(Long.class);
+        if (queueKeyResolver.isSharded()) {
+            return existsWorkingUser(userId, eventId) ? 1L : 0L;
+        }
 
-        return redisTemplate.execute(
-                script,
+        return executeScript(
+                "enterTicketing", enterTicketingScript,
                 List.of(
                         KeyHelper.waitingZSetKey(eventId),
                         KeyHelper.currentNumberKey(eventId),
-                        KeyHelper.workingUserKey(eventId, userId)
+                        KeyHelper.workingUserKey(eventId, userId),
+                        KeyHelper.maxConcurrentKey(eventId),
+                        KeyHelper.leaseZSetKey(eventId),
+                        KeyHelper.admittedTotalKey(eventId)
                 ),
                 userId,
-                redisTemplate.opsForValue()
-                        .get(KeyHelper.maxConcurrentKey(eventId)),
                 TICKETING_TTL_SECONDS
         );
     }
@@ -86,51 +107,299 @@ public class QueueRedisRepository implements QueueRepository {
      */
     @Override
     public Long leaveTicketing(String userId, String eventId) {
-        String currentNumberKey = KeyHelper.currentNumberKey(eventId);
-        String workingUserKey = KeyHelper.workingUserKey(eventId, userId);
-
-        DefaultRedisScript<Long> script = new DefaultRedisScript<>();
-        script.setScriptText(redisLuaScripts.getLeaveTicketingScript());
-        script.setResultType(Long.class);
+        int partition = queueKeyResolver.partitionOf(userId);
+        String currentNumberKey = queueKeyResolver.currentNumberKey(eventId, partition);
+        String workingUserKey = queueKeyResolver.workingUserKey(eventId, userId);
+        String leaseZSetKey = queueKeyResolver.leaseZSetKey(eventId, partition);
 
-        return redisTemplate.execute(
-                script,
-                List.of(currentNumberKey, workingUserKey)
+        return executeScript(
+                "leaveTicketing", leaveTicketingScript,
+                List.of(currentNumberKey, workingUserKey, leaseZSetKey),
+                userId
         );
     }
 
     /**
      * 대기열 상태 조회
+     * - ZRANK + ZCARD + EXISTS 를 Lua 스크립트 한 번으로 조회
+     * - 샤드 모드는 사용자 샤드만 조회하며, 순번/총 인원은 샤드 값 × 샤드 수로 근사
      */
     @Override
     public MyQueueStatusResponse getQueueStatus(String userId, String eventId) {
-        String waitingZSetKey = KeyHelper.waitingZSetKey(eventId);
-        String workingUserKey = KeyHelper.workingUserKey(eventId, userId);
+        int partition = queueKeyResolver.partitionOf(userId);
+        String waitingZSetKey = queueKeyResolver.waitingZSetKey(eventId, partition);
+        String workingUserKey = queueKeyResolver.workingUserKey(eventId, userId);
 
-        // ZRANK로 내 앞에 남은 인원 수 조회
-        Long rank = redisTemplate.opsForZSet().rank(waitingZSetKey, userId);
-        Long waitingAhead = rank != null ? rank : -1L;
+        List<?> result = executeScript(
+                "queueStatus", queueStatusScript,
+                List.of(waitingZSetKey, workingUserKey),
+                userId
+        );
 
-        // 대기열에 남아 있는 총 인원 수 조회
-        Long totalWaitingNumber = redisTemplate.opsForZSet().size(waitingZSetKey);
+        if (result == null || result.size() < 3) {
+            return MyQueueStatusResponse.of(-1L, 0L, false);
+        }
 
-        // 현재 예매 화면 접속 여부 확인
-        Boolean canEnterTicketing = redisTemplate.hasKey(workingUserKey);
+        // 내 앞에 남은 인원 수, 대기열 총 인원 수, 예매 화면 접속 여부
+        int partitions = queueKeyResolver.partitionCount();
+        long rank = toLong(result.get(0));
+        Long waitingAhead = rank < 0 ? rank : rank * partitions;
+        Long totalWaitingNumber = toLong(result.get(1)) * partitions;
+        Boolean canEnterTicketing = toLong(result.get(2)) == 1L;
 
         return MyQueueStatusResponse.of(waitingAhead, totalWaitingNumber, canEnterTicketing);
     }
 
     @Override
     public boolean existsWorkingUser(String userId, String eventId) {
-        String workingUserKey = KeyHelper.workingUserKey(eventId, userId);
+        String workingUserKey = queueKeyResolver.workingUserKey(eventId, userId);
         Boolean exists = redisTemplate.hasKey(workingUserKey);
         return Boolean.TRUE.equals(exists);
     }
 
+    /**
+     * 만료된 작업 슬롯 lease 회수
+     * - 샤드 모드는 샤드별 lease ZSET 을 각각 회수
+     */
+    @Override
+    public Long sweepExpiredLeases(String eventId, int limit) {
+        long reclaimed = 0;
+        for (int partition = 0; partition < queueKeyResolver.partitionCount(); partition++) {
+            Long swept = executeScript(
+                    "sweepExpiredLeases", sweepExpiredLeasesScript,
+                    List.of(
+                            queueKeyResolver.leaseZSetKey(eventId, partition),
+                            queueKeyResolver.currentNumberKey(eventId, partition)
+                    ),
+                    queueKeyResolver.workingUserKeyPrefix(eventId, partition),
+                    limit
+            );
+            reclaimed += swept == null ? 0L : swept;
+        }
+        return reclaimed;
+    }
+
+    /**
+     * 구독자 순번 조회
+     * - 대기열 ZCARD(샤드 수만큼) + 구독자별 ZRANK 를 파이프라인 1회로 조회
+     * - 샤드 모드 순번은 샤드 내 순번 × 샤드 수로 근사
+     */
+    @Override
+    public WaitingRanks getWaitingRanks(String eventId, Collection<String> userIds) {
+        List<String> orderedUserIds = new ArrayList<>(userIds);
+        int partitions = queueKeyResolver.partitionCount();
+        List<Object> results = redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public Object execute(RedisOperations operations) {
+                for (int partition = 0; partition < partitions; partition++) {
+                    operations.opsForZSet().zCard(queueKeyResolver.waitingZSetKey(eventId, partition));
+                }
+                for (String userId : orderedUserIds) {
+                    operations.opsForZSet().rank(
+                            queueKeyResolver.waitingZSetKey(eventId, queueKeyResolver.partitionOf(userId)), userId);
+                }
+                return null;
+            }
+        });
+
+        long totalWaiting = 0;
+        for (int i = 0; i < partitions; i++) {
+            totalWaiting += toLong(results.get(i));
+        }
+
+        Map<String, Long> ranks = new HashMap<>(Math.max(16, orderedUserIds.size() * 2));
+        for (int i = 0; i < orderedUserIds.size(); i++) {
+            Object rank = results.get(partitions + i);
+            if (rank != null) {
+                ranks.put(orderedUserIds.get(i), toLong(rank) * partitions);
+            }
+        }
+        return new WaitingRanks(ranks, totalWaiting);
+    }
+
+    @Override
+    public Set<String> findWorkingUsers(String eventId, Collection<String> userIds) {
+        if (userIds.isEmpty()) {
+            return Set.of();
+        }
+
+        List<String> orderedUserIds = new ArrayList<>(userIds);
+        List<Object> results = redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public Object execute(RedisOperations operations) {
+                for (String userId : orderedUserIds) {
+                    operations.hasKey(queueKeyResolver.workingUserKey(eventId, userId));
+                }
+                return null;
+            }
+        });
+
+        Set<String> workingUsers = new HashSet<>();
+        for (int i = 0; i < orderedUserIds.size(); i++) {
+            if (Boolean.TRUE.equals(results.get(i))) {
+                workingUsers.add(orderedUserIds.get(i));
+            }
+        }
+        return workingUsers;
+    }
+
+    /**
+     * 일괄 입장
+     * - 파티션마다 admitBatch 스크립트 1회: 빈 슬롯 계산 → ZPOPMIN → lease / 작업 공간 등록을 원자적으로 처리
+     * - 샤드 모드의 빈 슬롯은 샤드 할당량(maxConcurrent 분할분) 기준이므로 샤드 간 초과 입장 없음
+     *
+     * @return 입장 처리된 인원 수, 모든 파티션의 슬롯이 미설정이면 -1
+     */
+    @Override
+    public Long admitBatch(String eventId, int limit) {
+        int partitions = queueKeyResolver.partitionCount();
+        int perPartitionLimit = (limit + partitions - 1) / partitions;
+
+        long admitted = 0;
+        boolean initialized = false;
+        for (int partition = 0; partition < partitions; partition++) {
+            Long result = executeScript(
+                    "admitBatch", admitBatchScript,
+                    List.of(
+                            queueKeyResolver.waitingZSetKey(eventId, partition),
+                            queueKeyResolver.currentNumberKey(eventId, partition),
+                            queueKeyResolver.maxConcurrentKey(eventId, partition),
+                            queueKeyResolver.leaseZSetKey(eventId, partition),
+                            queueKeyResolver.admittedTotalKey(eventId, partition)
+                    ),
+                    TICKETING_TTL_SECONDS,
+                    queueKeyResolver.workingUserKeyPrefix(eventId, partition),
+                    perPartitionLimit
+            );
+
+            if (result != null && result >= 0) {
+                initialized = true;
+                admitted += result;
+            }
+        }
+
+        return initialized ? admitted : -1L;
+    }
+
+    @Override
+    public Set<String> getActiveEventIds() {
+        Set<Object> members = redisTemplate.opsForSet().members(KeyHelper.activeEventsKey());
+        if (members == null || members.isEmpty()) {
+            return Set.of();
+        }
+
+        Set<String> eventIds = new HashSet<>();
+        for (Object member : members) {
+            eventIds.add(String.valueOf(member));
+        }
+        return eventIds;
+    }
+
+    @Override
+    public void deactivateEvent(String eventId) {
+        redisTemplate.opsForSet().remove(KeyHelper.activeEventsKey(), eventId);
+    }
+
+    @Override
+    public long countWorkingSlots(String eventId) {
+        long count = 0;
+        for (int partition = 0; partition < queueKeyResolver.partitionCount(); partition++) {
+            Long leases = redisTemplate.opsForZSet().zCard(queueKeyResolver.leaseZSetKey(eventId, partition));
+            count += leases == null ? 0L : leases;
+        }
+        return count;
+    }
+
     @Override
-    public void decrementCurrentNumber(String eventId) {
-        String currentNumberKey = KeyHelper.currentNumberKey(eventId);
-        redisTemplate.opsForValue().decrement(currentNumberKey);
+    public Map<String, Long> getAdmittedTotals(Collection<String> eventIds) {
+        if (eventIds.isEmpty()) {
+            return Map.of();
+        }
+
+        // 이벤트마다 해시 태그가 달라 MGET 대신 파이프라인 사용
+        List<String> orderedEventIds = new ArrayList<>(eventIds);
+        int partitions = queueKeyResolver.partitionCount();
+        List<Object> results = redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public Object execute(RedisOperations operations) {
+                for (String eventId : orderedEventIds) {
+                    for (int partition = 0; partition < partitions; partition++) {
+                        operations.opsForValue().get(queueKeyResolver.admittedTotalKey(eventId, partition));
+                    }
+                }
+                return null;
+            }
+        });
+
+        Map<String, Long> totals = new HashMap<>();
+        int index = 0;
+        for (String eventId : orderedEventIds) {
+            long total = 0;
+            for (int partition = 0; partition < partitions; partition++) {
+                total += parseLong(results.get(index++), 0L);
+            }
+            totals.put(eventId, total);
+        }
+        return totals;
+    }
+
+    @Override
+    public Map<String, QueueDepth> getQueueDepths(Collection<String> eventIds) {
+        if (eventIds.isEmpty()) {
+            return Map.of();
+        }
+
+        // 이벤트 + 파티션당 ZCARD(대기열) + GET(currentNumber) + ZCARD(lease), 이벤트당 GET(maxConcurrent)
+        List<String> orderedEventIds = new ArrayList<>(eventIds);
+        int partitions = queueKeyResolver.partitionCount();
+        List<Object> results = redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public Object execute(RedisOperations operations) {
+                for (String eventId : orderedEventIds) {
+                    for (int partition = 0; partition < partitions; partition++) {
+                        operations.opsForZSet().zCard(queueKeyResolver.waitingZSetKey(eventId, partition));
+                        operations.opsForValue().get(queueKeyResolver.currentNumberKey(eventId, partition));
+                        operations.opsForZSet().zCard(queueKeyResolver.leaseZSetKey(eventId, partition));
+                    }
+                    operations.opsForValue().get(KeyHelper.maxConcurrentKey(eventId));
+                }
+                return null;
+            }
+        });
+
+        Map<String, QueueDepth> depths = new HashMap<>();
+        int index = 0;
+        for (String eventId : orderedEventIds) {
+            long waiting = 0;
+            long currentNumber = 0;
+            long leases = 0;
+            for (int partition = 0; partition < partitions; partition++) {
+                waiting += toLong(results.get(index++));
+                currentNumber += parseLong(results.get(index++), 0L);
+                leases += toLong(results.get(index++));
+            }
+            Long maxConcurrent = parseLong(results.get(index++), null);
+
+            depths.put(eventId, new QueueDepth(waiting, currentNumber, leases, maxConcurrent));
+        }
+        return depths;
+    }
+
+    private <T> T executeScript(String scriptName, RedisScript<T> script, List<String> keys, Object... args) {
+        return queueScriptMetrics.record(scriptName, () -> redisTemplate.execute(script, keys, args));
+    }
+
+    private static Long toLong(Object value) {
+        return value == null ? 0L : ((Number) value).longValue();
+    }
+
+    // Lua 스크립트가 기록한 숫자 문자열과 JSON 직렬화된 숫자를 모두 처리
+    private static Long parseLong(Object value, Long defaultValue) {
+        return value == null ? defaultValue : Long.valueOf(value.toString());
     }
 
 }
@@ -2,6 +2,10 @@ package com.example.ficketqueue.queue.repository;
 
 import com.example.ficketqueue.queue.dto.response.MyQueueStatusResponse;
 
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+
 public interface QueueRepository {
 
     /**
@@ -19,9 +23,9 @@ public interface QueueRepository {
     Long enterTicketing(String userId, String eventId);
 
     /**
-     * 예매 화면 퇴장 시 currentNumber 감소
+     * 예매 화면 퇴장 시 lease 제거 + currentNumber 동기화
      *
-     * @return 1 = 감소 성공, 0 = 이미 0
+     * @return 1 = 퇴장 성공, 0 = 이미 퇴장 상태
      */
     Long leaveTicketing(String userId, String eventId);
 
@@ -29,5 +33,70 @@ public interface QueueRepository {
 
     boolean existsWorkingUser(String userId, String eventId);
 
-    void decrementCurrentNumber(String eventId);
-}
\ No newline at end of file
+    /**
+     * 만료된 작업 슬롯 lease 회수
+     *
+     * @return 회수된 lease 수
+     */
+    Long sweepExpiredLeases(String eventId, int limit);
+
+    /**
+     * 주어진 사용자의 대기 순번 일괄 조회 (파이프라인)
+     * - 대기열 전체를 읽지 않고 사용자별 ZRANK + 대기열 ZCARD 만 조회
+     */
+    WaitingRanks getWaitingRanks(String eventId, Collection<String> userIds);
+
+    /**
+     * 주어진 사용자 중 예매 화면에 접속 중인 사용자 일괄 조회 (파이프라인)
+     */
+    Set<String> findWorkingUsers(String eventId, Collection<String> userIds);
+
+    /**
+     * 빈 슬롯만큼 대기열 앞 사용자를 일괄 입장 처리
+     *
+     * @return 입장 처리된 인원 수, 슬롯 미설정 시 -1
+     */
+    Long admitBatch(String eventId, int limit);
+
+    /**
+     * 입장 스케줄러 대상 이벤트 목록 조회
+     */
+    Set<String> getActiveEventIds();
+
+    void deactivateEvent(String eventId);
+
+    /**
+     * 현재 점유 중인 작업 슬롯(lease) 수
+     */
+    long countWorkingSlots(String eventId);
+
+    /**
+     * 이벤트별 누적 입장 인원 조회 (입장 스크립트가 증가)
+     */
+    Map<String, Long> getAdmittedTotals(Collection<String> eventIds);
+
+    /**
+     * 이벤트별 대기열 / 작업 슬롯 현황 일괄 조회 (파이프라인)
+     */
+    Map<String, QueueDepth> getQueueDepths(Collection<String> eventIds);
+
+    /**
+     * 이벤트 대기열 / 작업 슬롯 현황
+     *
+     * @param waiting        대기열 인원 (샤드 모드는 전체 샤드 합)
+     * @param currentNumber  currentNumber 값
+     * @param leases         lease ZSET 크기 (실제 점유 슬롯 수)
+     * @param maxConcurrent  maxConcurrent 값, 슬롯 미설정 시 null
+     */
+    record QueueDepth(long waiting, long currentNumber, long leases, Long maxConcurrent) {
+    }
+
+    /**
+     * 구독자 대기 순번
+     *
+     * @param ranks         userId -> 순번 (대기열에 없는 사용자는 제외)
+     * @param totalWaiting  대기열 인원 (샤드 모드는 전체 샤드 합)
+     */
+    record WaitingRanks(Map<String, Long> ranks, long totalWaiting) {
+    }
+}
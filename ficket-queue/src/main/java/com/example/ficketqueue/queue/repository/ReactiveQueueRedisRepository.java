@@ -0,0 +1,188 @@
+package com.example.ficketqueue.queue.repository;
+
+import com.example.ficketqueue.global.metrics.QueueScriptMetrics;
+import com.example.ficketqueue.global.utils.KeyHelper;
+import com.example.ficketqueue.global.utils.QueueKeyResolver;
+import com.example.ficketqueue.queue.dto.response.MyQueueStatusResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Redis 기반 리액티브 대기열 Repository 구현체
+ *
+ * - QueueRedisRepository 와 같은 Lua 스크립트 Bean 을 ReactiveRedisTemplate 으로 실행 (EVALSHA 우선)
+ * - 요청 스레드를 점유하지 않으므로 적은 수의 이벤트 루프 스레드로 다수의 동시 요청 처리
+ * - 샤드 모드 동작(순번 근사, 스케줄러 입장)도 동일
+ */
+@Repository
+@RequiredArgsConstructor
+public class ReactiveQueueRedisRepository implements ReactiveQueueRepository {
+
+    private final ReactiveRedisTemplate<String, Object> reactiveRedisTemplate;
+    private final QueueScriptMetrics queueScriptMetrics;
+    private final QueueKeyResolver queueKeyResolver;
+
+    @Qualifier("enterQueueScript")
+    private final RedisScript<Long> enterQueueScript;
+    @Qualifier("leaveQueueScript")
+    private final RedisScript<Long> leaveQueueScript;
+    @Qualifier("enterTicketingScript")
+    private final RedisScript<Long> enterTicketingScript;
+    @Qualifier("leaveTicketingScript")
+    private final RedisScript<Long> leaveTicketingScript;
+    @Qualifier("queueStatusScript")
+    @SuppressWarnings("rawtypes")
+    private final RedisScript<List> queueStatusScript;
+
+    private static final int TICKETING_TTL_SECONDS = 20 * 60; // 20분
+
+    @Override
+    public Mono<Long> enterQueue(String userId, String eventId) {
+        int partition = queueKeyResolver.partitionOf(userId);
+        return executeForLong(
+                "enterQueue", enterQueueScript,
+                List.of(
+                        queueKeyResolver.nextNumberKey(eventId, partition),
+                        queueKeyResolver.waitingZSetKey(eventId, partition)
+                ),
+                List.of(userId)
+        );
+    }
+
+    @Override
+    public Mono<Long> leaveQueue(String userId, String eventId) {
+        return executeForLong(
+                "leaveQueue", leaveQueueScript,
+                List.of(queueKeyResolver.waitingZSetKey(eventId, queueKeyResolver.partitionOf(userId))),
+                List.of(userId)
+        );
+    }
+
+    /**
+     * 예매 화면 진입 허용
+     * - 샤드 모드에서는 맨 앞 판단이 불가능하므로 입장 스케줄러가 부여한 작업 공간만 확인
+     */
+    @Override
+    public Mono<Long> enterTicketing(String userId, String eventId) {
+        if (queueKeyResolver.isSharded()) {
+            return existsWorkingUser(userId, eventId).map(exists -> exists ? 1L : 0L);
+        }
+
+        return executeForLong(
+                "enterTicketing", enterTicketingScript,
+                List.of(
+                        KeyHelper.waitingZSetKey(eventId),
+                        KeyHelper.currentNumberKey(eventId),
+                        KeyHelper.workingUserKey(eventId, userId),
+                        KeyHelper.maxConcurrentKey(eventId),
+                        KeyHelper.leaseZSetKey(eventId),
+                        KeyHelper.admittedTotalKey(eventId)
+                ),
+                List.of(userId, TICKETING_TTL_SECONDS)
+        );
+    }
+
+    @Override
+    public Mono<Long> leaveTicketing(String userId, String eventId) {
+        int partition = queueKeyResolver.partitionOf(userId);
+        return executeForLong(
+                "leaveTicketing", leaveTicketingScript,
+                List.of(
+                        queueKeyResolver.currentNumberKey(eventId, partition),
+                        queueKeyResolver.workingUserKey(eventId, userId),
+                        queueKeyResolver.leaseZSetKey(eventId, partition)
+                ),
+                List.of(userId)
+        );
+    }
+
+    /**
+     * 대기열 상태 조회
+     * - ZRANK + ZCARD + EXISTS 를 Lua 스크립트 한 번으로 조회
+     * - 샤드 모드는 사용자 샤드만 조회하며, 순번/총 인원은 샤드 값 × 샤드 수로 근사
+     */
+    @Override
+    public Mono<MyQueueStatusResponse> getQueueStatus(String userId, String eventId) {
+        int partition = queueKeyResolver.partitionOf(userId);
+        int partitions = queueKeyResolver.partitionCount();
+
+        return executeForList(
+                "queueStatus", queueStatusScript,
+                List.of(
+                        queueKeyResolver.waitingZSetKey(eventId, partition),
+                        queueKeyResolver.workingUserKey(eventId, userId)
+                ),
+                List.of(userId)
+        ).map(result -> {
+            if (result.size() < 3) {
+                return MyQueueStatusResponse.of(-1L, 0L, false);
+            }
+
+            // 내 앞에 남은 인원 수, 대기열 총 인원 수, 예매 화면 접속 여부
+            long rank = toLong(result.get(0));
+            return MyQueueStatusResponse.of(
+                    rank < 0 ? rank : rank * partitions,
+                    toLong(result.get(1)) * partitions,
+                    toLong(result.get(2)) == 1L
+            );
+        });
+    }
+
+    @Override
+    public Mono<Boolean> existsWorkingUser(String userId, String eventId) {
+        return reactiveRedisTemplate.hasKey(queueKeyResolver.workingUserKey(eventId, userId));
+    }
+
+    /**
+     * 구독자 순번 조회
+     * - 대기열 ZCARD(샤드 수만큼) + 구독자별 ZRANK 를 동시에 발행 (공유 연결에서 파이프라인으로 전송)
+     * - 샤드 모드 순번은 샤드 내 순번 × 샤드 수로 근사
+     */
+    @Override
+    public Mono<QueueRepository.WaitingRanks> getWaitingRanks(String eventId, Collection<String> userIds) {
+        int partitions = queueKeyResolver.partitionCount();
+
+        Mono<Long> totalWaiting = Flux.range(0, partitions)
+                .flatMap(partition -> reactiveRedisTemplate.opsForZSet()
+                        .size(queueKeyResolver.waitingZSetKey(eventId, partition)))
+                .reduce(0L, Long::sum);
+
+        Mono<Map<String, Long>> ranks = Flux.fromIterable(userIds)
+                .flatMap(userId -> reactiveRedisTemplate.opsForZSet()
+                        .rank(queueKeyResolver.waitingZSetKey(eventId, queueKeyResolver.partitionOf(userId)), userId)
+                        .map(rank -> Map.entry(userId, rank * partitions)))
+                .collectMap(Map.Entry::getKey, Map.Entry::getValue);
+
+        return Mono.zip(ranks, totalWaiting)
+                .map(tuple -> new QueueRepository.WaitingRanks(tuple.getT1(), tuple.getT2()));
+    }
+
+    private Mono<Long> executeForLong(String scriptName, RedisScript<Long> script, List<String> keys, List<?> args) {
+        return queueScriptMetrics.record(scriptName, reactiveRedisTemplate.execute(script, keys, args).next());
+    }
+
+    /**
+     * 다중 값을 반환하는 스크립트 실행
+     * - 드라이버에 따라 배열 응답이 List 하나 또는 원소 단위로 발행되므로 평탄화하여 수집
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private Mono<List<Object>> executeForList(String scriptName, RedisScript<List> script, List<String> keys, List<?> args) {
+        Flux<Object> results = (Flux) reactiveRedisTemplate.execute(script, keys, args);
+        return queueScriptMetrics.record(scriptName, results
+                .flatMapIterable(result -> result instanceof List<?> values ? (List<Object>) values : List.of(result))
+                .collectList());
+    }
+
+    private static Long toLong(Object value) {
+        return value == null ? 0L : ((Number) value).longValue();
+    }
+}
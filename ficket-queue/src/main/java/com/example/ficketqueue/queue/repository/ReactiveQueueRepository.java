@@ -0,0 +1,45 @@
+package com.example.ficketqueue.queue.repository;
+
+import com.example.ficketqueue.queue.dto.response.MyQueueStatusResponse;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+
+/**
+ * 리액티브 대기열 Repository
+ * - QueueRepository 와 같은 키 구조 / Lua 스크립트를 논블로킹으로 실행
+ * - 입장 스케줄러, lease 회수 등 배치 작업은 QueueRepository 를 그대로 사용
+ */
+public interface ReactiveQueueRepository {
+
+    /**
+     * 대기열 진입 (순번 발급)
+     */
+    Mono<Long> enterQueue(String userId, String eventId);
+
+    Mono<Long> leaveQueue(String userId, String eventId);
+
+    /**
+     * 예매 화면 진입 허용
+     *
+     * @return 1 = 입장 성공, 0 = 입장 불가
+     */
+    Mono<Long> enterTicketing(String userId, String eventId);
+
+    /**
+     * 예매 화면 퇴장 시 lease 제거 + currentNumber 동기화
+     *
+     * @return 1 = 퇴장 성공, 0 = 이미 퇴장 상태
+     */
+    Mono<Long> leaveTicketing(String userId, String eventId);
+
+    Mono<MyQueueStatusResponse> getQueueStatus(String userId, String eventId);
+
+    Mono<Boolean> existsWorkingUser(String userId, String eventId);
+
+    /**
+     * 주어진 사용자의 대기 순번 일괄 조회
+     * - 대기열 전체를 읽지 않고 사용자별 ZRANK + 대기열 ZCARD 만 조회
+     */
+    Mono<QueueRepository.WaitingRanks> getWaitingRanks(String eventId, Collection<String> userIds);
+}
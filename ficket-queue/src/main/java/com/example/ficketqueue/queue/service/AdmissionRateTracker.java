@@ -0,0 +1,93 @@
+package com.example.ficketqueue.queue.service;
+
+import com.example.ficketqueue.queue.repository.QueueRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 이벤트별 입장 속도(초당 입장 인원) 추정 서비스
+ *
+ * - 입장 스크립트가 증가시키는 누적 입장 인원을 주기적으로 샘플링하여 EWMA 로 평활화
+ * - 누적 값은 Redis 에 있으므로 어느 인스턴스가 입장시켰는지와 무관하게 전체 입장 속도를 반영
+ * - 인스턴스마다 독립적으로 계산하며, 샘플링 비용은 이벤트 수 × 틱 주기에 비례
+ */
+@Slf4j
+@Service
+public class AdmissionRateTracker {
+
+    private final QueueRepository queueRepository;
+    private final double timeConstantSeconds;
+
+    // eventId -> 마지막 샘플
+    private final Map<String, RateSample> samples = new ConcurrentHashMap<>();
+
+    public AdmissionRateTracker(QueueRepository queueRepository,
+                                @Value("${queue.eta.time-constant-seconds:30}") double timeConstantSeconds) {
+        this.queueRepository = queueRepository;
+        this.timeConstantSeconds = timeConstantSeconds;
+    }
+
+    @Scheduled(fixedDelayString = "${queue.eta.sample-ms:1000}")
+    public void sample() {
+        try {
+            Set<String> eventIds = queueRepository.getActiveEventIds();
+            samples.keySet().retainAll(eventIds);
+
+            long now = System.nanoTime();
+            queueRepository.getAdmittedTotals(eventIds).forEach((eventId, total) ->
+                    samples.merge(eventId, RateSample.first(total, now),
+                            (previous, first) -> previous.next(total, now, timeConstantSeconds)));
+        } catch (Exception e) {
+            log.error("[ADMISSION RATE] failed to sample", e);
+        }
+    }
+
+    /**
+     * 초당 입장 인원 추정값 (샘플이 두 번 이상 쌓이기 전에는 0)
+     */
+    public double getAdmissionsPerSecond(String eventId) {
+        RateSample sample = samples.get(eventId);
+        return sample == null ? 0.0 : sample.ratePerSecond();
+    }
+
+    /**
+     * 앞에 남은 인원 기준 예상 대기 시간 (초)
+     *
+     * @return 예상 대기 시간, 입장 속도를 아직 알 수 없으면 null
+     */
+    public Long estimateWaitSeconds(String eventId, long waitingAhead) {
+        double rate = getAdmissionsPerSecond(eventId);
+        if (rate <= 0.0) {
+            return null;
+        }
+        return (long) Math.ceil(waitingAhead / rate);
+    }
+
+    private record RateSample(long total, long sampledAtNanos, double ratePerSecond) {
+
+        static RateSample first(long total, long now) {
+            return new RateSample(total, now, 0.0);
+        }
+
+        /**
+         * 샘플 간격이 일정하지 않으므로 alpha = 1 - e^(-dt/τ) 로 간격에 맞춰 가중치 조정
+         */
+        RateSample next(long currentTotal, long now, double timeConstantSeconds) {
+            double elapsedSeconds = (now - sampledAtNanos) / 1_000_000_000.0;
+            if (elapsedSeconds <= 0.0) {
+                return this;
+            }
+
+            // 키가 초기화되어 누적 값이 줄어든 경우는 0 으로 간주
+            double instantRate = Math.max(0L, currentTotal - total) / elapsedSeconds;
+            double alpha = 1.0 - Math.exp(-elapsedSeconds / timeConstantSeconds);
+            return new RateSample(currentTotal, now, ratePerSecond + alpha * (instantRate - ratePerSecond));
+        }
+    }
+}
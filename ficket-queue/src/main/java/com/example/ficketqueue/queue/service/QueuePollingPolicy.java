@@ -0,0 +1,62 @@
+package com.example.ficketqueue.queue.service;
+
+import com.example.ficketqueue.queue.dto.response.MyQueueStatusResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 대기열 상태 응답의 예상 대기 시간 / 다음 조회 간격 계산
+ *
+ * - 입장 속도 EWMA 로 예상 대기 시간 계산
+ * - 순번이 뒤일수록 다음 조회 간격(retryAfterMs)을 늘려 상태 조회 요청 수를 줄임
+ * - 블로킹/리액티브 서비스가 같은 정책을 사용
+ */
+@Component
+@RequiredArgsConstructor
+public class QueuePollingPolicy {
+
+    private final AdmissionRateTracker admissionRateTracker;
+
+    @Value("${queue.poll.min-interval-ms:1000}")
+    private long minPollIntervalMs;
+
+    @Value("${queue.poll.max-interval-ms:30000}")
+    private long maxPollIntervalMs;
+
+    @Value("${queue.poll.interval-per-position-ms:10}")
+    private long pollIntervalPerPositionMs;
+
+    /**
+     * 상태 응답에 예상 대기 시간과 다음 조회 간격을 채움
+     */
+    public MyQueueStatusResponse apply(String eventId, MyQueueStatusResponse status) {
+        long waitingAhead = status.getMyWaitingNumber() == null ? -1L : status.getMyWaitingNumber();
+
+        Long estimatedWaitSeconds = waitingAhead < 0 ? null : admissionRateTracker.estimateWaitSeconds(eventId, waitingAhead);
+        status.setEstimatedWaitSeconds(estimatedWaitSeconds);
+        status.setRetryAfterMs(retryAfterMs(waitingAhead, estimatedWaitSeconds));
+        return status;
+    }
+
+    /**
+     * 다음 상태 조회까지 권장 대기 시간
+     * - 예상 대기 시간을 알면 그 1/4 (입장 전까지 여러 번 갱신되도록)
+     * - 모르면 앞에 남은 인원에 비례
+     * - 같은 틱에 몰리지 않도록 최대 10% 지터 추가
+     */
+    private long retryAfterMs(long waitingAhead, Long estimatedWaitSeconds) {
+        if (waitingAhead < 0) {
+            return minPollIntervalMs;
+        }
+
+        long interval = estimatedWaitSeconds != null
+                ? estimatedWaitSeconds * 1000 / 4
+                : minPollIntervalMs + waitingAhead * pollIntervalPerPositionMs;
+        interval += ThreadLocalRandom.current().nextLong(interval / 10 + 1);
+
+        return Math.max(minPollIntervalMs, Math.min(maxPollIntervalMs, interval));
+    }
+}
@@ -15,4 +15,6 @@ public interface QueueService {
     void leaveTicketing(String userId, String eventId);
 
     boolean isInTicketing(String userId, String eventId);
+
+    String issueAdmissionToken(String userId, String eventId);
 }
@@ -1,8 +1,10 @@
 package com.example.ficketqueue.queue.service;
 
+import com.example.ficketqueue.global.utils.AdmissionTokenProvider;
 import com.example.ficketqueue.queue.dto.response.MyQueueStatusResponse;
 import com.example.ficketqueue.queue.repository.QueueRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -10,6 +12,11 @@ import org.springframework.stereotype.Service;
 public class QueueServiceImpl implements QueueService {
 
     private final QueueRepository queueRepository;
+    private final AdmissionTokenProvider admissionTokenProvider;
+    private final QueuePollingPolicy queuePollingPolicy;
+
+    @Value("${queue.admission.scheduler.enabled:true}")
+    private boolean admissionSchedulerEnabled;
 
     @Override
     public void enterQueue(String userId, String eventId) {
@@ -27,13 +34,22 @@ public class QueueServiceImpl implements QueueService {
 
     @Override
     public MyQueueStatusResponse getQueueStatus(String userId, String eventId) {
-        return queueRepository.getQueueStatus(userId, eventId);
+        return queuePollingPolicy.apply(eventId, queueRepository.getQueueStatus(userId, eventId));
     }
 
+    /**
+     * 예매 화면 진입
+     * - 입장 스케줄러 사용 시: 스케줄러가 발급한 작업 공간 존재 여부만 확인
+     * - 미사용 시: 맨 앞 사용자 1명 입장 스크립트 실행
+     */
     @Override
     public boolean enterTicketing(String userId, String eventId) {
+        if (admissionSchedulerEnabled) {
+            return queueRepository.existsWorkingUser(userId, eventId);
+        }
+
         Long enter = queueRepository.enterTicketing(userId, eventId);
-        return enter == 1L;
+        return enter != null && enter == 1L;
     }
 
     @Override
@@ -45,4 +61,12 @@ public class QueueServiceImpl implements QueueService {
     public boolean isInTicketing(String userId, String eventId) {
         return queueRepository.existsWorkingUser(userId, eventId);
     }
+
+    /**
+     * 예매 화면 입장 토큰 발급 (입장 또는 접속 상태가 확인된 사용자에게만 호출)
+     */
+    @Override
+    public String issueAdmissionToken(String userId, String eventId) {
+        return admissionTokenProvider.issue(userId, eventId);
+    }
 }
@@ -0,0 +1,141 @@
+package com.example.ficketqueue.queue.service;
+
+import com.example.ficketqueue.queue.dto.response.MyQueueStatusResponse;
+import com.example.ficketqueue.queue.repository.QueueRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 대기열 순번 Push(SSE) 서비스
+ *
+ * - 클라이언트 polling 대신 서버가 주기적으로 순번을 전송
+ * - 이벤트별 틱마다 대기열 스냅샷을 한 번만 조회하여 구독자 전체에 분배
+ * - 구독자 수와 무관하게 Redis 부하는 이벤트 수 × 틱 주기에 비례
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class QueueStatusStreamService {
+
+    private static final String STATUS_EVENT_NAME = "queue-status";
+
+    private final QueueRepository queueRepository;
+
+    // eventId -> (userId -> emitter)
+    private final Map<String, Map<String, SseEmitter>> subscribers = new ConcurrentHashMap<>();
+
+    @Value("${queue.stream.timeout-ms:1800000}")
+    private long emitterTimeoutMs;
+
+    /**
+     * 대기열 순번 구독
+     * - 구독 즉시 현재 상태 1회 전송
+     */
+    public SseEmitter subscribe(String userId, String eventId) {
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMs);
+
+        // 등록과 빈 맵 제거를 같은 compute 안에서 처리해 제거된 맵에 등록되는 경합 방지
+        AtomicReference<SseEmitter> replaced = new AtomicReference<>();
+        subscribers.compute(eventId, (key, eventSubscribers) -> {
+            Map<String, SseEmitter> target = eventSubscribers != null ? eventSubscribers : new ConcurrentHashMap<>();
+            replaced.set(target.put(userId, emitter));
+            return target;
+        });
+        SseEmitter previous = replaced.get();
+        if (previous != null) {
+            previous.complete();
+        }
+
+        emitter.onCompletion(() -> unsubscribe(eventId, userId, emitter));
+        emitter.onTimeout(() -> unsubscribe(eventId, userId, emitter));
+        emitter.onError(e -> unsubscribe(eventId, userId, emitter));
+
+        MyQueueStatusResponse status = queueRepository.getQueueStatus(userId, eventId);
+        send(eventId, userId, emitter, status);
+
+        return emitter;
+    }
+
+    /**
+     * 이벤트별 순번 브로드캐스트
+     * - 이벤트당 구독자 ZRANK 파이프라인 1회 + (대기열에서 빠진 구독자에 한해) EXISTS 파이프라인 1회
+     * - 대기열 크기와 무관하게 구독자 수만큼만 조회
+     */
+    @Scheduled(fixedDelayString = "${queue.stream.tick-ms:1000}")
+    public void broadcast() {
+        subscribers.forEach((eventId, eventSubscribers) -> {
+            try {
+                broadcastEvent(eventId, eventSubscribers);
+            } catch (Exception e) {
+                log.error("[QUEUE STREAM] broadcast failed | eventId={}", eventId, e);
+            }
+        });
+    }
+
+    private void broadcastEvent(String eventId, Map<String, SseEmitter> eventSubscribers) {
+        // 조회 이후 새로 구독한 사용자는 다음 틱에 처리
+        List<String> userIds = List.copyOf(eventSubscribers.keySet());
+        QueueRepository.WaitingRanks waitingRanks = queueRepository.getWaitingRanks(eventId, userIds);
+        Map<String, Long> rankByUser = waitingRanks.ranks();
+        long totalWaiting = waitingRanks.totalWaiting();
+
+        // 대기열에 없는 구독자는 입장했거나 이탈한 사용자
+        List<String> leftUsers = new ArrayList<>();
+        for (String userId : userIds) {
+            if (!rankByUser.containsKey(userId)) {
+                leftUsers.add(userId);
+            }
+        }
+        Set<String> workingUsers = queueRepository.findWorkingUsers(eventId, leftUsers);
+
+        for (String userId : userIds) {
+            SseEmitter emitter = eventSubscribers.get(userId);
+            if (emitter == null) {
+                continue;
+            }
+
+            Long rank = rankByUser.get(userId);
+            if (rank != null) {
+                send(eventId, userId, emitter, MyQueueStatusResponse.of(rank, totalWaiting, false));
+                continue;
+            }
+
+            // 최종 상태 전송 후 스트림 종료
+            boolean working = workingUsers.contains(userId);
+            if (send(eventId, userId, emitter, MyQueueStatusResponse.of(-1L, totalWaiting, working))) {
+                emitter.complete();
+            }
+        }
+    }
+
+    private boolean send(String eventId, String userId, SseEmitter emitter, MyQueueStatusResponse status) {
+        try {
+            emitter.send(SseEmitter.event()
+                    .name(STATUS_EVENT_NAME)
+                    .data(status));
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            log.debug("[QUEUE STREAM] send failed | eventId={}, userId={}", eventId, userId);
+            unsubscribe(eventId, userId, emitter);
+            return false;
+        }
+    }
+
+    private void unsubscribe(String eventId, String userId, SseEmitter emitter) {
+        subscribers.computeIfPresent(eventId, (key, eventSubscribers) -> {
+            eventSubscribers.remove(userId, emitter);
+            return eventSubscribers.isEmpty() ? null : eventSubscribers;
+        });
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.ficketqueue.queue.service;
+
+import com.example.ficketqueue.queue.dto.response.MyQueueStatusResponse;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveQueueService {
+
+    Mono<Void> enterQueue(String userId, String eventId);
+
+    Mono<Void> leaveQueue(String userId, String eventId);
+
+    Mono<MyQueueStatusResponse> getQueueStatus(String userId, String eventId);
+
+    Mono<Boolean> enterTicketing(String userId, String eventId);
+
+    Mono<Void> leaveTicketing(String userId, String eventId);
+
+    Mono<Boolean> isInTicketing(String userId, String eventId);
+
+    String issueAdmissionToken(String userId, String eventId);
+}
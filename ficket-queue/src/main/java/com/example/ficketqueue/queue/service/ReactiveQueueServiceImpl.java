@@ -0,0 +1,81 @@
+package com.example.ficketqueue.queue.service;
+
+import com.example.ficketqueue.global.utils.AdmissionTokenProvider;
+import com.example.ficketqueue.queue.dto.response.MyQueueStatusResponse;
+import com.example.ficketqueue.queue.repository.ReactiveQueueRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+/**
+ * 리액티브 대기열 서비스 (spring.main.web-application-type=reactive 일 때만 등록)
+ * - QueueServiceImpl 과 같은 규칙을 논블로킹으로 처리
+ */
+@Service
+@RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveQueueServiceImpl implements ReactiveQueueService {
+
+    private final ReactiveQueueRepository reactiveQueueRepository;
+    private final AdmissionTokenProvider admissionTokenProvider;
+    private final QueuePollingPolicy queuePollingPolicy;
+
+    @Value("${queue.admission.scheduler.enabled:true}")
+    private boolean admissionSchedulerEnabled;
+
+    @Override
+    public Mono<Void> enterQueue(String userId, String eventId) {
+        return reactiveQueueRepository.enterQueue(userId, eventId).then();
+    }
+
+    @Override
+    public Mono<Void> leaveQueue(String userId, String eventId) {
+        return reactiveQueueRepository.leaveQueue(userId, eventId)
+                .defaultIfEmpty(0L)
+                .flatMap(result -> result == 0
+                        ? Mono.error(new IllegalStateException("대기열에서 나가기 실패"))
+                        : Mono.empty());
+    }
+
+    @Override
+    public Mono<MyQueueStatusResponse> getQueueStatus(String userId, String eventId) {
+        return reactiveQueueRepository.getQueueStatus(userId, eventId)
+                .map(status -> queuePollingPolicy.apply(eventId, status));
+    }
+
+    /**
+     * 예매 화면 진입
+     * - 입장 스케줄러 사용 시: 스케줄러가 발급한 작업 공간 존재 여부만 확인
+     * - 미사용 시: 맨 앞 사용자 1명 입장 스크립트 실행
+     */
+    @Override
+    public Mono<Boolean> enterTicketing(String userId, String eventId) {
+        if (admissionSchedulerEnabled) {
+            return reactiveQueueRepository.existsWorkingUser(userId, eventId);
+        }
+
+        return reactiveQueueRepository.enterTicketing(userId, eventId)
+                .map(enter -> enter == 1L)
+                .defaultIfEmpty(false);
+    }
+
+    @Override
+    public Mono<Void> leaveTicketing(String userId, String eventId) {
+        return reactiveQueueRepository.leaveTicketing(userId, eventId).then();
+    }
+
+    @Override
+    public Mono<Boolean> isInTicketing(String userId, String eventId) {
+        return reactiveQueueRepository.existsWorkingUser(userId, eventId);
+    }
+
+    /**
+     * 예매 화면 입장 토큰 발급 (서명만 하므로 블로킹 I/O 없음)
+     */
+    @Override
+    public String issueAdmissionToken(String userId, String eventId) {
+        return admissionTokenProvider.issue(userId, eventId);
+    }
+}
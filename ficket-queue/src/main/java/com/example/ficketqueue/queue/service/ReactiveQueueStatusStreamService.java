@@ -0,0 +1,110 @@
+package com.example.ficketqueue.queue.service;
+
+import com.example.ficketqueue.queue.dto.response.MyQueueStatusResponse;
+import com.example.ficketqueue.queue.repository.QueueRepository;
+import com.example.ficketqueue.queue.repository.ReactiveQueueRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 리액티브 대기열 순번 Push(SSE) 서비스
+ *
+ * - 이벤트별 틱마다 현재 구독자의 순번만 한 번에 조회하고 구독자 전체가 공유 (share)
+ * - 대기열 크기와 무관하게 구독자 수만큼만 ZRANK 조회
+ * - 구독자가 없으면 이벤트 순번 조회도 중단되고, 다시 구독하면 재개
+ * - 구독자마다 스레드/emitter 를 잡지 않으므로 연결 수는 이벤트 루프 스레드 수와 무관
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveQueueStatusStreamService {
+
+    private final ReactiveQueueRepository reactiveQueueRepository;
+
+    // eventId -> 구독자 / 공유 순번 스트림
+    private final Map<String, EventStream> streams = new ConcurrentHashMap<>();
+
+    @Value("${queue.stream.tick-ms:1000}")
+    private long tickMs;
+
+    @Value("${queue.stream.timeout-ms:1800000}")
+    private long streamTimeoutMs;
+
+    /**
+     * 대기열 순번 구독
+     * - 구독 즉시 현재 상태 1회 전송
+     * - 대기열에서 빠지면(입장 또는 이탈) 최종 상태 전송 후 스트림 종료
+     */
+    public Flux<MyQueueStatusResponse> subscribe(String userId, String eventId) {
+        return Flux.defer(() -> {
+            EventStream stream = register(eventId, userId);
+
+            Flux<MyQueueStatusResponse> updates = stream.ranks()
+                    .concatMap(waitingRanks -> {
+                        Long rank = waitingRanks.ranks().get(userId);
+                        if (rank != null) {
+                            return Mono.just(MyQueueStatusResponse.of(rank, waitingRanks.totalWaiting(), false));
+                        }
+
+                        // 대기열에 없는 구독자는 입장했거나 이탈한 사용자
+                        return reactiveQueueRepository.existsWorkingUser(userId, eventId)
+                                .map(working -> MyQueueStatusResponse.of(-1L, waitingRanks.totalWaiting(), working));
+                    });
+
+            return reactiveQueueRepository.getQueueStatus(userId, eventId)
+                    .concatWith(updates)
+                    .takeUntil(status -> status.getMyWaitingNumber() < 0)
+                    .take(Duration.ofMillis(streamTimeoutMs))
+                    .doFinally(signal -> unregister(eventId, userId));
+        });
+    }
+
+    // 등록 / 해제와 빈 스트림 제거를 같은 compute 안에서 처리해 경합 방지
+    private EventStream register(String eventId, String userId) {
+        return streams.compute(eventId, (id, stream) -> {
+            EventStream target = stream != null ? stream : newStream(id);
+            target.userIds().merge(userId, 1, Integer::sum);
+            return target;
+        });
+    }
+
+    private void unregister(String eventId, String userId) {
+        streams.computeIfPresent(eventId, (id, stream) -> {
+            stream.userIds().computeIfPresent(userId, (key, count) -> count > 1 ? count - 1 : null);
+            return stream.userIds().isEmpty() ? null : stream;
+        });
+    }
+
+    private EventStream newStream(String eventId) {
+        Map<String, Integer> userIds = new ConcurrentHashMap<>();
+        Flux<QueueRepository.WaitingRanks> ranks = Flux.interval(Duration.ofMillis(tickMs))
+                .onBackpressureDrop()
+                .concatMap(tick -> reactiveQueueRepository.getWaitingRanks(eventId, List.copyOf(userIds.keySet()))
+                        .onErrorResume(e -> {
+                            log.error("[QUEUE STREAM] rank lookup failed | eventId={}", eventId, e);
+                            return Mono.empty();
+                        }))
+                .share();
+        return new EventStream(userIds, ranks);
+    }
+
+    /**
+     * 이벤트 구독 상태
+     *
+     * @param userIds  userId -> 연결 수 (같은 사용자의 다중 탭 허용)
+     * @param ranks    틱마다 현재 구독자 순번을 조회하는 공유 스트림
+     */
+    private record EventStream(Map<String, Integer> userIds, Flux<QueueRepository.WaitingRanks> ranks) {
+    }
+}
@@ -1,6 +1,7 @@
 package com.example.ficketqueue.queue.service;
 
 import com.example.ficketqueue.global.utils.KeyHelper;
+import com.example.ficketqueue.global.utils.QueueKeyResolver;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
@@ -15,10 +16,13 @@ import org.springframework.transaction.annotation.Transactional;
 public class SlotService {
 
     private final RedisTemplate<String, Object> redis;
+    private final QueueKeyResolver queueKeyResolver;
 
 
     /**
      * 최대 작업 가능한 슬롯 수 설정.
+     * - 입장 스케줄러 대상 이벤트로 등록
+     * - 샤드 모드는 샤드별 할당량도 함께 기록 (샤드 입장 스크립트가 할당량 기준으로 슬롯 부여)
      *
      * @param eventId 이벤트 ID
      * @param maxSlot 최대 작업 가능한 슬롯 수
@@ -26,6 +30,13 @@ public class SlotService {
     public void setMaxSlot(String eventId, int maxSlot) {
         String maxSlotKey = KeyHelper.maxConcurrentKey(eventId);
         redis.opsForValue().set(maxSlotKey, maxSlot);
+        if (queueKeyResolver.isSharded()) {
+            for (int shard = 0; shard < queueKeyResolver.partitionCount(); shard++) {
+                redis.opsForValue().set(queueKeyResolver.maxConcurrentKey(eventId, shard),
+                        queueKeyResolver.shardQuota(maxSlot, shard));
+            }
+        }
+        redis.opsForSet().add(KeyHelper.activeEventsKey(), eventId);
     }
 
     /**
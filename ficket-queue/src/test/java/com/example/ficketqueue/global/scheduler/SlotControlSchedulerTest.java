@@ -0,0 +1,218 @@
+package com.example.ficketqueue.global.scheduler;
+
+import com.example.ficketqueue.global.prometheus.PrometheusQueryClient;
+import com.example.ficketqueue.global.utils.KeyHelper;
+import com.example.ficketqueue.queue.repository.QueueRepository;
+import com.example.ficketqueue.queue.service.SlotService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.Set;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 작업 슬롯 자동 조정 판단 테스트
+ *
+ * - 기본 설정: p99 500ms / 에러율 1% / 사용률 0.9 / +20 / ×0.7 / min 50 / max 5000
+ */
+@ExtendWith(MockitoExtension.class)
+class SlotControlSchedulerTest {
+
+    private static final String EVENT_ID = "1";
+    private static final String LATENCY_QUERY = "latency";
+    private static final String ERROR_RATE_QUERY = "errorRate";
+
+    @Mock
+    private QueueRepository queueRepository;
+
+    @Mock
+    private SlotService slotService;
+
+    @Mock
+    private PrometheusQueryClient prometheusQueryClient;
+
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, Object> valueOperations;
+
+    private SlotControlScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = new SlotControlScheduler(queueRepository, slotService, prometheusQueryClient, redisTemplate);
+        ReflectionTestUtils.setField(scheduler, "intervalMs", 10_000L);
+        ReflectionTestUtils.setField(scheduler, "latencyQuery", LATENCY_QUERY);
+        ReflectionTestUtils.setField(scheduler, "errorRateQuery", ERROR_RATE_QUERY);
+        ReflectionTestUtils.setField(scheduler, "latencyThresholdMs", 500.0);
+        ReflectionTestUtils.setField(scheduler, "errorRateThreshold", 0.01);
+        ReflectionTestUtils.setField(scheduler, "utilizationThreshold", 0.9);
+        ReflectionTestUtils.setField(scheduler, "increaseStep", 20);
+        ReflectionTestUtils.setField(scheduler, "decreaseFactor", 0.7);
+        ReflectionTestUtils.setField(scheduler, "minSlot", 50);
+        ReflectionTestUtils.setField(scheduler, "maxSlot", 5000);
+        ReflectionTestUtils.setField(scheduler, "decreaseCooldownMs", 60_000L);
+
+        lenient().when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        lenient().when(valueOperations.setIfAbsent(eq(KeyHelper.slotControllerLockKey()), any(), any(Duration.class)))
+                .thenReturn(true);
+        lenient().when(queueRepository.getActiveEventIds()).thenReturn(Set.of(EVENT_ID));
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 락을 가지고 있으면 지표를 조회하지 않는다")
+    void skipWithoutLock() {
+        when(valueOperations.setIfAbsent(eq(KeyHelper.slotControllerLockKey()), any(), any(Duration.class)))
+                .thenReturn(false);
+
+        scheduler.adjust();
+
+        verifyNoInteractions(prometheusQueryClient, slotService);
+    }
+
+    @Test
+    @DisplayName("지표를 모두 조회하지 못하면 현재 값을 유지한다")
+    void holdWhenSignalsUnavailable() {
+        signals(null, null);
+
+        scheduler.adjust();
+
+        verifyNoInteractions(slotService);
+    }
+
+    @Test
+    @DisplayName("지연이 임계값을 넘으면 비율로 감소시키고 cooldown 을 기록한다")
+    void decreaseOnHighLatency() {
+        signals(0.8, 0.0);
+        eventState(100, 100);
+
+        scheduler.adjust();
+
+        verify(slotService).setMaxSlot(EVENT_ID, 70);
+        verify(valueOperations).set(eq(KeyHelper.slotControllerCooldownKey(EVENT_ID)), any(), eq(Duration.ofMillis(60_000L)));
+    }
+
+    @Test
+    @DisplayName("에러율이 임계값을 넘으면 지연 지표가 없어도 감소시킨다")
+    void decreaseOnHighErrorRate() {
+        signals(null, 0.05);
+        eventState(100, 10);
+
+        scheduler.adjust();
+
+        verify(slotService).setMaxSlot(EVENT_ID, 70);
+    }
+
+    @Test
+    @DisplayName("감소 결과는 min-slot 아래로 내려가지 않는다")
+    void decreaseIsClampedToMinSlot() {
+        signals(0.8, 0.0);
+        eventState(60, 60);
+
+        scheduler.adjust();
+
+        verify(slotService).setMaxSlot(EVENT_ID, 50);
+    }
+
+    @Test
+    @DisplayName("이미 min-slot 아래인 값은 과부하여도 올리거나 줄이지 않는다")
+    void keepValueBelowMinSlotWhenOverloaded() {
+        signals(0.8, 0.0);
+        eventState(30, 30);
+
+        scheduler.adjust();
+
+        verify(slotService, never()).setMaxSlot(anyString(), anyInt());
+    }
+
+    @Test
+    @DisplayName("정상이고 슬롯이 거의 찼으면 고정 폭으로 증가시키고 cooldown 은 기록하지 않는다")
+    void increaseWhenHealthyAndSaturated() {
+        signals(0.1, 0.0);
+        eventState(100, 95);
+
+        scheduler.adjust();
+
+        verify(slotService).setMaxSlot(EVENT_ID, 120);
+        verify(valueOperations, never()).set(eq(KeyHelper.slotControllerCooldownKey(EVENT_ID)), any(), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("증가 결과는 max-slot 을 넘지 않는다")
+    void increaseIsClampedToMaxSlot() {
+        signals(0.1, 0.0);
+        eventState(4990, 4990);
+
+        scheduler.adjust();
+
+        verify(slotService).setMaxSlot(EVENT_ID, 5000);
+    }
+
+    @Test
+    @DisplayName("이미 max-slot 위인 값은 정상이어도 줄이지 않는다")
+    void keepValueAboveMaxSlotWhenHealthy() {
+        signals(0.1, 0.0);
+        eventState(6000, 6000);
+
+        scheduler.adjust();
+
+        verify(slotService, never()).setMaxSlot(anyString(), anyInt());
+    }
+
+    @Test
+    @DisplayName("정상이지만 슬롯이 남으면 유지한다")
+    void holdWhenUnderutilized() {
+        signals(0.1, 0.0);
+        eventState(100, 50);
+
+        scheduler.adjust();
+
+        verify(slotService, never()).setMaxSlot(anyString(), anyInt());
+    }
+
+    @Test
+    @DisplayName("감소 후 cooldown 동안은 조정하지 않는다")
+    void skipDuringCooldown() {
+        signals(0.8, 0.0);
+        when(slotService.getMaxSlot(EVENT_ID)).thenReturn(100);
+        when(redisTemplate.hasKey(KeyHelper.slotControllerCooldownKey(EVENT_ID))).thenReturn(true);
+
+        scheduler.adjust();
+
+        verify(slotService, never()).setMaxSlot(anyString(), anyInt());
+        verify(queueRepository, never()).countWorkingSlots(anyString());
+    }
+
+    @Test
+    @DisplayName("슬롯이 설정되지 않은 이벤트는 건너뛴다")
+    void skipEventWithoutMaxSlot() {
+        signals(0.8, 0.0);
+        when(slotService.getMaxSlot(EVENT_ID)).thenReturn(null);
+
+        scheduler.adjust();
+
+        verify(slotService, never()).setMaxSlot(anyString(), anyInt());
+    }
+
+    private void signals(Double latencySeconds, Double errorRate) {
+        when(prometheusQueryClient.queryScalar(LATENCY_QUERY)).thenReturn(latencySeconds);
+        when(prometheusQueryClient.queryScalar(ERROR_RATE_QUERY)).thenReturn(errorRate);
+    }
+
+    private void eventState(int maxSlot, long workingSlots) {
+        when(slotService.getMaxSlot(EVENT_ID)).thenReturn(maxSlot);
+        when(redisTemplate.hasKey(KeyHelper.slotControllerCooldownKey(EVENT_ID))).thenReturn(false);
+        when(queueRepository.countWorkingSlots(EVENT_ID)).thenReturn(workingSlots);
+    }
+}
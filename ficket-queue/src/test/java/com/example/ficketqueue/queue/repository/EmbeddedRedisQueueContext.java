@@ -0,0 +1,81 @@
+package com.example.ficketqueue.queue.repository;
+
+import com.example.ficketqueue.global.metrics.QueueScriptMetrics;
+import com.example.ficketqueue.global.redis.RedisConfig;
+import com.example.ficketqueue.global.redis.RedisLuaScripts;
+import com.example.ficketqueue.global.redis.RedisScriptConfig;
+import com.example.ficketqueue.global.utils.QueueKeyResolver;
+import com.example.ficketqueue.queue.service.SlotService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisTemplate;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.Map;
+
+/**
+ * 대기열 Repository 테스트용 컨텍스트
+ *
+ * - 로컬 Redis 서버를 빈 포트로 내장 실행하고, 벤치마크와 같은 Bean 구성으로 QueueRedisRepository 를 생성
+ */
+class EmbeddedRedisQueueContext implements AutoCloseable {
+
+    private final RedisServer redisServer;
+    private final AnnotationConfigApplicationContext context;
+
+    EmbeddedRedisQueueContext(int shardCount) throws IOException {
+        int port = freePort();
+        redisServer = new RedisServer(port);
+        redisServer.start();
+
+        context = new AnnotationConfigApplicationContext();
+        context.getEnvironment().getPropertySources().addFirst(new MapPropertySource("test", Map.of(
+                "spring.data.redis.host", "localhost",
+                "spring.data.redis.port", port,
+                "queue.shard.count", shardCount
+        )));
+        context.registerBean(SimpleMeterRegistry.class);
+        context.register(RedisConfig.class, RedisLuaScripts.class, RedisScriptConfig.class, QueueScriptMetrics.class,
+                QueueKeyResolver.class, QueueRedisRepository.class, SlotService.class);
+        context.refresh();
+    }
+
+    QueueRepository queueRepository() {
+        return context.getBean(QueueRepository.class);
+    }
+
+    SlotService slotService() {
+        return context.getBean(SlotService.class);
+    }
+
+    QueueKeyResolver queueKeyResolver() {
+        return context.getBean(QueueKeyResolver.class);
+    }
+
+    @SuppressWarnings("unchecked")
+    RedisTemplate<String, Object> redisTemplate() {
+        return context.getBean("redisTemplate", RedisTemplate.class);
+    }
+
+    void flushAll() {
+        try (RedisConnection connection = redisTemplate().getConnectionFactory().getConnection()) {
+            connection.serverCommands().flushAll();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        context.close();
+        redisServer.stop();
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
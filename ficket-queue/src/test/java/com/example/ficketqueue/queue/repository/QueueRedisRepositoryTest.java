@@ -0,0 +1,245 @@
+package com.example.ficketqueue.queue.repository;
+
+import com.example.ficketqueue.global.utils.KeyHelper;
+import com.example.ficketqueue.queue.dto.response.MyQueueStatusResponse;
+import com.example.ficketqueue.queue.service.SlotService;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 대기열 Lua 스크립트 테스트 (단일 모드)
+ */
+class QueueRedisRepositoryTest {
+
+    private static final String EVENT_ID = "1";
+
+    private static EmbeddedRedisQueueContext context;
+
+    private QueueRepository queueRepository;
+    private SlotService slotService;
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        context = new EmbeddedRedisQueueContext(1);
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+        context.close();
+    }
+
+    @BeforeEach
+    void setUp() {
+        context.flushAll();
+        queueRepository = context.queueRepository();
+        slotService = context.slotService();
+        redisTemplate = context.redisTemplate();
+    }
+
+    @Test
+    @DisplayName("대기열 진입은 순서대로 순번을 발급하고 중복 진입은 거부한다")
+    void enterQueueIssuesOrderedNumbersAndRejectsDuplicates() {
+        assertThat(queueRepository.enterQueue("user-1", EVENT_ID)).isEqualTo(1L);
+        assertThat(queueRepository.enterQueue("user-2", EVENT_ID)).isEqualTo(1L);
+        assertThat(queueRepository.enterQueue("user-1", EVENT_ID)).isEqualTo(0L);
+
+        MyQueueStatusResponse first = queueRepository.getQueueStatus("user-1", EVENT_ID);
+        MyQueueStatusResponse second = queueRepository.getQueueStatus("user-2", EVENT_ID);
+
+        assertThat(first.getMyWaitingNumber()).isEqualTo(0L);
+        assertThat(second.getMyWaitingNumber()).isEqualTo(1L);
+        assertThat(second.getTotalWaitingNumber()).isEqualTo(2L);
+        assertThat(second.getCanEnter()).isFalse();
+    }
+
+    @Test
+    @DisplayName("대기열에 없는 사용자의 상태는 순번 없음으로 조회된다")
+    void queueStatusOfUnknownUser() {
+        MyQueueStatusResponse status = queueRepository.getQueueStatus("user-1", EVENT_ID);
+
+        assertThat(status.getMyWaitingNumber()).isEqualTo(-1L);
+        assertThat(status.getTotalWaitingNumber()).isZero();
+        assertThat(status.getCanEnter()).isFalse();
+    }
+
+    @Test
+    @DisplayName("대기열 퇴장은 한 번만 성공한다")
+    void leaveQueueSucceedsOnce() {
+        queueRepository.enterQueue("user-1", EVENT_ID);
+
+        assertThat(queueRepository.leaveQueue("user-1", EVENT_ID)).isEqualTo(1L);
+        assertThat(queueRepository.leaveQueue("user-1", EVENT_ID)).isEqualTo(0L);
+    }
+
+    @Test
+    @DisplayName("슬롯이 설정되지 않으면 예매 화면에 입장할 수 없다")
+    void enterTicketingWithoutMaxSlot() {
+        queueRepository.enterQueue("user-1", EVENT_ID);
+
+        assertThat(queueRepository.enterTicketing("user-1", EVENT_ID)).isEqualTo(0L);
+        assertThat(queueRepository.existsWorkingUser("user-1", EVENT_ID)).isFalse();
+    }
+
+    @Test
+    @DisplayName("예매 화면은 맨 앞 사용자만 빈 슬롯이 있을 때 입장한다")
+    void enterTicketingOnlyFrontUserWithFreeSlot() {
+        slotService.setMaxSlot(EVENT_ID, 1);
+        queueRepository.enterQueue("user-1", EVENT_ID);
+        queueRepository.enterQueue("user-2", EVENT_ID);
+
+        // 맨 앞이 아니면 거절
+        assertThat(queueRepository.enterTicketing("user-2", EVENT_ID)).isEqualTo(0L);
+
+        assertThat(queueRepository.enterTicketing("user-1", EVENT_ID)).isEqualTo(1L);
+        assertThat(queueRepository.existsWorkingUser("user-1", EVENT_ID)).isTrue();
+        assertThat(queueRepository.getQueueStatus("user-1", EVENT_ID).getCanEnter()).isTrue();
+
+        // 이미 입장한 사용자는 다시 성공 (멱등)
+        assertThat(queueRepository.enterTicketing("user-1", EVENT_ID)).isEqualTo(1L);
+
+        // 맨 앞이 되었지만 슬롯이 가득 참
+        assertThat(queueRepository.enterTicketing("user-2", EVENT_ID)).isEqualTo(0L);
+        assertThat(queueRepository.countWorkingSlots(EVENT_ID)).isEqualTo(1L);
+        assertThat(currentNumber()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("예매 화면 퇴장은 슬롯을 반환하고 currentNumber 를 lease 수로 맞춘다")
+    void leaveTicketingReleasesSlot() {
+        slotService.setMaxSlot(EVENT_ID, 1);
+        queueRepository.enterQueue("user-1", EVENT_ID);
+        queueRepository.enterQueue("user-2", EVENT_ID);
+        queueRepository.enterTicketing("user-1", EVENT_ID);
+
+        assertThat(queueRepository.leaveTicketing("user-1", EVENT_ID)).isEqualTo(1L);
+        assertThat(queueRepository.leaveTicketing("user-1", EVENT_ID)).isEqualTo(0L);
+        assertThat(queueRepository.existsWorkingUser("user-1", EVENT_ID)).isFalse();
+        assertThat(currentNumber()).isZero();
+
+        assertThat(queueRepository.enterTicketing("user-2", EVENT_ID)).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("일괄 입장은 슬롯이 설정되지 않으면 -1을 반환한다")
+    void admitBatchWithoutMaxSlot() {
+        queueRepository.enterQueue("user-1", EVENT_ID);
+
+        assertThat(queueRepository.admitBatch(EVENT_ID, 10)).isEqualTo(-1L);
+        assertThat(queueRepository.getQueueStatus("user-1", EVENT_ID).getMyWaitingNumber()).isEqualTo(0L);
+    }
+
+    @Test
+    @DisplayName("일괄 입장은 빈 슬롯만큼 대기열 앞에서부터 입장시킨다")
+    void admitBatchFillsFreeSlotsInOrder() {
+        slotService.setMaxSlot(EVENT_ID, 2);
+        for (int i = 1; i <= 3; i++) {
+            queueRepository.enterQueue("user-" + i, EVENT_ID);
+        }
+
+        assertThat(queueRepository.admitBatch(EVENT_ID, 10)).isEqualTo(2L);
+
+        assertThat(queueRepository.existsWorkingUser("user-1", EVENT_ID)).isTrue();
+        assertThat(queueRepository.existsWorkingUser("user-2", EVENT_ID)).isTrue();
+        assertThat(queueRepository.existsWorkingUser("user-3", EVENT_ID)).isFalse();
+        assertThat(queueRepository.getQueueStatus("user-3", EVENT_ID).getMyWaitingNumber()).isEqualTo(0L);
+        assertThat(queueRepository.countWorkingSlots(EVENT_ID)).isEqualTo(2L);
+        assertThat(currentNumber()).isEqualTo(2L);
+
+        // 슬롯이 가득 차면 입장 없음
+        assertThat(queueRepository.admitBatch(EVENT_ID, 10)).isZero();
+    }
+
+    @Test
+    @DisplayName("일괄 입장은 요청한 최대 인원을 넘기지 않는다")
+    void admitBatchRespectsLimit() {
+        slotService.setMaxSlot(EVENT_ID, 10);
+        for (int i = 1; i <= 5; i++) {
+            queueRepository.enterQueue("user-" + i, EVENT_ID);
+        }
+
+        assertThat(queueRepository.admitBatch(EVENT_ID, 3)).isEqualTo(3L);
+        assertThat(queueRepository.getQueueStatus("user-4", EVENT_ID).getMyWaitingNumber()).isEqualTo(0L);
+    }
+
+    @Test
+    @DisplayName("만료된 lease 만 회수하고 작업 공간을 삭제한다")
+    void sweepExpiredLeasesOnly() {
+        long now = TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis());
+        addLease("expired-user", now - 10);
+        addLease("active-user", now + 600);
+        redisTemplate.opsForValue().set(KeyHelper.currentNumberKey(EVENT_ID), 2);
+
+        assertThat(queueRepository.sweepExpiredLeases(EVENT_ID, 100)).isEqualTo(1L);
+
+        assertThat(queueRepository.existsWorkingUser("expired-user", EVENT_ID)).isFalse();
+        assertThat(queueRepository.existsWorkingUser("active-user", EVENT_ID)).isTrue();
+        assertThat(queueRepository.countWorkingSlots(EVENT_ID)).isEqualTo(1L);
+        assertThat(currentNumber()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("lease 회수는 한 번에 limit 개까지만 처리한다")
+    void sweepExpiredLeasesRespectsLimit() {
+        long now = TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis());
+        for (int i = 0; i < 3; i++) {
+            addLease("expired-" + i, now - 10);
+        }
+
+        assertThat(queueRepository.sweepExpiredLeases(EVENT_ID, 2)).isEqualTo(2L);
+        assertThat(queueRepository.sweepExpiredLeases(EVENT_ID, 2)).isEqualTo(1L);
+        assertThat(queueRepository.countWorkingSlots(EVENT_ID)).isZero();
+    }
+
+    @Test
+    @DisplayName("누적 입장 인원은 개별 입장과 일괄 입장을 모두 센다")
+    void admittedTotalCountsEveryAdmission() {
+        slotService.setMaxSlot(EVENT_ID, 10);
+        for (int i = 1; i <= 4; i++) {
+            queueRepository.enterQueue("user-" + i, EVENT_ID);
+        }
+
+        queueRepository.enterTicketing("user-1", EVENT_ID);
+        queueRepository.enterTicketing("user-1", EVENT_ID); // 멱등 재진입은 세지 않음
+        queueRepository.admitBatch(EVENT_ID, 2);
+
+        Map<String, Long> totals = queueRepository.getAdmittedTotals(List.of(EVENT_ID, "2"));
+        assertThat(totals).containsEntry(EVENT_ID, 3L).containsEntry("2", 0L);
+    }
+
+    @Test
+    @DisplayName("대기열 현황은 대기 인원과 슬롯 사용량을 함께 조회한다")
+    void queueDepths() {
+        slotService.setMaxSlot(EVENT_ID, 1);
+        for (int i = 1; i <= 3; i++) {
+            queueRepository.enterQueue("user-" + i, EVENT_ID);
+        }
+        queueRepository.admitBatch(EVENT_ID, 10);
+
+        QueueRepository.QueueDepth depth = queueRepository.getQueueDepths(List.of(EVENT_ID)).get(EVENT_ID);
+
+        assertThat(depth).isEqualTo(new QueueRepository.QueueDepth(2L, 1L, 1L, 1L));
+        assertThat(queueRepository.getActiveEventIds()).containsExactly(EVENT_ID);
+    }
+
+    private void addLease(String userId, long expireAtSeconds) {
+        redisTemplate.opsForZSet().add(KeyHelper.leaseZSetKey(EVENT_ID), userId, expireAtSeconds);
+        redisTemplate.opsForValue().set(KeyHelper.workingUserKey(EVENT_ID, userId), 1);
+    }
+
+    private long currentNumber() {
+        Object value = redisTemplate.opsForValue().get(KeyHelper.currentNumberKey(EVENT_ID));
+        return value == null ? 0L : Long.parseLong(value.toString());
+    }
+}
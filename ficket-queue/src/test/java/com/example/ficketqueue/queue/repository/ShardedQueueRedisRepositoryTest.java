@@ -0,0 +1,108 @@
+package com.example.ficketqueue.queue.repository;
+
+import com.example.ficketqueue.global.utils.QueueKeyResolver;
+import com.example.ficketqueue.queue.service.SlotService;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 대기열 Lua 스크립트 테스트 (샤드 모드)
+ */
+class ShardedQueueRedisRepositoryTest {
+
+    private static final String EVENT_ID = "1";
+    private static final int SHARD_COUNT = 4;
+
+    private static EmbeddedRedisQueueContext context;
+
+    private QueueRepository queueRepository;
+    private SlotService slotService;
+    private QueueKeyResolver queueKeyResolver;
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        context = new EmbeddedRedisQueueContext(SHARD_COUNT);
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+        context.close();
+    }
+
+    @BeforeEach
+    void setUp() {
+        context.flushAll();
+        queueRepository = context.queueRepository();
+        slotService = context.slotService();
+        queueKeyResolver = context.queueKeyResolver();
+    }
+
+    @Test
+    @DisplayName("샤드별 할당량 합계를 넘겨 입장시키지 않는다")
+    void admitBatchNeverExceedsMaxSlot() {
+        slotService.setMaxSlot(EVENT_ID, 6);
+        enterUntilEveryShardHas(3);
+
+        assertThat(queueRepository.admitBatch(EVENT_ID, 100)).isEqualTo(6L);
+        assertThat(queueRepository.countWorkingSlots(EVENT_ID)).isEqualTo(6L);
+        assertThat(queueRepository.admitBatch(EVENT_ID, 100)).isZero();
+        assertThat(queueRepository.getAdmittedTotals(List.of(EVENT_ID))).containsEntry(EVENT_ID, 6L);
+    }
+
+    @Test
+    @DisplayName("샤드 모드의 예매 화면 입장은 입장 스케줄러가 부여한 작업 공간만 확인한다")
+    void enterTicketingChecksAdmittedUsersOnly() {
+        slotService.setMaxSlot(EVENT_ID, SHARD_COUNT);
+        List<String> users = enterUntilEveryShardHas(2);
+
+        // 스케줄러가 입장시키기 전에는 맨 앞이어도 입장 불가
+        assertThat(queueRepository.enterTicketing(users.get(0), EVENT_ID)).isZero();
+
+        queueRepository.admitBatch(EVENT_ID, 100);
+
+        long admitted = users.stream()
+                .filter(userId -> queueRepository.enterTicketing(userId, EVENT_ID) == 1L)
+                .count();
+        assertThat(admitted).isEqualTo(SHARD_COUNT);
+    }
+
+    @Test
+    @DisplayName("샤드 모드 순번은 샤드 내 순번 × 샤드 수로 근사한다")
+    void queueStatusIsScaledByShardCount() {
+        List<String> users = enterUntilEveryShardHas(2);
+        String secondInShard = users.stream()
+                .filter(userId -> queueRepository.getQueueStatus(userId, EVENT_ID).getMyWaitingNumber() > 0)
+                .findFirst()
+                .orElseThrow();
+
+        assertThat(queueRepository.getQueueStatus(secondInShard, EVENT_ID).getMyWaitingNumber())
+                .isEqualTo((long) SHARD_COUNT);
+    }
+
+    /**
+     * 모든 샤드에 최소 perShard 명이 대기하도록 사용자 진입
+     */
+    private List<String> enterUntilEveryShardHas(int perShard) {
+        int[] counts = new int[SHARD_COUNT];
+        List<String> users = new ArrayList<>();
+        for (int i = 0; users.size() < SHARD_COUNT * perShard; i++) {
+            String userId = "user-" + i;
+            int shard = queueKeyResolver.partitionOf(userId);
+            if (counts[shard] < perShard) {
+                counts[shard]++;
+                queueRepository.enterQueue(userId, EVENT_ID);
+                users.add(userId);
+            }
+        }
+        return users;
+    }
+}
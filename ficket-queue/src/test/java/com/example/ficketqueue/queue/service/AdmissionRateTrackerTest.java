@@ -0,0 +1,115 @@
+package com.example.ficketqueue.queue.service;
+
+import com.example.ficketqueue.queue.repository.QueueRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+/**
+ * 입장 속도 EWMA 추정 테스트
+ *
+ * - 시간 상수를 매우 작게 두어 마지막 샘플 구간의 속도가 그대로 반영되도록 함
+ */
+@ExtendWith(MockitoExtension.class)
+class AdmissionRateTrackerTest {
+
+    private static final String EVENT_ID = "1";
+    private static final long SAMPLE_INTERVAL_MS = 100;
+
+    @Mock
+    private QueueRepository queueRepository;
+
+    private AdmissionRateTracker admissionRateTracker;
+
+    @BeforeEach
+    void setUp() {
+        admissionRateTracker = new AdmissionRateTracker(queueRepository, 0.000_001);
+    }
+
+    @Test
+    @DisplayName("샘플이 두 번 쌓이기 전에는 입장 속도와 예상 대기 시간을 알 수 없다")
+    void unknownBeforeSecondSample() {
+        when(queueRepository.getActiveEventIds()).thenReturn(Set.of(EVENT_ID));
+        when(queueRepository.getAdmittedTotals(any())).thenReturn(Map.of(EVENT_ID, 100L));
+
+        admissionRateTracker.sample();
+
+        assertThat(admissionRateTracker.getAdmissionsPerSecond(EVENT_ID)).isZero();
+        assertThat(admissionRateTracker.estimateWaitSeconds(EVENT_ID, 10)).isNull();
+    }
+
+    @Test
+    @DisplayName("누적 입장 인원 증가분과 샘플 간격으로 초당 입장 인원을 추정한다")
+    void rateFromAdmittedTotals() throws InterruptedException {
+        when(queueRepository.getActiveEventIds()).thenReturn(Set.of(EVENT_ID));
+        when(queueRepository.getAdmittedTotals(any()))
+                .thenReturn(Map.of(EVENT_ID, 0L))
+                .thenReturn(Map.of(EVENT_ID, 100L));
+
+        admissionRateTracker.sample();
+        Thread.sleep(SAMPLE_INTERVAL_MS);
+        admissionRateTracker.sample();
+
+        // 간격이 최소 100ms 이므로 초당 1000명 이하
+        double rate = admissionRateTracker.getAdmissionsPerSecond(EVENT_ID);
+        assertThat(rate).isPositive().isLessThanOrEqualTo(100 * 1000.0 / SAMPLE_INTERVAL_MS);
+        assertThat(admissionRateTracker.estimateWaitSeconds(EVENT_ID, 500))
+                .isEqualTo((long) Math.ceil(500 / rate));
+    }
+
+    @Test
+    @DisplayName("누적 값이 줄어들면 입장 속도를 0 으로 본다")
+    void counterResetIsTreatedAsZero() throws InterruptedException {
+        when(queueRepository.getActiveEventIds()).thenReturn(Set.of(EVENT_ID));
+        when(queueRepository.getAdmittedTotals(any()))
+                .thenReturn(Map.of(EVENT_ID, 100L))
+                .thenReturn(Map.of(EVENT_ID, 0L));
+
+        admissionRateTracker.sample();
+        Thread.sleep(SAMPLE_INTERVAL_MS);
+        admissionRateTracker.sample();
+
+        assertThat(admissionRateTracker.getAdmissionsPerSecond(EVENT_ID)).isZero();
+    }
+
+    @Test
+    @DisplayName("비활성화된 이벤트의 샘플은 제거한다")
+    void dropInactiveEvents() throws InterruptedException {
+        when(queueRepository.getActiveEventIds())
+                .thenReturn(Set.of(EVENT_ID))
+                .thenReturn(Set.of(EVENT_ID))
+                .thenReturn(Set.of());
+        when(queueRepository.getAdmittedTotals(any()))
+                .thenReturn(Map.of(EVENT_ID, 0L))
+                .thenReturn(Map.of(EVENT_ID, 100L))
+                .thenReturn(Map.of());
+
+        admissionRateTracker.sample();
+        Thread.sleep(SAMPLE_INTERVAL_MS);
+        admissionRateTracker.sample();
+        assertThat(admissionRateTracker.getAdmissionsPerSecond(EVENT_ID)).isPositive();
+
+        admissionRateTracker.sample();
+        assertThat(admissionRateTracker.getAdmissionsPerSecond(EVENT_ID)).isZero();
+    }
+
+    @Test
+    @DisplayName("Redis 조회 실패는 스케줄러 밖으로 전파하지 않는다")
+    void swallowRepositoryFailure() {
+        when(queueRepository.getActiveEventIds()).thenThrow(new IllegalStateException("redis down"));
+
+        assertThatCode(admissionRateTracker::sample).doesNotThrowAnyException();
+        assertThat(admissionRateTracker.getAdmissionsPerSecond(EVENT_ID)).isZero();
+    }
+}
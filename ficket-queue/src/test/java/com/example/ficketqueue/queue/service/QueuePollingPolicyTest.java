@@ -0,0 +1,94 @@
+package com.example.ficketqueue.queue.service;
+
+import com.example.ficketqueue.queue.dto.response.MyQueueStatusResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * 예상 대기 시간 / 다음 조회 간격 계산 테스트
+ *
+ * - 기본 설정: 최소 1초 / 최대 30초 / 순번당 10ms, 지터 최대 10%
+ */
+@ExtendWith(MockitoExtension.class)
+class QueuePollingPolicyTest {
+
+    private static final String EVENT_ID = "1";
+
+    @Mock
+    private AdmissionRateTracker admissionRateTracker;
+
+    private QueuePollingPolicy queuePollingPolicy;
+
+    @BeforeEach
+    void setUp() {
+        queuePollingPolicy = new QueuePollingPolicy(admissionRateTracker);
+        ReflectionTestUtils.setField(queuePollingPolicy, "minPollIntervalMs", 1_000L);
+        ReflectionTestUtils.setField(queuePollingPolicy, "maxPollIntervalMs", 30_000L);
+        ReflectionTestUtils.setField(queuePollingPolicy, "pollIntervalPerPositionMs", 10L);
+    }
+
+    @Test
+    @DisplayName("대기열에 없는 사용자는 최소 간격으로 조회하고 예상 대기 시간이 없다")
+    void notWaiting() {
+        MyQueueStatusResponse status = queuePollingPolicy.apply(EVENT_ID, MyQueueStatusResponse.of(-1L, 10L, false));
+
+        assertThat(status.getEstimatedWaitSeconds()).isNull();
+        assertThat(status.getRetryAfterMs()).isEqualTo(1_000L);
+        verify(admissionRateTracker, never()).estimateWaitSeconds(anyString(), anyLong());
+    }
+
+    @Test
+    @DisplayName("순번이 없는 응답도 최소 간격으로 처리한다")
+    void missingWaitingNumber() {
+        MyQueueStatusResponse status = queuePollingPolicy.apply(EVENT_ID, MyQueueStatusResponse.of(null, 0L, true));
+
+        assertThat(status.getEstimatedWaitSeconds()).isNull();
+        assertThat(status.getRetryAfterMs()).isEqualTo(1_000L);
+    }
+
+    @Test
+    @DisplayName("입장 속도를 모르면 앞에 남은 인원에 비례한 간격을 사용한다")
+    void intervalByPositionWithoutRate() {
+        when(admissionRateTracker.estimateWaitSeconds(EVENT_ID, 500L)).thenReturn(null);
+
+        MyQueueStatusResponse status = queuePollingPolicy.apply(EVENT_ID, MyQueueStatusResponse.of(500L, 1_000L, false));
+
+        // 1000 + 500 × 10 = 6000, 지터 최대 10%
+        assertThat(status.getEstimatedWaitSeconds()).isNull();
+        assertThat(status.getRetryAfterMs()).isBetween(6_000L, 6_600L);
+    }
+
+    @Test
+    @DisplayName("예상 대기 시간을 알면 그 1/4 간격을 사용한다")
+    void intervalByEstimatedWait() {
+        when(admissionRateTracker.estimateWaitSeconds(EVENT_ID, 100L)).thenReturn(20L);
+
+        MyQueueStatusResponse status = queuePollingPolicy.apply(EVENT_ID, MyQueueStatusResponse.of(100L, 1_000L, false));
+
+        assertThat(status.getEstimatedWaitSeconds()).isEqualTo(20L);
+        assertThat(status.getRetryAfterMs()).isBetween(5_000L, 5_500L);
+    }
+
+    @Test
+    @DisplayName("조회 간격은 최소/최대 범위로 제한한다")
+    void intervalIsClamped() {
+        when(admissionRateTracker.estimateWaitSeconds(EVENT_ID, 100_000L)).thenReturn(3_600L);
+        when(admissionRateTracker.estimateWaitSeconds(EVENT_ID, 0L)).thenReturn(0L);
+
+        MyQueueStatusResponse far = queuePollingPolicy.apply(EVENT_ID, MyQueueStatusResponse.of(100_000L, 100_000L, false));
+        MyQueueStatusResponse front = queuePollingPolicy.apply(EVENT_ID, MyQueueStatusResponse.of(0L, 100_000L, false));
+
+        assertThat(far.getRetryAfterMs()).isEqualTo(30_000L);
+        assertThat(front.getRetryAfterMs()).isEqualTo(1_000L);
+    }
+}
@@ -11,6 +11,7 @@ import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 @FeignClient(name = "event-service", fallbackFactory = EventServiceFallbackFactory.class)
 public interface EventServiceClient {
@@ -40,6 +41,9 @@ public interface EventServiceClient {
     @GetMapping("/api/v1/events/customer-ticket-info")
     TicketSimpleInfo getTicketSimpleInfo(@RequestParam Long ticketId);
 
+    @PostMapping(value = "/api/v1/events/customer-ticket-infos", consumes = MediaType.APPLICATION_JSON_VALUE)
+    Map<Long, TicketSimpleInfo> getTicketSimpleInfos(@RequestBody List<Long> ticketIds);
+
     @GetMapping("/api/v1/events/company-id")
     List<Long> getCompanyEventId(@RequestParam Long ticketId);
 
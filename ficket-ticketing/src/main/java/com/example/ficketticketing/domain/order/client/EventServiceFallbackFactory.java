@@ -12,6 +12,7 @@ import org.springframework.stereotype.Component;
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 @Slf4j
 @Component
@@ -56,6 +57,12 @@ public class EventServiceFallbackFactory implements FallbackFactory<EventService
                 throw new UnsupportedOperationException("Fallback not implemented for checkRequest");
             }
 
+            @Override
+            public Map<Long, TicketSimpleInfo> getTicketSimpleInfos(List<Long> ticketIds) {
+                log.error("Fallback triggered for getTicketSimpleInfos due to: {}", cause.getMessage());
+                return Collections.emptyMap();
+            }
+
             @Override
             public List<Long> getCompanyEventId(Long ticketId) {
                 throw new UnsupportedOperationException("Fallback not implemented for checkRequest");
@@ -36,8 +36,9 @@ public class OrderController {
      * - 2025-12-16 오형상: 반환값 수정
      */
     @PostMapping
-    public ResponseEntity<CreateOrderResponse> createOrder(@RequestBody CreateOrderRequest createOrderRequest, @RequestHeader("X-User-Id") String userId) {
-        return ResponseEntity.ok(orderService.createOrder(createOrderRequest, Long.parseLong(userId)));
+    public ResponseEntity<CreateOrderResponse> createOrder(@RequestBody CreateOrderRequest createOrderRequest, @RequestHeader("X-User-Id") String userId,
+                                                           @RequestHeader(value = "X-Admission-Event-Id", required = false) String admissionEventId) {
+        return ResponseEntity.ok(orderService.createOrder(createOrderRequest, Long.parseLong(userId), admissionEventId));
     }
 
     /**
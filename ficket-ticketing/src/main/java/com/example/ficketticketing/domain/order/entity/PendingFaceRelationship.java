@@ -0,0 +1,59 @@
+package com.example.ficketticketing.domain.order.entity;
+
+import com.example.ficketticketing.domain.order.dto.request.UploadFaceInfo;
+import com.example.ficketticketing.global.common.BaseEntity;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+/**
+ * 아직 완료되지 않은 얼굴-티켓 관계 설정 (주문과 같은 트랜잭션에 저장, 설정 성공 시 삭제)
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PendingFaceRelationship extends BaseEntity implements Persistable<Long> {
+
+    @Id
+    private Long ticketId;
+
+    private Long faceId;
+
+    private String faceImgUrl;
+
+    private Long eventScheduleId;
+
+    private int attempts; // 재시도 스케줄러가 시도한 횟수
+
+    private LocalDateTime nextAttemptAt;
+
+    public static PendingFaceRelationship of(UploadFaceInfo uploadFaceInfo, LocalDateTime nextAttemptAt) {
+        PendingFaceRelationship pending = new PendingFaceRelationship();
+        pending.ticketId = uploadFaceInfo.getTicketId();
+        pending.faceId = uploadFaceInfo.getFaceId();
+        pending.faceImgUrl = uploadFaceInfo.getFaceImgUrl();
+        pending.eventScheduleId = uploadFaceInfo.getEventScheduleId();
+        pending.nextAttemptAt = nextAttemptAt;
+        return pending;
+    }
+
+    public UploadFaceInfo toUploadFaceInfo() {
+        return new UploadFaceInfo(faceId, faceImgUrl, ticketId, eventScheduleId);
+    }
+
+    @Override
+    public Long getId() {
+        return ticketId;
+    }
+
+    // 항상 신규 INSERT (merge 전 SELECT 방지)
+    @Override
+    public boolean isNew() {
+        return getCreatedAt() == null;
+    }
+}
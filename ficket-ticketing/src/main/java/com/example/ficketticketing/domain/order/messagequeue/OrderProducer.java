@@ -3,31 +3,43 @@ package com.example.ficketticketing.domain.order.messagequeue;
 import com.example.ficketticketing.domain.order.dto.kafka.OrderDto;
 import com.example.ficketticketing.global.result.error.ErrorCode;
 import com.example.ficketticketing.global.result.error.exception.BusinessException;
+import com.example.ficketoutbox.entity.OutboxEvent;
+import com.example.ficketoutbox.repository.OutboxEventRepository;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
 @Slf4j
 @Service
 @AllArgsConstructor
 public class OrderProducer {
-    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
 
+    /**
+     * 주문 이벤트를 아웃박스에 저장합니다. (주문 저장과 같은 트랜잭션, 실제 발행은 OutboxRelay)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
     public void send(String topic, OrderDto orderDto) {
-        ObjectMapper mapper = new ObjectMapper();
         String jsonInString = "";
         try {
-            jsonInString = mapper.writeValueAsString(orderDto);
+            jsonInString = objectMapper.writeValueAsString(orderDto);
         } catch (JsonProcessingException e) {
             log.error("메세지 전송 실패 : {}", jsonInString);
             throw new BusinessException(ErrorCode.Json_Processing_Exception);
         }
 
-        kafkaTemplate.send(topic, jsonInString);
+        // 같은 회차 주문이 같은 파티션으로 가도록 eventScheduleId 를 키로 사용
+        outboxEventRepository.save(OutboxEvent.builder()
+                .topic(topic)
+                .messageKey(String.valueOf(orderDto.getEventScheduleId()))
+                .payload(jsonInString)
+                .build());
 
-        log.info("Kafka Producer send data " + orderDto);
+        log.info("Kafka Producer outbox saved " + orderDto);
     }
-}
\ No newline at end of file
+}
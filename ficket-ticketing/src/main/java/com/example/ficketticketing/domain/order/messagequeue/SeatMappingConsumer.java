@@ -4,27 +4,50 @@ import com.example.ficketticketing.domain.order.dto.kafka.SeatMappingUpdatedEven
 import com.example.ficketticketing.domain.order.service.OrderService;
 import com.example.ficketticketing.global.result.error.ErrorCode;
 import com.example.ficketticketing.global.result.error.exception.BusinessException;
+import com.example.ficketoutbox.entity.ProcessedEvent;
+import com.example.ficketoutbox.messagequeue.OutboxRelay;
+import com.example.ficketoutbox.repository.ProcessedEventRepository;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.Header;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class SeatMappingConsumer {
 
     private final OrderService orderService;
+    private final ProcessedEventRepository processedEventRepository;
+    private final ObjectMapper objectMapper;
 
+    /**
+     * 좌석 매핑 결과 수신
+     * - 아웃박스 릴레이 재발행에 대비해 outbox-id 헤더로 이미 처리한 메시지는 건너뜀 (주문 취소와 같은 트랜잭션에 기록)
+     */
     @Transactional
     @KafkaListener(topics = "seat-mapping-events", groupId = "order-group")
-    public void consumeSeatMappingUpdatedEvent(String message) {
-        ObjectMapper mapper = new ObjectMapper();
+    public void consumeSeatMappingUpdatedEvent(ConsumerRecord<String, String> record) {
+        Header header = record.headers().lastHeader(OutboxRelay.OUTBOX_ID_HEADER);
+        if (header != null) {
+            String messageId = new String(header.value(), StandardCharsets.UTF_8);
+            if (processedEventRepository.existsById(messageId)) {
+                log.info("이미 처리한 SeatMappingUpdated event: {}", messageId);
+                return;
+            }
+            processedEventRepository.save(new ProcessedEvent(messageId));
+        }
+
+        String message = record.value();
         try {
-            SeatMappingUpdatedEvent event = mapper.readValue(message, SeatMappingUpdatedEvent.class);
+            SeatMappingUpdatedEvent event = objectMapper.readValue(message, SeatMappingUpdatedEvent.class);
             log.info("SeatMappingUpdated event received: {}", event);
 
             if (!event.isSuccess()) {
@@ -40,6 +40,9 @@ public interface OrderRepository extends JpaRepository<Orders, Long> {
 
     Optional<Orders> findByTicket(Ticket ticket);
 
+    @Query("SELECT o.userId FROM Orders o WHERE o.ticket.eventScheduleId IN :eventScheduleIds")
+    List<Long> findUserIdsByEventScheduleIds(@Param("eventScheduleIds") List<Long> eventScheduleIds);
+
     @Query("SELECT o.ticket.ticketId " +
             "FROM Orders o " +
             "WHERE o.userId = :userId " +
@@ -0,0 +1,33 @@
+package com.example.ficketticketing.domain.order.repository;
+
+import com.example.ficketticketing.domain.order.entity.PendingFaceRelationship;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface PendingFaceRelationshipRepository extends JpaRepository<PendingFaceRelationship, Long> {
+
+    @Query("SELECT p FROM PendingFaceRelationship p " +
+            "WHERE p.nextAttemptAt <= :now AND p.attempts < :maxAttempts ORDER BY p.nextAttemptAt")
+    List<PendingFaceRelationship> findRetryTargets(@Param("now") LocalDateTime now,
+                                                   @Param("maxAttempts") int maxAttempts,
+                                                   Pageable pageable);
+
+    /**
+     * 재시도 선점 (조회 이후 다른 인스턴스가 먼저 선점했다면 0 반환)
+     * - 선점과 동시에 다음 시도 시각을 미뤄 두므로 호출 실패 시 별도 갱신 없이 백오프 후 다시 대상이 됨
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE PendingFaceRelationship p SET p.attempts = p.attempts + 1, p.nextAttemptAt = :nextAttemptAt " +
+            "WHERE p.ticketId = :ticketId AND p.attempts = :attempts")
+    int claim(@Param("ticketId") Long ticketId,
+              @Param("attempts") int attempts,
+              @Param("nextAttemptAt") LocalDateTime nextAttemptAt);
+}
@@ -0,0 +1,136 @@
+package com.example.ficketticketing.domain.order.service;
+
+import com.example.ficketticketing.domain.order.client.FaceServiceClient;
+import com.example.ficketticketing.domain.order.dto.client.FaceApiResponse;
+import com.example.ficketticketing.domain.order.dto.request.UploadFaceInfo;
+import com.example.ficketticketing.domain.order.entity.PendingFaceRelationship;
+import com.example.ficketticketing.domain.order.repository.PendingFaceRelationshipRepository;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import static com.example.ficketticketing.global.utils.CircuitBreakerUtils.executeWithCircuitBreaker;
+
+/**
+ * 얼굴-티켓 관계 설정
+ * <p>
+ * 주문 응답 경로에서 분리하여 커밋 이후 비동기로 요청하되, 요청할 내용은 주문과 같은 트랜잭션에
+ * pending_face_relationship 으로 남겨 두고 성공 시 삭제합니다.
+ * 비동기 요청이 실패하거나 인스턴스가 내려가 남은 건은 FaceRelationshipRetryScheduler 가 지수 백오프로 재시도하며,
+ * 재시도 한도를 넘긴 건은 에러 로그를 남기고 테이블에 보관합니다. (결제 취소 시 삭제)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FaceRelationshipService {
+
+    private static final String CIRCUIT_BREAKER_NAME = "settingRelationshipCircuitBreaker";
+
+    private final FaceServiceClient faceServiceClient;
+    private final PendingFaceRelationshipRepository pendingFaceRelationshipRepository;
+    private final CircuitBreakerRegistry circuitBreakerRegistry;
+    @Qualifier("orderFanOutExecutor")
+    private final Executor orderFanOutExecutor;
+
+    @Value("${order.fan-out.timeout-ms:3000}")
+    private long fanOutTimeoutMillis;
+
+    // 커밋 직후 비동기 요청과 겹치지 않도록 첫 재시도는 이만큼 뒤에 시작
+    @Value("${order.face-relationship.retry.initial-delay-ms:60000}")
+    private long initialDelayMillis;
+
+    @Value("${order.face-relationship.retry.max-delay-ms:1800000}")
+    private long maxDelayMillis;
+
+    @Value("${order.face-relationship.retry.max-attempts:10}")
+    private int maxAttempts;
+
+    @Value("${order.face-relationship.retry.batch-size:100}")
+    private int batchSize;
+
+    /**
+     * 주문 트랜잭션에 관계 설정 요청을 기록하고, 커밋 이후 비동기로 요청합니다.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void settingRelationshipAfterCommit(UploadFaceInfo uploadFaceInfo) {
+        pendingFaceRelationshipRepository.save(PendingFaceRelationship.of(
+                uploadFaceInfo, LocalDateTime.now().plus(Duration.ofMillis(initialDelayMillis))));
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                CompletableFuture.supplyAsync(() -> settingRelationship(uploadFaceInfo), orderFanOutExecutor)
+                        .orTimeout(fanOutTimeoutMillis, TimeUnit.MILLISECONDS)
+                        .whenComplete((faceApiResponse, throwable) -> {
+                            if (throwable != null) {
+                                log.warn("얼굴 관계 설정 실패, 재시도 예정. TicketId: {}", uploadFaceInfo.getTicketId(), throwable);
+                                return;
+                            }
+                            pendingFaceRelationshipRepository.deleteAllByIdInBatch(List.of(uploadFaceInfo.getTicketId()));
+                            log.info(faceApiResponse.getMessage());
+                        });
+            }
+        });
+    }
+
+    /**
+     * 재시도 시각이 지난 관계 설정을 다시 요청합니다.
+     */
+    public void retryPending() {
+        List<PendingFaceRelationship> targets = pendingFaceRelationshipRepository.findRetryTargets(
+                LocalDateTime.now(), maxAttempts, PageRequest.of(0, batchSize));
+
+        for (PendingFaceRelationship pending : targets) {
+            int attempt = pending.getAttempts() + 1;
+            if (pendingFaceRelationshipRepository.claim(pending.getTicketId(), pending.getAttempts(), nextAttemptAt(attempt)) == 0) {
+                continue;
+            }
+
+            try {
+                settingRelationship(pending.toUploadFaceInfo());
+                pendingFaceRelationshipRepository.deleteAllByIdInBatch(List.of(pending.getTicketId()));
+                log.info("얼굴 관계 설정 재시도 성공. TicketId: {}, attempt: {}", pending.getTicketId(), attempt);
+            } catch (Exception e) {
+                if (attempt >= maxAttempts) {
+                    log.error("얼굴 관계 설정 재시도 한도 초과, 수동 확인 필요. TicketId: {}", pending.getTicketId(), e);
+                } else {
+                    log.warn("얼굴 관계 설정 재시도 실패. TicketId: {}, attempt: {}", pending.getTicketId(), attempt, e);
+                }
+            }
+        }
+    }
+
+    /**
+     * 결제 취소된 티켓의 남은 관계 설정 요청을 제거합니다.
+     */
+    public void cancel(Long ticketId) {
+        pendingFaceRelationshipRepository.deleteAllByIdInBatch(List.of(ticketId));
+    }
+
+    private FaceApiResponse settingRelationship(UploadFaceInfo uploadFaceInfo) {
+        return executeWithCircuitBreaker(circuitBreakerRegistry,
+                CIRCUIT_BREAKER_NAME,
+                () -> faceServiceClient.settingRelationship(uploadFaceInfo));
+    }
+
+    // initialDelay * 2^(attempt-1), 최대 maxDelay
+    private LocalDateTime nextAttemptAt(int attempt) {
+        long delayMillis = initialDelayMillis << Math.min(attempt - 1, 20);
+        return LocalDateTime.now().plus(Duration.ofMillis(Math.min(delayMillis, maxDelayMillis)));
+    }
+}
@@ -24,6 +24,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
@@ -38,7 +39,12 @@ import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.stream.Collectors;
 
 import static com.example.ficketticketing.global.utils.CircuitBreakerUtils.executeWithCircuitBreaker;
@@ -52,6 +58,13 @@ public class OrderService {
     @Value("${portone.webhook.secret}")
     private String WEBHOOK_SECRET;
 
+    @Value("${order.fan-out.timeout-ms:3000}")
+    private long fanOutTimeoutMillis;
+
+    // 주문 경로에 AdmissionTokenFilter 가 연결되기 전까지는 끔 (헤더가 없거나 클라이언트가 보낸 값일 수 있음)
+    @Value("${admission.event-check.enabled:false}")
+    private boolean admissionEventCheckEnabled;
+
     private static final long WEBHOOK_TOLERANCE_IN_SECONDS = 5 * 60L;
     private final Map<String, SecretKeySpec> secretKeyCache = new ConcurrentHashMap<>();
 
@@ -62,11 +75,14 @@ public class OrderService {
     private final UserServiceClient userServiceClient;
     private final EventServiceClient eventServiceClient;
     private final FaceServiceClient faceServiceClient;
+    private final FaceRelationshipService faceRelationshipService;
     private final CircuitBreakerRegistry circuitBreakerRegistry;
     private final OrderProducer orderProducer;
     private final TicketMapper ticketMapper;
     private final OrderMapper orderMapper;
     private final AdminServiceClient adminServiceClient;
+    @Qualifier("orderFanOutExecutor")
+    private final Executor orderFanOutExecutor;
 
     public void processWebhook(String webhookId, String webhookSignature, String webhookTimestamp, String payload) {
         // 1. 타임스탬프 검증
@@ -191,6 +207,7 @@ public class OrderService {
                 Long ticketIdByPaymentId = orderRepository.findTicketIdByPaymentId(paymentId);
                 orderRepository.cancelByPaymentId(paymentId);
                 ticketRepository.deleteByTicketId(ticketIdByPaymentId);
+                faceRelationshipService.cancel(ticketIdByPaymentId);
                 executeWithCircuitBreaker(
                         circuitBreakerRegistry,
                         "deleteFaceCircuitBreaker",
@@ -203,14 +220,37 @@ public class OrderService {
         }
     }
 
-    public CreateOrderResponse createOrder(CreateOrderRequest createOrderRequest, Long userId) {
-        // 유저 조회
-        UserSimpleDto userDto = executeWithCircuitBreaker(circuitBreakerRegistry,
-                "getUserCircuitBreaker",
-                () -> userServiceClient.getUser(userId)
-        );
-
-        ValidSeatInfoResponse validSeatInfoResponse = checkRequestValid(createOrderRequest);
+    /**
+     * @param admissionEventId 게이트웨이가 입장 토큰에서 꺼낸 공연 ID
+     *                         (admission.event-check.enabled 가 켜진 경우에만 주문 회차의 공연과 비교, 없으면 거부)
+     */
+    public CreateOrderResponse createOrder(CreateOrderRequest createOrderRequest, Long userId, String admissionEventId) {
+        // 서로 독립적인 유저 조회, 좌석 검증, 선점 좌석 조회를 동시에 요청
+        CompletableFuture<UserSimpleDto> userFuture = CompletableFuture.supplyAsync(
+                () -> executeWithCircuitBreaker(circuitBreakerRegistry,
+                        "getUserCircuitBreaker",
+                        () -> userServiceClient.getUser(userId)),
+                orderFanOutExecutor).orTimeout(fanOutTimeoutMillis, TimeUnit.MILLISECONDS);
+
+        CompletableFuture<ValidSeatInfoResponse> validSeatInfoFuture = CompletableFuture.supplyAsync(
+                () -> checkRequestValid(createOrderRequest), orderFanOutExecutor)
+                .orTimeout(fanOutTimeoutMillis, TimeUnit.MILLISECONDS);
+
+        CompletableFuture<ReservedSeatsResponse> reservedSeatsFuture = CompletableFuture.supplyAsync(
+                () -> executeWithCircuitBreaker(circuitBreakerRegistry,
+                        "getReservedSeatsCircuitBreaker",
+                        () -> eventServiceClient.getReservedSeats(userId, createOrderRequest.getEventScheduleId())),
+                orderFanOutExecutor).orTimeout(fanOutTimeoutMillis, TimeUnit.MILLISECONDS);
+
+        // 기존 순차 호출과 같은 우선순위로 예외를 전파
+        UserSimpleDto userDto = await(userFuture);
+        ValidSeatInfoResponse validSeatInfoResponse = await(validSeatInfoFuture);
+
+        if (admissionEventCheckEnabled && !String.valueOf(validSeatInfoResponse.getEventId()).equals(admissionEventId)) {
+            log.warn("입장 공연 불일치. 입장 공연: {}, 주문 회차: {}, 주문 공연: {}",
+                    admissionEventId, createOrderRequest.getEventScheduleId(), validSeatInfoResponse.getEventId());
+            throw new BusinessException(ErrorCode.ADMISSION_EVENT_MISMATCH);
+        }
 
         Set<Long> seatMappingIds = createOrderRequest.getSelectSeatInfoList().stream().map(SelectSeatInfo::getSeatMappingId)
                 .collect(Collectors.toSet());
@@ -219,25 +259,39 @@ public class OrderService {
             throw new BusinessException(ErrorCode.INPUT_VALUE_INVALID);
         }
 
-        checkSeatReservation(userDto.getUserId(), createOrderRequest.getEventScheduleId(), seatMappingIds);
+        checkSeatReservation(await(reservedSeatsFuture), seatMappingIds);
 
         Orders createdOrder = Orders.createOrder(createOrderRequest, userDto.getUserId());
 
         orderRepository.save(createdOrder);
 
-        FaceApiResponse faceApiResponse = executeWithCircuitBreaker(
-                circuitBreakerRegistry,
-                "settingRelationshipCircuitBreaker",
-                () -> faceServiceClient.settingRelationship(ticketMapper.toUploadFaceInfo(createOrderRequest, createdOrder.getTicket().getTicketId()))
-        );
-
-        log.info(faceApiResponse.getMessage());
+        // 얼굴-티켓 관계 설정은 커밋 이후 비동기로 요청 (실패 시 FaceRelationshipRetryScheduler 가 재시도)
+        faceRelationshipService.settingRelationshipAfterCommit(
+                ticketMapper.toUploadFaceInfo(createOrderRequest, createdOrder.getTicket().getTicketId()));
 
         orderProducer.send("order-events", new OrderDto(createOrderRequest.getEventScheduleId(), createdOrder.getOrderId(), seatMappingIds, createdOrder.getTicket().getTicketId()));
 
         return new CreateOrderResponse(createdOrder.getOrderId(), createdOrder.getOrderStatus());
     }
 
+    /**
+     * 병렬 요청 결과를 기다립니다.
+     * 응답 시간 초과 시 결제 진행을 막고 DOWNSTREAM_TIMEOUT 으로 빠르게 실패합니다. (검증 단계라 대체 응답 없음)
+     */
+    private static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof TimeoutException) {
+                throw new BusinessException(ErrorCode.DOWNSTREAM_TIMEOUT);
+            }
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
     @Transactional(readOnly = true)
     public OrderStatusResponse getOrderStatus(Long orderId) {
         return orderRepository.findOrderStatusByOrderId(orderId)
@@ -245,11 +299,7 @@ public class OrderService {
     }
 
 
-    private void checkSeatReservation(Long userId, Long eventScheduleId, Set<Long> seatMappingIds) {
-        ReservedSeatsResponse reservedSeatsResponse = executeWithCircuitBreaker(circuitBreakerRegistry,
-                "getReservedSeatsCircuitBreaker",
-                () -> eventServiceClient.getReservedSeats(userId, eventScheduleId));
-
+    private void checkSeatReservation(ReservedSeatsResponse reservedSeatsResponse, Set<Long> seatMappingIds) {
         if (!reservedSeatsResponse.getReservedSeats().equals(seatMappingIds)) {
             throw new BusinessException(ErrorCode.NOT_MATCH_RESERVED_SEATS);
         }
@@ -543,15 +593,9 @@ public class OrderService {
     }
 
     public int[] getTicketUserStatistic(List<Long> scheduleIdList) {
-        List<Long> userIds = new ArrayList<>();
-        for (Long id : scheduleIdList) {
-            ticketRepository.findAllByEventScheduleId(id)
-                    .forEach(ticket -> {
-                        Orders order = orderRepository.findByTicket(ticket)
-                                .orElseThrow(() -> new BusinessException(ErrorCode.NOT_FOUND_ORDER));
-                        userIds.add(order.getUserId());
-                    });
-        }
+        List<Long> userIds = scheduleIdList.isEmpty()
+                ? List.of()
+                : orderRepository.findUserIdsByEventScheduleIds(scheduleIdList);
         List<UserSimpleDto> users = userServiceClient.getUsers(userIds);
         int male = 0;
         int female = 0;
@@ -639,12 +683,27 @@ public class OrderService {
 
         List<OrderInfoDto> res = new ArrayList<>();
         List<Orders> customerOrders = orderRepository.findAllByUserId(userId);
+        if (customerOrders.isEmpty()) {
+            return res;
+        }
+
+        // 주문 티켓 정보를 한 번에 조회
+        List<Long> ticketIds = customerOrders.stream()
+                .map(order -> order.getTicket().getTicketId())
+                .toList();
+        Map<Long, TicketSimpleInfo> ticketInfos = executeWithCircuitBreaker(
+                circuitBreakerRegistry,
+                "getTicketSimpleInfo",
+                () -> eventServiceClient.getTicketSimpleInfos(ticketIds));
 
         for (Orders order : customerOrders) {
-            TicketSimpleInfo ticketInfo = executeWithCircuitBreaker(
-                    circuitBreakerRegistry,
-                    "getTicketSimpleInfo",
-                    () -> eventServiceClient.getTicketSimpleInfo(order.getOrderId()));
+            TicketSimpleInfo ticketInfo = ticketInfos.get(order.getTicket().getTicketId());
+            // 이벤트 서비스에서 조회되지 않은 티켓(폴백 포함)은 빈 항목으로 보여주지 않고 제외
+            if (ticketInfo == null) {
+                log.warn("티켓 정보 조회 실패로 주문 내역에서 제외. OrderId: {}, TicketId: {}",
+                        order.getOrderId(), order.getTicket().getTicketId());
+                continue;
+            }
 
             res.add(OrderInfoDto.builder()
                     .orderId(order.getOrderId())
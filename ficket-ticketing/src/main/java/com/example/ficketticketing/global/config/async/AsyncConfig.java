@@ -0,0 +1,118 @@
+package com.example.ficketticketing.global.config.async;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.core.task.support.CompositeTaskDecorator;
+import org.springframework.core.task.support.ContextPropagatingTaskDecorator;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Configuration
+public class AsyncConfig {
+
+    private static final String ORDER_FAN_OUT = "order.fan-out";
+
+    /**
+     * 주문 생성 시 서로 독립적인 외부 서비스 호출(유저 조회, 좌석 검증, 선점 좌석 조회)과
+     * 커밋 이후 얼굴 관계 설정을 실행하는 Executor.
+     * <p>
+     * 플랫폼 스레드 모드에서는 큐가 가득 차면 호출 스레드에서 직접 실행하여 요청 스레드가 배압을 받도록 하고,
+     * 가상 스레드 모드(spring.threads.virtual.enabled)에서는 작업마다 가상 스레드를 만들되 동시 실행 수를 제한합니다.
+     * 트레이싱 컨텍스트는 ContextPropagatingTaskDecorator 로, 요청 컨텍스트(RequestContextHolder)는
+     * requestContextTaskDecorator 로 작업 스레드에 전파되며,
+     * 대기/실행 시간과 실행 중 작업 수(플랫폼 모드는 큐 적재 수 포함)를 order.fan-out 메트릭으로 노출합니다.
+     */
+    @Bean
+    public Executor orderFanOutExecutor(MeterRegistry meterRegistry,
+                                        @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreadsEnabled,
+                                        @Value("${order.fan-out.core-pool-size:16}") int corePoolSize,
+                                        @Value("${order.fan-out.max-pool-size:64}") int maxPoolSize,
+                                        @Value("${order.fan-out.queue-capacity:256}") int queueCapacity) {
+        TaskDecorator taskDecorator = new CompositeTaskDecorator(List.of(
+                new ContextPropagatingTaskDecorator(),
+                requestContextTaskDecorator(),
+                timingTaskDecorator(meterRegistry)
+        ));
+
+        if (virtualThreadsEnabled) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("order-fan-out-");
+            executor.setVirtualThreads(true);
+            executor.setConcurrencyLimit(maxPoolSize + queueCapacity);
+            executor.setTaskDecorator(taskDecorator);
+            return executor;
+        }
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(corePoolSize);
+        executor.setMaxPoolSize(maxPoolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("order-fan-out-");
+        executor.setTaskDecorator(taskDecorator);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.initialize();
+
+        // executor.queued / executor.active / executor.pool.size 등 (name=order.fan-out)
+        new ExecutorServiceMetrics(executor.getThreadPoolExecutor(), ORDER_FAN_OUT, Tags.empty()).bindTo(meterRegistry);
+        return executor;
+    }
+
+    /**
+     * 제출한 스레드의 요청 컨텍스트를 작업 스레드에 설정합니다. (순차 호출일 때와 같이 Feign 호출에서 요청 헤더 접근 가능)
+     * <p>
+     * 현재 Feign 클라이언트는 RequestInterceptor 없이 사용자 ID 등을 파라미터로 직접 전달하므로 전파할 인증 헤더는 없습니다.
+     * 커밋 이후 작업은 요청이 끝난 뒤 실행될 수 있으므로 요청 값은 제출 전에 복사해 두어야 합니다.
+     * CallerRunsPolicy 로 요청 스레드에서 직접 실행되는 경우를 위해 실행 후 기존 컨텍스트로 되돌립니다.
+     */
+    private TaskDecorator requestContextTaskDecorator() {
+        return runnable -> {
+            RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+            return () -> {
+                RequestAttributes previous = RequestContextHolder.getRequestAttributes();
+                RequestContextHolder.setRequestAttributes(requestAttributes);
+                try {
+                    runnable.run();
+                } finally {
+                    RequestContextHolder.setRequestAttributes(previous);
+                }
+            };
+        };
+    }
+
+    private TaskDecorator timingTaskDecorator(MeterRegistry meterRegistry) {
+        Timer waitTimer = Timer.builder(ORDER_FAN_OUT + ".wait")
+                .description("작업 제출부터 실행 시작까지의 대기 시간")
+                .register(meterRegistry);
+        Timer executionTimer = Timer.builder(ORDER_FAN_OUT + ".execution")
+                .description("작업 실행 시간")
+                .register(meterRegistry);
+        AtomicInteger inFlight = meterRegistry.gauge(ORDER_FAN_OUT + ".in-flight", new AtomicInteger());
+
+        return runnable -> {
+            long submittedAt = System.nanoTime();
+            inFlight.incrementAndGet();
+            return () -> {
+                waitTimer.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+                try {
+                    executionTimer.record(runnable);
+                } finally {
+                    inFlight.decrementAndGet();
+                }
+            };
+        };
+    }
+}
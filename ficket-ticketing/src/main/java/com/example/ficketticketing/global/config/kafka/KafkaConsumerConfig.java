@@ -5,6 +5,7 @@ import org.apache.kafka.common.serialization.StringDeserializer;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.kafka.annotation.EnableKafka;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.core.ConsumerFactory;
@@ -20,6 +21,9 @@ public class KafkaConsumerConfig {
     @Value("${spring.kafka.bootstrap_servers}")
     private String BOOTSTRAP_SERVERS;
 
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreadsEnabled;
+
     @Bean
     public ConsumerFactory<String, String> consumerFactory() {
         Map<String, Object> properties = new HashMap<>();
@@ -45,7 +49,18 @@ public class KafkaConsumerConfig {
         kafkaListenerContainerFactory.setConsumerFactory(consumerFactory());
 
         // Kafka 메시지를 병렬로 처리하기 위한 설정을 추가할 수 있음(스레드 풀 크기, 에러 핸들링..)
+        configureListenerTaskExecutor(kafkaListenerContainerFactory);
 
         return kafkaListenerContainerFactory;
     }
+
+    // 직접 정의한 컨테이너 팩토리는 Boot 자동 설정을 거치지 않으므로 가상 스레드 모드를 직접 반영
+    private void configureListenerTaskExecutor(ConcurrentKafkaListenerContainerFactory<?, ?> kafkaListenerContainerFactory) {
+        if (!virtualThreadsEnabled) {
+            return;
+        }
+        SimpleAsyncTaskExecutor listenerTaskExecutor = new SimpleAsyncTaskExecutor("kafka-listener-");
+        listenerTaskExecutor.setVirtualThreads(true);
+        kafkaListenerContainerFactory.getContainerProperties().setListenerTaskExecutor(listenerTaskExecutor);
+    }
 }
\ No newline at end of file
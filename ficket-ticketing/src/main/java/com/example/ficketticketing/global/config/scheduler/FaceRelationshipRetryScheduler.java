@@ -0,0 +1,27 @@
+package com.example.ficketticketing.global.config.scheduler;
+
+import com.example.ficketticketing.domain.order.service.FaceRelationshipService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FaceRelationshipRetryScheduler {
+
+    private final FaceRelationshipService faceRelationshipService;
+
+    /**
+     * 커밋 이후 요청이 실패한 얼굴-티켓 관계 설정을 재시도
+     */
+    @Scheduled(fixedDelayString = "${order.face-relationship.retry.interval-ms:30000}")
+    public void retryPendingFaceRelationships() {
+        try {
+            faceRelationshipService.retryPending();
+        } catch (Exception e) {
+            log.error("얼굴 관계 설정 재시도 중 오류 발생", e);
+        }
+    }
+}
@@ -30,6 +30,7 @@ public enum ErrorCode {
     FEIGN_CLIENT_ERROR(500, "Feign Client error"),
     FEIGN_SERVER_ERROR(500, "Feign Server error"),
     FEIGN_CLIENT_REQUEST_ERROR(400, "Feign Client request error"),
+    DOWNSTREAM_TIMEOUT(504, "외부 서비스 응답 시간이 초과되었습니다. 잠시후 다시 시도해주세요"),
 
     // PortOne 관련 에러
     EXTERNAL_API_ERROR(500, "외부 API 오류입니다."),
@@ -56,6 +57,7 @@ public enum ErrorCode {
     NO_MATCHING_REFUND_POLICY(409, "일치하는 환불 정책이 없습니다."),
     REFUND_FAILED(409, "티켓 환불 처리 중 오류가 발생했습니다."),
     PURCHASE_LIMIT_MET(400, "구매 제한을 충족했습니다."),
+    ADMISSION_EVENT_MISMATCH(403, "입장한 공연과 요청한 공연이 일치하지 않습니다."),
 
     //TICKET
     NOT_FOUND_TICKET(404, "해당 티켓을 조회할 수 없습니다"),
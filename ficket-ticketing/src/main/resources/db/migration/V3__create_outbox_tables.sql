@@ -0,0 +1,22 @@
+-- OutboxEvent 테이블 생성 (트랜잭셔널 아웃박스)
+CREATE TABLE IF NOT EXISTS outbox_event
+(
+    id               BIGINT AUTO_INCREMENT PRIMARY KEY,
+    topic            VARCHAR(255) NOT NULL,
+    message_key      VARCHAR(255) NULL,
+    payload          TEXT         NOT NULL,
+
+    created_at       DATETIME(6)  NOT NULL DEFAULT CURRENT_TIMESTAMP(6),
+    last_modified_at DATETIME(6)  NOT NULL DEFAULT CURRENT_TIMESTAMP(6) ON UPDATE CURRENT_TIMESTAMP(6),
+    deleted_at       DATETIME(6)  NULL
+);
+
+-- ProcessedEvent 테이블 생성 (수신 메시지 중복 처리 방지)
+CREATE TABLE IF NOT EXISTS processed_event
+(
+    message_id       VARCHAR(255) PRIMARY KEY,
+
+    created_at       DATETIME(6)  NOT NULL DEFAULT CURRENT_TIMESTAMP(6),
+    last_modified_at DATETIME(6)  NOT NULL DEFAULT CURRENT_TIMESTAMP(6) ON UPDATE CURRENT_TIMESTAMP(6),
+    deleted_at       DATETIME(6)  NULL
+);
@@ -0,0 +1,12 @@
+-- 아웃박스 릴레이 lease (lease 를 보유한 인스턴스 하나만 발행하여 발행 순서 유지)
+CREATE TABLE IF NOT EXISTS outbox_relay_lease
+(
+    name        VARCHAR(64) PRIMARY KEY,
+    owner       VARCHAR(64) NULL,
+    lease_until DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6)
+);
+
+INSERT IGNORE INTO outbox_relay_lease (name) VALUES ('outbox-relay');
+
+-- processed_event 보관 기간 정리용 인덱스
+CREATE INDEX idx_processed_event_created_at ON processed_event (created_at);
@@ -0,0 +1,15 @@
+-- PendingFaceRelationship 테이블 생성 (얼굴-티켓 관계 설정 재시도)
+CREATE TABLE IF NOT EXISTS pending_face_relationship
+(
+    ticket_id         BIGINT PRIMARY KEY,
+    face_id           BIGINT        NULL,
+    face_img_url      VARCHAR(1024) NULL,
+    event_schedule_id BIGINT        NULL,
+    attempts          INT           NOT NULL DEFAULT 0,
+    next_attempt_at   DATETIME(6)   NOT NULL,
+
+    created_at        DATETIME(6)   NOT NULL DEFAULT CURRENT_TIMESTAMP(6),
+    last_modified_at  DATETIME(6)   NOT NULL DEFAULT CURRENT_TIMESTAMP(6) ON UPDATE CURRENT_TIMESTAMP(6),
+    deleted_at        DATETIME(6)   NULL,
+    INDEX idx_pending_face_relationship_next_attempt_at (next_attempt_at)
+);
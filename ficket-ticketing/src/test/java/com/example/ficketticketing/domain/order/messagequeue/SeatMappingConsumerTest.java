@@ -0,0 +1,100 @@
+package com.example.ficketticketing.domain.order.messagequeue;
+
+import com.example.ficketticketing.domain.order.dto.kafka.SeatMappingUpdatedEvent;
+import com.example.ficketticketing.domain.order.service.OrderService;
+import com.example.ficketoutbox.entity.ProcessedEvent;
+import com.example.ficketoutbox.messagequeue.OutboxRelay;
+import com.example.ficketoutbox.repository.ProcessedEventRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+/**
+ * 좌석 매핑 결과 수신 / processed_event 중복 제거 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class SeatMappingConsumerTest {
+
+    private static final String TOPIC = "seat-mapping-events";
+
+    @Mock
+    private OrderService orderService;
+
+    @Mock
+    private ProcessedEventRepository processedEventRepository;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private SeatMappingConsumer seatMappingConsumer;
+
+    @BeforeEach
+    void setUp() {
+        seatMappingConsumer = new SeatMappingConsumer(orderService, processedEventRepository, objectMapper);
+    }
+
+    @Test
+    @DisplayName("좌석 매핑 실패 메시지를 처음 받으면 처리 기록을 남기고 주문을 취소한다")
+    void cancelOrderOnFailure() throws Exception {
+        when(processedEventRepository.existsById("seat-mapping-events:1")).thenReturn(false);
+
+        seatMappingConsumer.consumeSeatMappingUpdatedEvent(record("seat-mapping-events:1", 100L, false));
+
+        ArgumentCaptor<ProcessedEvent> processed = ArgumentCaptor.forClass(ProcessedEvent.class);
+        verify(processedEventRepository).save(processed.capture());
+        assertThat(processed.getValue().getMessageId()).isEqualTo("seat-mapping-events:1");
+        verify(orderService).cancelOrder(100L);
+    }
+
+    @Test
+    @DisplayName("이미 처리한 outbox-id 메시지는 다시 취소하지 않는다")
+    void skipProcessedMessage() throws Exception {
+        when(processedEventRepository.existsById("seat-mapping-events:1")).thenReturn(true);
+
+        seatMappingConsumer.consumeSeatMappingUpdatedEvent(record("seat-mapping-events:1", 100L, false));
+
+        verify(processedEventRepository, never()).save(any());
+        verify(orderService, never()).cancelOrder(anyLong());
+    }
+
+    @Test
+    @DisplayName("좌석 매핑 성공 메시지는 주문을 취소하지 않는다")
+    void keepOrderOnSuccess() throws Exception {
+        when(processedEventRepository.existsById("seat-mapping-events:1")).thenReturn(false);
+
+        seatMappingConsumer.consumeSeatMappingUpdatedEvent(record("seat-mapping-events:1", 100L, true));
+
+        verify(processedEventRepository).save(any());
+        verify(orderService, never()).cancelOrder(anyLong());
+    }
+
+    @Test
+    @DisplayName("outbox-id 헤더가 없는 메시지는 중복 확인 없이 처리한다")
+    void handleMessageWithoutHeader() throws Exception {
+        seatMappingConsumer.consumeSeatMappingUpdatedEvent(record(null, 100L, false));
+
+        verifyNoInteractions(processedEventRepository);
+        verify(orderService).cancelOrder(100L);
+    }
+
+    private ConsumerRecord<String, String> record(String messageId, Long orderId, boolean success) throws Exception {
+        String payload = objectMapper.writeValueAsString(new SeatMappingUpdatedEvent(orderId, success));
+        ConsumerRecord<String, String> record = new ConsumerRecord<>(TOPIC, 0, 0L, String.valueOf(orderId), payload);
+        if (messageId != null) {
+            record.headers().add(OutboxRelay.OUTBOX_ID_HEADER, messageId.getBytes(StandardCharsets.UTF_8));
+        }
+        return record;
+    }
+}
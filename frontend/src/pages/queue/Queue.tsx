@@ -8,12 +8,16 @@ import {
   leaveQueue,
   enterTicketing,
   getQueueStatus,
+  openQueueStatusStream,
+  QUEUE_STATUS_EVENT,
 } from "../../service/queue/api.ts";
 
 type Params = {
   eventId: string;
 };
 
+const DEFAULT_POLL_INTERVAL_MS = 5000;
+
 const Queue = () => {
   const { eventId } = useParams<Params>();
   const navigate = useNavigate();
@@ -48,42 +52,87 @@ const Queue = () => {
     }
   };
 
-  // 5초 주기 polling
+  // 서버가 Push 하는 SSE 스트림으로 순번을 받고, 스트림을 쓸 수 없으면 retryAfterMs 주기 polling 으로 전환
   useEffect(() => {
-    initQueue();
+    let timer: ReturnType<typeof setTimeout>;
+    let source: EventSource | null = null;
+    let stopped = false;
+    let retryAfterMs = DEFAULT_POLL_INTERVAL_MS;
+
+    const goTicketing = () =>
+      navigate(
+        choiceDate ? "/ticketing/select-seat" : "/ticketing/select-date",
+      );
+
+    // 상태 반영 후 입장 가능하면 입장 토큰을 발급받아 이동 (이동했으면 true)
+    const handleStatus = async (
+      status: MyQueueStatusResponse,
+    ): Promise<boolean> => {
+      // 스트림 종료 직전 상태(myWaitingNumber -1)는 화면에 표시하지 않음
+      if (status.myWaitingNumber >= 0) {
+        setMessage(status);
+        setInitialWaitingNumber((prev) => prev ?? status.myWaitingNumber);
+      }
 
-    const interval = setInterval(async () => {
+      // myWaitingNumber 0이면 티켓팅 시도, canEnter true면 입장 토큰 발급 후 이동
+      if (
+        (status.myWaitingNumber === 0 || status.canEnter) &&
+        (await enterTicketing(eventId))
+      ) {
+        goTicketing();
+        return true;
+      }
+      return false;
+    };
+
+    const poll = async () => {
       try {
         const status = await getQueueStatus(eventId);
-        setMessage(status);
-
-        if (
-          initialWaitingNumber === null &&
-          status.myWaitingNumber !== undefined
-        ) {
-          setInitialWaitingNumber(status.myWaitingNumber);
+        retryAfterMs = status.retryAfterMs || DEFAULT_POLL_INTERVAL_MS;
+        if (await handleStatus(status)) {
+          return;
         }
+      } catch (error) {
+        console.error("대기열 상태 조회 실패:", error);
+      }
 
-        // myWaitingNumber 0이면 티켓팅 시도
-        if (status.myWaitingNumber === 0) {
-          const entered = await enterTicketing(eventId);
-          if (entered) {
-            navigate(
-              choiceDate ? "/ticketing/select-seat" : "/ticketing/select-date",
-            );
-          }
-        }
+      if (!stopped) {
+        timer = setTimeout(poll, retryAfterMs);
+      }
+    };
+
+    const fallbackToPolling = () => {
+      source?.close();
+      source = null;
+      if (!stopped) {
+        timer = setTimeout(poll, DEFAULT_POLL_INTERVAL_MS);
+      }
+    };
 
-        // canEnter true면 바로 이동
-        if (status.canEnter) {
-          navigate(
-            choiceDate ? "/ticketing/select-seat" : "/ticketing/select-date",
-          );
+    // 스트림 연결 실패 / 종료 시(입장 또는 이탈 후 서버가 닫음) 자동 재연결 대신 polling 으로 전환
+    const subscribe = () => {
+      source = openQueueStatusStream(eventId);
+      source.addEventListener(QUEUE_STATUS_EVENT, async (event) => {
+        const status: MyQueueStatusResponse = JSON.parse(
+          (event as MessageEvent).data,
+        );
+        if (await handleStatus(status)) {
+          stopped = true;
+          source?.close();
         }
-      } catch (error) {
-        console.error("대기열 상태 조회 실패:", error);
+      });
+      source.onerror = () => {
+        console.warn("대기열 상태 스트림 종료, polling 으로 전환");
+        fallbackToPolling();
+      };
+    };
+
+    // 대기열 진입 전에 구독하면 순번이 없어 스트림이 바로 종료되므로 진입 후 구독
+    initQueue().then(() => {
+      if (!stopped) {
+        subscribe();
       }
-    }, 5000);
+    });
 
     setTimeout(() => setIsLoading(false), 1000);
 
@@ -95,11 +144,13 @@ const Queue = () => {
     window.addEventListener("beforeunload", handleBeforeUnload);
 
     return () => {
-      clearInterval(interval);
+      stopped = true;
+      source?.close();
+      clearTimeout(timer);
       cleanupQueue();
       window.removeEventListener("beforeunload", handleBeforeUnload);
     };
-  }, [eventId, navigate, choiceDate, initialWaitingNumber]);
+  }, [eventId, navigate, choiceDate]);
 
   const calculateProgress = (): number => {
     if (initialWaitingNumber === null || message.myWaitingNumber === undefined)
@@ -158,6 +209,15 @@ const Queue = () => {
                   {message.totalWaitingNumber?.toLocaleString() ?? "-"}명
                 </span>
               </div>
+
+              <div className="flex justify-between mt-1 text-sm text-gray-500">
+                <span>예상 대기시간</span>
+                <span className="font-bold">
+                  {message.estimatedWaitSeconds != null
+                    ? `약 ${Math.ceil(message.estimatedWaitSeconds / 60).toLocaleString()}분`
+                    : "-"}
+                </span>
+              </div>
             </div>
 
             <p className="mt-4 text-xs text-gray-500 leading-relaxed">
@@ -1,4 +1,5 @@
 import { privateApi } from "../../utils/http-common.ts";
+import { admissionTokenHeader } from "../queue/api.ts";
 import { AxiosResponse } from "axios";
 import {
   CreateOrderRequest,
@@ -18,6 +19,7 @@ export const createOrder = async (
       {
         headers: {
           "Content-Type": "application/json",
+          ...admissionTokenHeader(),
         },
       },
     );
@@ -1,5 +1,22 @@
 import { privateApi } from "../../utils/http-common.ts";
 import { MyQueueStatusResponse } from "../../types/queue.ts";
+import { AxiosResponse } from "axios";
+
+// 예매 화면 입장 토큰 (좌석 선점/주문 생성 요청에만 X-Admission-Token 헤더로 전송)
+export const ADMISSION_TOKEN_KEY = "ADMISSION_TOKEN";
+
+// 입장 토큰 헤더 (게이트웨이 AdmissionTokenFilter 가 적용된 좌석 선점/주문 생성 요청에만 사용)
+export const admissionTokenHeader = (): Record<string, string> => {
+  const token = sessionStorage.getItem(ADMISSION_TOKEN_KEY);
+  return token ? { "X-Admission-Token": token } : {};
+};
+
+const saveAdmissionToken = (response: AxiosResponse) => {
+  const token = response.headers["x-admission-token"];
+  if (token) {
+    sessionStorage.setItem(ADMISSION_TOKEN_KEY, token);
+  }
+};
 
 // 대기열 진입 API
 export const enterQueue = async (eventId: string): Promise<void> => {
@@ -25,6 +42,7 @@ export const enterTicketing = async (eventId: string): Promise<boolean> => {
     const response = await privateApi.post(
       `/queues/${eventId}/enter-ticketing`,
     );
+    saveAdmissionToken(response);
     return response.data;
   } catch (error) {
     console.error(`티켓팅 진입 실패 ${eventId}:`, error);
@@ -33,6 +51,8 @@ export const enterTicketing = async (eventId: string): Promise<boolean> => {
 };
 
 export const leaveTicketing = async (eventId: string): Promise<void> => {
+  // 퇴장 요청 성공 여부와 관계없이 입장 토큰은 더 이상 보내지 않음 (서버 무효화 없이 TTL 만료에 맡김)
+  sessionStorage.removeItem(ADMISSION_TOKEN_KEY);
   try {
     await privateApi.post(`/queues/${eventId}/leave-ticketing`);
     console.log(`티켓팅 나가기 성공: ${eventId}`);
@@ -54,11 +74,23 @@ export const getQueueStatus = async (
   }
 };
 
+// 대기열 상태 구독 (SSE)
+// EventSource 는 헤더를 보낼 수 없으므로 access token 을 Authorization 쿼리 파라미터로 전달 (게이트웨이 QueryTokenExtractionFilter)
+export const QUEUE_STATUS_EVENT = "queue-status";
+
+export const openQueueStatusStream = (eventId: string): EventSource => {
+  const stored = localStorage.getItem("USER_STORE");
+  const accessToken = stored ? JSON.parse(stored).state.accessToken : "";
+  const url = `${import.meta.env.VITE_BASE_URL}/queues/${eventId}/my-status/stream?Authorization=${encodeURIComponent(accessToken)}`;
+  return new EventSource(url, { withCredentials: true });
+};
+
 export const checkTicketingStatus = async (
   eventId: string,
 ): Promise<boolean> => {
   try {
     const response = await privateApi.get<boolean>(`/queues/${eventId}/check`);
+    saveAdmissionToken(response);
     return response.data;
   } catch (error) {
     console.error(`예매 화면 접속 상태 확인 실패 ${eventId}:`, error);
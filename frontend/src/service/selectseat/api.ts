@@ -5,6 +5,7 @@ import {
   SeatStatusResponse,
 } from "../../types/selectseat";
 import { privateApi } from "../../utils/http-common";
+import { admissionTokenHeader } from "../queue/api";
 
 // 등급별 남은 좌석 수 조회
 export const fetchSeatCntGrade = async (
@@ -49,6 +50,7 @@ export const lockSeats = async (payload: {
     await privateApi.post(`/events/seat/lock`, payload, {
       headers: {
         "Content-Type": "application/json",
+        ...admissionTokenHeader(),
       },
     });
   } catch (error) {
@@ -2,4 +2,6 @@ export interface MyQueueStatusResponse {
   myWaitingNumber: number;
   totalWaitingNumber: number;
   canEnter: boolean;
+  estimatedWaitSeconds: number | null;
+  retryAfterMs: number;
 }
@@ -0,0 +1,85 @@
+package com.example.gateway.filter;
+
+import com.example.gateway.utils.AdmissionTokenUtil;
+import io.jsonwebtoken.Claims;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import static com.example.gateway.utils.JwtConstants.*;
+
+/**
+ * 예매 화면 입장 토큰(`X-Admission-Token`)을 검증하는 필터.
+ * <p>
+ * 좌석 선점/주문처럼 대기열을 통과한 사용자만 호출할 수 있는 경로에 적용하며,
+ * `X-User-Id` 헤더를 사용하므로 UserTokenExtractionFilter 뒤에 등록해야 합니다.
+ * 검증에 성공하면 토큰의 eventId 를 `X-Admission-Event-Id` 헤더로 전달하며,
+ * 요청 대상 이벤트와의 일치 여부는 이 헤더로 좌석 선점/주문 서비스가 확인합니다.
+ * 검증은 서명/만료만 로컬에서 수행하며(요청마다 네트워크 호출 없음), 퇴장 후에도 토큰은 만료 시각(짧은 TTL)까지 유효합니다.
+ */
+@Slf4j
+@Component
+public class AdmissionTokenFilter extends AbstractGatewayFilterFactory<AdmissionTokenFilter.Config> {
+
+    private final AdmissionTokenUtil admissionTokenUtil;
+
+    public AdmissionTokenFilter(AdmissionTokenUtil admissionTokenUtil) {
+        super(Config.class);
+        this.admissionTokenUtil = admissionTokenUtil;
+    }
+
+    public static class Config {
+        public Config() {
+        }
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        return (exchange, chain) -> {
+            ServerHttpRequest request = exchange.getRequest();
+
+            String token = request.getHeaders().getFirst(ADMISSION_TOKEN_HEADER);
+            if (token == null || token.isBlank()) {
+                return onError(exchange, "입장 토큰이 없습니다.");
+            }
+
+            Claims claims = admissionTokenUtil.parse(token);
+            if (claims == null) {
+                return onError(exchange, "입장 토큰이 유효하지 않습니다.");
+            }
+
+            String userId = request.getHeaders().getFirst(USER_ID_HEADER);
+            if (userId == null || !userId.equals(claims.get("userId", String.class))) {
+                return onError(exchange, "입장 토큰의 userId 가 요청 사용자와 다릅니다.");
+            }
+
+            // 클라이언트가 보낸 값은 제거하고 토큰의 eventId 로 덮어쓰기
+            ServerHttpRequest modifiedRequest = request.mutate()
+                    .headers(headers -> headers.remove(ADMISSION_EVENT_ID_HEADER))
+                    .header(ADMISSION_EVENT_ID_HEADER, claims.get("eventId", String.class))
+                    .build();
+
+            return chain.filter(exchange.mutate().request(modifiedRequest).build());
+        };
+    }
+
+    /**
+     * 에러 응답 처리 메서드
+     *
+     * @param exchange     ServerWebExchange 객체
+     * @param errorMessage 에러 메시지
+     * @return Mono<Void> 완료 신호
+     */
+    private Mono<Void> onError(ServerWebExchange exchange, String errorMessage) {
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(HttpStatus.FORBIDDEN);
+        log.warn("입장 토큰 필터 오류: {}", errorMessage);
+        return response.setComplete();
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.gateway.utils;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.MalformedJwtException;
+import io.jsonwebtoken.UnsupportedJwtException;
+import io.jsonwebtoken.security.Keys;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 대기열 서비스가 발급한 예매 화면 입장 토큰을 검증하는 유틸 클래스.
+ * 서명과 만료 시각만 로컬에서 확인하므로 요청마다 Redis 나 대기열 서비스를 호출하지 않습니다.
+ */
+@Slf4j
+@Component
+public class AdmissionTokenUtil {
+
+    private final JwtParser parser;
+
+    /**
+     * 입장 토큰 비밀 키로 파서를 생성합니다. (대기열 서비스와 같은 키 사용)
+     *
+     * @param secretKey 환경 변수에서 불러온 입장 토큰 비밀 키
+     */
+    public AdmissionTokenUtil(@Value("${admission.token.secret}") String secretKey) {
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8)))
+                .build();
+    }
+
+    /**
+     * 입장 토큰을 검증하고 클레임을 반환합니다.
+     *
+     * @param token 입장 토큰
+     * @return 유효하면 클레임, 그렇지 않으면 null
+     */
+    public Claims parse(String token) {
+        try {
+            return parser.parseClaimsJws(token).getBody();
+        } catch (io.jsonwebtoken.security.SecurityException | MalformedJwtException e) {
+            log.warn("유효하지 않은 입장 토큰입니다.");
+        } catch (ExpiredJwtException e) {
+            log.warn("만료된 입장 토큰입니다.");
+        } catch (UnsupportedJwtException e) {
+            log.warn("지원되지 않는 입장 토큰입니다.");
+        } catch (IllegalArgumentException e) {
+            log.warn("입장 토큰 클레임이 비어 있습니다.");
+        }
+        return null;
+    }
+}
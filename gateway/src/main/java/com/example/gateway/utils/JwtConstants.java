@@ -8,6 +8,8 @@ public class JwtConstants {
     public static final String USER_ID_HEADER = "X-User-Id";
     public static final String ADMIN_ID_HEADER = "X-Admin-Id";
     public static final String TOKEN_QUERY_PARAM = "Authorization";
+    public static final String ADMISSION_TOKEN_HEADER = "X-Admission-Token";
+    public static final String ADMISSION_EVENT_ID_HEADER = "X-Admission-Event-Id";
 
     private JwtConstants() {
         throw new IllegalStateException("Utility class");
@@ -0,0 +1,133 @@
+package com.example.gateway.filter;
+
+import com.example.gateway.utils.AdmissionTokenUtil;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.example.gateway.utils.JwtConstants.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 입장 토큰 필터 통과 / 거부 경로 테스트
+ */
+class AdmissionTokenFilterTest {
+
+    private static final String SECRET = "admission-token-test-secret-key-0123456789";
+    private static final String USER_ID = "1";
+    private static final String EVENT_ID = "10";
+
+    private GatewayFilter filter;
+    private final AtomicReference<ServerWebExchange> forwarded = new AtomicReference<>();
+    private final GatewayFilterChain chain = exchange -> {
+        forwarded.set(exchange);
+        return Mono.empty();
+    };
+
+    @BeforeEach
+    void setUp() {
+        filter = new AdmissionTokenFilter(new AdmissionTokenUtil(SECRET)).apply(new AdmissionTokenFilter.Config());
+    }
+
+    @Test
+    @DisplayName("유효한 토큰은 통과시키고 클라이언트가 보낸 이벤트 ID 를 토큰 값으로 덮어쓴다")
+    void acceptValidToken() {
+        MockServerWebExchange exchange = exchange(token(SECRET, USER_ID, EVENT_ID, now(), 60_000L), USER_ID, "999");
+
+        filterAndVerify(exchange);
+
+        assertThat(forwarded.get()).isNotNull();
+        assertThat(forwarded.get().getRequest().getHeaders().get(ADMISSION_EVENT_ID_HEADER)).containsExactly(EVENT_ID);
+    }
+
+    @Test
+    @DisplayName("토큰이 없으면 거부한다")
+    void rejectMissingToken() {
+        MockServerWebExchange exchange = exchange(null, USER_ID, null);
+
+        filterAndVerify(exchange);
+
+        assertRejected(exchange);
+    }
+
+    @Test
+    @DisplayName("다른 키로 서명된 토큰은 거부한다")
+    void rejectForgedToken() {
+        String forged = token("another-admission-token-secret-key-9876543210", USER_ID, EVENT_ID, now(), 60_000L);
+
+        MockServerWebExchange exchange = exchange(forged, USER_ID, null);
+        filterAndVerify(exchange);
+
+        assertRejected(exchange);
+    }
+
+    @Test
+    @DisplayName("만료된 토큰은 거부한다")
+    void rejectExpiredToken() {
+        MockServerWebExchange exchange = exchange(token(SECRET, USER_ID, EVENT_ID, now() - 120_000L, 60_000L), USER_ID, null);
+
+        filterAndVerify(exchange);
+
+        assertRejected(exchange);
+    }
+
+    @Test
+    @DisplayName("토큰의 userId 가 요청 사용자와 다르면 거부한다")
+    void rejectOtherUsersToken() {
+        MockServerWebExchange exchange = exchange(token(SECRET, "2", EVENT_ID, now(), 60_000L), USER_ID, null);
+
+        filterAndVerify(exchange);
+
+        assertRejected(exchange);
+    }
+
+    private void filterAndVerify(MockServerWebExchange exchange) {
+        StepVerifier.create(filter.filter(exchange, chain)).verifyComplete();
+    }
+
+    private void assertRejected(MockServerWebExchange exchange) {
+        assertThat(exchange.getResponse().getStatusCode()).isEqualTo(HttpStatus.FORBIDDEN);
+        assertThat(forwarded.get()).isNull();
+    }
+
+    private static MockServerWebExchange exchange(String token, String userId, String admissionEventId) {
+        MockServerHttpRequest.BaseBuilder<?> request = MockServerHttpRequest.post("/api/v1/events/seat/lock")
+                .header(USER_ID_HEADER, userId);
+        if (token != null) {
+            request.header(ADMISSION_TOKEN_HEADER, token);
+        }
+        if (admissionEventId != null) {
+            request.header(ADMISSION_EVENT_ID_HEADER, admissionEventId);
+        }
+        return MockServerWebExchange.from(request);
+    }
+
+    private static long now() {
+        return System.currentTimeMillis();
+    }
+
+    private static String token(String secret, String userId, String eventId, long issuedAtMillis, long ttlMillis) {
+        return Jwts.builder()
+                .claim("userId", userId)
+                .claim("eventId", eventId)
+                .setIssuedAt(new Date(issuedAtMillis))
+                .setExpiration(new Date(issuedAtMillis + ttlMillis))
+                .signWith(Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8)), SignatureAlgorithm.HS256)
+                .compact();
+    }
+}